@@ -0,0 +1,99 @@
+plugins {
+    id("java")
+}
+
+repositories {
+    mavenCentral()
+    mavenLocal()
+}
+
+group = "com.honeybee"
+version = "1.0.0-SNAPSHOT"
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+    targetCompatibility = JavaVersion.VERSION_21
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+    options.compilerArgs.add("-parameters")
+}
+
+val jmhVersion = "1.37"
+
+// Stand-ins for the CDI container (emitters, meter registry, field injection); no benchmarks of its own,
+// so every benchmark source set keeps a single META-INF/BenchmarkList
+val fixtures: SourceSet = sourceSets.create("fixtures")
+
+dependencies {
+    implementation(project(":share"))
+
+    // JMH harness (benchmarks are generated by the annotation processor)
+    implementation("org.openjdk.jmh:jmh-core:$jmhVersion")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+
+    "fixturesImplementation"(enforcedPlatform("io.quarkus.platform:quarkus-bom:3.29.4"))
+    "fixturesImplementation"(project(":share"))
+    "fixturesImplementation"(project(":core"))
+    "fixturesImplementation"("io.smallrye.reactive:smallrye-reactive-messaging-api") // Emitter, Message
+    // Annotations on the core beans the fixtures build (@Scheduled)
+    "fixturesImplementation"("io.quarkus:quarkus-scheduler-api")
+    "fixturesImplementation"("io.quarkus:quarkus-jackson")
+    "fixturesImplementation"("io.micrometer:micrometer-core")
+    "fixturesImplementation"("com.fasterxml.jackson.core:jackson-databind")
+    "fixturesImplementation"("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    "fixturesImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+}
+
+/**
+ * Runs the benchmarks of a source set with the GC profiler (allocation rate and bytes per operation)
+ * Results go to build/jmh/<name>.json, or to baseline/<name>.json with -Pjmh.baseline to update the checked-in baseline
+ */
+fun registerJmh(taskName: String, sourceSet: SourceSet, resultName: String) {
+    tasks.register<JavaExec>(taskName) {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks of the ${sourceSet.name} source set"
+        dependsOn(tasks.named(sourceSet.classesTaskName))
+        classpath = sourceSet.runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+
+        val includes = providers.gradleProperty("jmh.includes").getOrElse(".*")
+        val results = if (providers.gradleProperty("jmh.baseline").isPresent) {
+            layout.projectDirectory.file("baseline/$resultName.json").asFile
+        } else {
+            layout.buildDirectory.file("jmh/$resultName.json").get().asFile
+        }
+        doFirst { results.parentFile.mkdirs() }
+        args(includes, "-prof", "gc", "-rf", "json", "-rff", results.absolutePath)
+    }
+}
+
+// ./gradlew :benchmarks:jmh -Pjmh.includes=IdGenerator
+registerJmh("jmh", sourceSets["main"], "shared")
+
+// One source set per service: the services share package names (infrastructure.logging.LoggingHelper,
+// application.mapper, ...), so each is benchmarked on its own classpath.
+// ./gradlew :benchmarks:jmhProduct -Pjmh.includes=ProductMapping
+val services = mapOf(
+    "product" to ":services:product-service",
+    "category" to ":services:category-service",
+    "audit" to ":services:audit-service",
+)
+services.forEach { (name, path) ->
+    val sourceSet = sourceSets.create(name) {
+        compileClasspath += fixtures.output + fixtures.compileClasspath
+        runtimeClasspath += fixtures.output + fixtures.runtimeClasspath
+    }
+    dependencies {
+        add(sourceSet.implementationConfigurationName, enforcedPlatform("io.quarkus.platform:quarkus-bom:3.29.4"))
+        add(sourceSet.implementationConfigurationName, project(path))
+        // Entities extend Panache base classes; MapStruct mappers are used through their generated impls
+        add(sourceSet.implementationConfigurationName, "io.quarkus:quarkus-hibernate-reactive-panache")
+        add(sourceSet.implementationConfigurationName, "org.mapstruct:mapstruct:1.5.5.Final")
+        // ResourceInfo stubs for the access-log route resolution
+        add(sourceSet.implementationConfigurationName, "jakarta.ws.rs:jakarta.ws.rs-api")
+        add(sourceSet.annotationProcessorConfigurationName, "org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+    }
+    registerJmh("jmh" + name.replaceFirstChar { it.uppercase() }, sourceSet, name)
+}
@@ -0,0 +1,89 @@
+package benchmarks.audit;
+
+import application.mapper.AccessLogMapper;
+import application.mapper.AccessLogMapperImpl;
+import application.mapper.AuditMapper;
+import application.mapper.AuditMapperImpl;
+import domain.entity.AuditLog;
+import org.openjdk.jmh.annotations.*;
+import share.dto.AccessLog;
+import share.dto.AuditEvent;
+import share.enums.AuditTypeEnum;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of consumed Kafka events to entities (AuditEvent to AuditLog, AccessLog) and back for the query API
+ * Run: ./gradlew :benchmarks:jmhAudit -Pjmh.includes=AuditMappingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditMappingBenchmark {
+
+    private final AuditMapper auditMapper = new AuditMapperImpl();
+    private final AccessLogMapper accessLogMapper = new AccessLogMapperImpl();
+
+    private AuditEvent event;
+    private AuditLog auditLog;
+    private AccessLog accessLog;
+
+    @Setup
+    public void setUp() {
+        event = new AuditEvent();
+        event.auditTypeEnum = AuditTypeEnum.CRUD;
+        event.action = "UPDATE";
+        event.entityType = "Product";
+        event.rowId = 42;
+        event.userId = 1001L;
+        event.username = "cashier01";
+        event.serviceName = "product-service";
+        event.ipAddress = "10.0.4.17";
+        event.httpMethod = "PUT";
+        event.endpoint = "/api/products/{id}";
+        event.oldValue = "{\"price\":119000.00,\"stock\":260}";
+        event.newValue = "{\"price\":129000.00,\"stock\":250}";
+        event.correlationId = "0190f1c2-7a3b-7c4d-8e5f-6a7b8c9d0e1f";
+        event.terminalId = "POS-03";
+        event.storeId = "STORE-001";
+        event.priceBefore = new BigDecimal("119000.00");
+        event.priceAfter = new BigDecimal("129000.00");
+        event.quantityBefore = 260;
+        event.quantityAfter = 250;
+        event.quantityChanged = -10;
+
+        auditLog = auditMapper.toEntity(event);
+
+        accessLog = new AccessLog();
+        accessLog.serviceName = "product-service";
+        accessLog.httpMethod = "GET";
+        accessLog.endpoint = "/api/products/{id}";
+        accessLog.path = "/api/products/PRD-000042";
+        accessLog.requestId = "0190f1c2-7a3b-7c4d-8e5f-6a7b8c9d0e20";
+        accessLog.correlationId = event.correlationId;
+        accessLog.ipAddress = "10.0.4.17";
+        accessLog.statusCode = 200;
+        accessLog.responseSize = 412;
+        accessLog.responseTimeMs = 3L;
+        accessLog.userId = "1001";
+    }
+
+    @Benchmark
+    public AuditLog auditToEntity() {
+        return auditMapper.toEntity(event);
+    }
+
+    @Benchmark
+    public AuditEvent auditToDto() {
+        return auditMapper.toDto(auditLog);
+    }
+
+    @Benchmark
+    public domain.entity.AccessLog accessToEntity() {
+        return accessLogMapper.toEntity(accessLog);
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks.category;
+
+import application.dto.CreateCategoryDto;
+import application.dto.GetCategoryDto;
+import application.mapper.CategoryMapper;
+import application.mapper.CategoryMapperImpl;
+import domain.entity.Category;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CategoryMapper conversions on the read (toDto) and write (toEntity) paths
+ * Run: ./gradlew :benchmarks:jmhCategory -Pjmh.includes=CategoryMappingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CategoryMappingBenchmark {
+
+    private final CategoryMapper mapper = new CategoryMapperImpl();
+
+    private Category category;
+    private CreateCategoryDto request;
+
+    @Setup
+    public void setUp() {
+        category = new Category();
+        category.RowId = 7;
+        category.Number = "CAT-000007";
+        category.name = "Vitamins & Supplements";
+        category.description = "Vitamins, minerals and functional food";
+        category.parentId = 2L;
+        category.slug = "vitamins-supplements";
+        category.path = "/2/7/";
+        category.depth = 1;
+        category.createdAt = LocalDateTime.now().minusDays(90);
+        category.createdBy = "admin";
+        category.lastModifiedAt = LocalDateTime.now();
+        category.lastModifiedBy = "admin";
+        category.rowVersion = 1L;
+
+        request = new CreateCategoryDto();
+        request.name = category.name;
+        request.description = category.description;
+        request.parentId = category.parentId;
+        request.slug = category.slug;
+    }
+
+    @Benchmark
+    public GetCategoryDto toDto() {
+        return mapper.toDto(category);
+    }
+
+    @Benchmark
+    public Category toEntity() {
+        return mapper.toEntity(request);
+    }
+}
@@ -0,0 +1,78 @@
+package benchmarks.fixtures;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import infrastructure.messaging.EventSpill;
+import infrastructure.metrics.MessagingMetrics;
+import infrastructure.web.FieldSelection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Hand-wired beans for benchmarks: what CDI would inject, set through the package-private fields
+ * Keeps the code under test unchanged instead of adding constructors just for benchmarks.
+ */
+public final class Beans {
+
+    private Beans() {
+    }
+
+    public static void inject(Object bean, String field, Object value) {
+        try {
+            Field target = findField(bean.getClass(), field);
+            target.setAccessible(true);
+            target.set(bean, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot inject " + field + " into " + bean.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Runs a no-arg lifecycle method such as a @PostConstruct init()
+     */
+    public static void call(Object bean, String method) {
+        try {
+            Method target = bean.getClass().getDeclaredMethod(method);
+            target.setAccessible(true);
+            target.invoke(bean);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot call " + method + " on " + bean.getClass().getName(), e);
+        }
+    }
+
+    public static MessagingMetrics messagingMetrics() {
+        MessagingMetrics metrics = new MessagingMetrics();
+        inject(metrics, "registry", new SimpleMeterRegistry());
+        return metrics;
+    }
+
+    /**
+     * Spill disabled: events take the live path straight to the (discarding) emitter
+     */
+    public static EventSpill eventSpill() {
+        EventSpill spill = new EventSpill();
+        inject(spill, "messagingMetrics", messagingMetrics());
+        inject(spill, "enabled", false);
+        inject(spill, "replayBatch", 100);
+        return spill;
+    }
+
+    public static ObjectMapper objectMapper() {
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        // As in the services: DTOs carry @JsonFilter("fields")
+        new FieldSelection().customize(mapper);
+        return mapper;
+    }
+
+    private static Field findField(Class<?> type, String name) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException ignored) {
+                // keep looking in the superclass
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks.fixtures;
+
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Emitter with a broker that acknowledges everything immediately, so only the caller's cost is measured
+ */
+public final class DiscardingEmitter implements Emitter<String> {
+
+    @Override
+    public CompletionStage<Void> send(String payload) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public <M extends Message<? extends String>> void send(M message) {
+        message.ack();
+    }
+
+    @Override
+    public void complete() {
+    }
+
+    @Override
+    public void error(Exception e) {
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean hasRequests() {
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import share.id.IdGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IdGenerator vs UUID.randomUUID under contention (32 threads)
+ * Run: ./gradlew :benchmarks:jmh -Pjmh.includes=IdGeneratorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedUuid() {
+        return IdGenerator.nextUuid();
+    }
+
+    @Benchmark
+    public String randomUuidString() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrderedId() {
+        return IdGenerator.nextId();
+    }
+}
@@ -0,0 +1,74 @@
+package benchmarks.product;
+
+import infrastructure.logging.LoggingHelper;
+import infrastructure.web.RouteTemplates;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.UriInfo;
+import org.openjdk.jmh.annotations.*;
+import presentation.rest.ProductController;
+import share.dto.AccessLog;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request work of AccessLogFilter outside Vert.x: route template lookup, AccessLog fill and logAccess
+ * Run: ./gradlew :benchmarks:jmhProduct -Pjmh.includes=AccessLogBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessLogBenchmark {
+
+    private final RouteTemplates routeTemplates = new RouteTemplates();
+
+    private LoggingHelper helper;
+    private ResourceInfo resourceInfo;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        helper = ProductBeans.loggingHelper();
+        Method method = ProductController.class.getMethod("getProductById", String.class, UriInfo.class);
+        resourceInfo = new ResourceInfo() {
+            @Override
+            public Method getResourceMethod() {
+                return method;
+            }
+
+            @Override
+            public Class<?> getResourceClass() {
+                return ProductController.class;
+            }
+        };
+    }
+
+    @Benchmark
+    public String routeTemplate() {
+        return routeTemplates.of(resourceInfo);
+    }
+
+    @Benchmark
+    public void logAccess() {
+        AccessLog log = new AccessLog();
+        log.httpMethod = "GET";
+        log.endpoint = routeTemplates.of(resourceInfo);
+        log.path = "/api/products/PRD-000042";
+        log.requestId = "0190f1c2-7a3b-7c4d-8e5f-6a7b8c9d0e20";
+        log.correlationId = "0190f1c2-7a3b-7c4d-8e5f-6a7b8c9d0e1f";
+        log.ipAddress = "10.0.4.17";
+        log.userAgent = "Mozilla/5.0 (Windows NT 10.0; Win64; x64)";
+        log.requestSize = 0;
+        log.statusCode = 200;
+        log.responseSize = 412;
+        log.contentType = "application/json";
+        log.responseTimeMs = 3L;
+        log.userId = "1001";
+        log.username = "cashier01";
+        log.storeId = "STORE-001";
+        log.terminalId = "POS-03";
+        helper.logAccess(log);
+    }
+}
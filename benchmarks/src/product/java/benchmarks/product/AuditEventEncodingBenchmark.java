@@ -0,0 +1,81 @@
+package benchmarks.product;
+
+import benchmarks.fixtures.Beans;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import infrastructure.messaging.adapter.KafkaAuditEventPublisherAdapter;
+import org.openjdk.jmh.annotations.*;
+import share.dto.AuditEvent;
+import share.enums.AuditStatusEnum;
+import share.enums.AuditTypeEnum;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of an AuditEvent (~60 fields) as KafkaAuditEventPublisherAdapter does it, alone and with the error publish
+ * Run: ./gradlew :benchmarks:jmhProduct -Pjmh.includes=AuditEventEncodingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditEventEncodingBenchmark {
+
+    private KafkaAuditEventPublisherAdapter adapter;
+    private ObjectMapper objectMapper;
+    private AuditEvent crudEvent;
+    private AuditEvent errorEvent;
+
+    @Setup
+    public void setUp() {
+        adapter = ProductBeans.auditPublisher();
+        objectMapper = Beans.objectMapper();
+
+        crudEvent = new AuditEvent();
+        crudEvent.auditTypeEnum = AuditTypeEnum.CRUD;
+        crudEvent.action = "UPDATE";
+        crudEvent.entityType = "Product";
+        crudEvent.rowId = 42;
+        crudEvent.userId = 1001L;
+        crudEvent.username = "cashier01";
+        crudEvent.serviceName = "product-service";
+        crudEvent.ipAddress = "10.0.4.17";
+        crudEvent.httpMethod = "PUT";
+        crudEvent.endpoint = "/api/products/{id}";
+        crudEvent.oldValue = "{\"price\":119000.00,\"stock\":260}";
+        crudEvent.newValue = "{\"price\":129000.00,\"stock\":250}";
+        crudEvent.correlationId = "0190f1c2-7a3b-7c4d-8e5f-6a7b8c9d0e1f";
+        crudEvent.terminalId = "POS-03";
+        crudEvent.storeId = "STORE-001";
+        crudEvent.priceBefore = new BigDecimal("119000.00");
+        crudEvent.priceAfter = new BigDecimal("129000.00");
+        crudEvent.quantityBefore = 260;
+        crudEvent.quantityAfter = 250;
+        crudEvent.quantityChanged = -10;
+
+        errorEvent = new AuditEvent();
+        errorEvent.auditTypeEnum = AuditTypeEnum.ERROR;
+        errorEvent.action = "UPDATE_PRODUCT";
+        errorEvent.entityType = "Product";
+        errorEvent.serviceName = "product-service";
+        errorEvent.status = AuditStatusEnum.FAILURE;
+        errorEvent.errorMessage = "Product PRD-000042 not found";
+        errorEvent.stackTrace = String.valueOf(StackTraces.thrownAt(24).getStackTrace()[0]);
+        errorEvent.severity = "HIGH";
+        errorEvent.correlationId = crudEvent.correlationId;
+        errorEvent.terminalId = "POS-03";
+    }
+
+    @Benchmark
+    public String encodeCrud() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(crudEvent);
+    }
+
+    @Benchmark
+    public void publishError() {
+        adapter.publishErrorEvent(errorEvent);
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks.product;
+
+import benchmarks.fixtures.Beans;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import infrastructure.logging.LoggingHelper;
+import org.openjdk.jmh.annotations.*;
+import share.dto.ApplicationLog;
+import share.enums.LogLevel;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoggingHelper per call: record construction, JSON serialization and hand-off to the emitter
+ * serializeOnly isolates the Jackson share of logApp; the emitter acknowledges immediately.
+ * Run: ./gradlew :benchmarks:jmhProduct -Pjmh.includes=LoggingHelperBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingHelperBenchmark {
+
+    private LoggingHelper helper;
+    private ObjectMapper objectMapper;
+    private ApplicationLog log;
+    private IllegalStateException error;
+
+    @Setup
+    public void setUp() {
+        helper = ProductBeans.loggingHelper();
+        objectMapper = Beans.objectMapper();
+
+        log = new ApplicationLog();
+        log.level = LogLevel.INFO;
+        log.serviceName = "product-service";
+        log.message = "Product PRD-000042 updated";
+        log.userId = "1001";
+        log.correlationId = "0190f1c2-7a3b-7c4d-8e5f-6a7b8c9d0e1f";
+        log.timestamp = LocalDateTime.now();
+        log.thread = "vert.x-eventloop-thread-1";
+
+        error = StackTraces.thrownAt(24);
+    }
+
+    @Benchmark
+    public void logApp() {
+        helper.logApp(LogLevel.INFO, "Product PRD-000042 updated", "1001", "0190f1c2-7a3b-7c4d-8e5f-6a7b8c9d0e1f");
+    }
+
+    @Benchmark
+    public void logError() {
+        helper.logError(error, "1001", "0190f1c2-7a3b-7c4d-8e5f-6a7b8c9d0e1f");
+    }
+
+    @Benchmark
+    public void logPerf() {
+        helper.logPerf("ProductService.updateProduct", 12, false);
+    }
+
+    @Benchmark
+    public String serializeOnly() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(log);
+    }
+}
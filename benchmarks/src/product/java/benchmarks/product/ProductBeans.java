@@ -0,0 +1,36 @@
+package benchmarks.product;
+
+import benchmarks.fixtures.Beans;
+import benchmarks.fixtures.DiscardingEmitter;
+import infrastructure.logging.LoggingHelper;
+import infrastructure.messaging.adapter.KafkaAuditEventPublisherAdapter;
+
+/**
+ * product-service beans wired as CDI would, with emitters whose broker acknowledges immediately
+ */
+final class ProductBeans {
+
+    private ProductBeans() {
+    }
+
+    static LoggingHelper loggingHelper() {
+        LoggingHelper helper = new LoggingHelper();
+        Beans.inject(helper, "applicationLogEmitter", new DiscardingEmitter());
+        Beans.inject(helper, "errorLogEmitter", new DiscardingEmitter());
+        Beans.inject(helper, "accessLogEmitter", new DiscardingEmitter());
+        Beans.inject(helper, "performanceLogEmitter", new DiscardingEmitter());
+        Beans.inject(helper, "objectMapper", Beans.objectMapper());
+        Beans.inject(helper, "spill", Beans.eventSpill());
+        Beans.call(helper, "init");
+        return helper;
+    }
+
+    static KafkaAuditEventPublisherAdapter auditPublisher() {
+        KafkaAuditEventPublisherAdapter adapter = new KafkaAuditEventPublisherAdapter();
+        Beans.inject(adapter, "errorEmitter", new DiscardingEmitter());
+        Beans.inject(adapter, "objectMapper", Beans.objectMapper());
+        Beans.inject(adapter, "spill", Beans.eventSpill());
+        Beans.call(adapter, "init");
+        return adapter;
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks.product;
+
+import application.dto.CreateProduct;
+import application.dto.GetProduct;
+import application.mapper.ProductMapper;
+import application.mapper.ProductMapperImpl;
+import domain.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductMapper conversions on every read (toResponse, copy of a projected view) and write (toEntity)
+ * Run: ./gradlew :benchmarks:jmhProduct -Pjmh.includes=ProductMappingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMappingBenchmark {
+
+    private final ProductMapper mapper = new ProductMapperImpl();
+
+    private Product product;
+    private CreateProduct request;
+    private GetProduct view;
+
+    @Setup
+    public void setUp() {
+        product = new Product();
+        product.RowId = 42;
+        product.Number = "PRD-000042";
+        product.name = "Vitamin C 1000mg";
+        product.description = "Effervescent tablets, tube of 20";
+        product.price = new BigDecimal("129000.00");
+        product.stock = 250;
+        product.categoryId = 7L;
+        product.createdAt = LocalDateTime.now().minusDays(30);
+        product.createdBy = "admin";
+        product.lastModifiedAt = LocalDateTime.now();
+        product.lastModifiedBy = "admin";
+        product.rowVersion = 3L;
+
+        request = new CreateProduct();
+        request.name = product.name;
+        request.description = product.description;
+        request.price = product.price;
+        request.stock = product.stock;
+        request.categoryId = product.categoryId;
+
+        view = mapper.toResponse(product);
+    }
+
+    @Benchmark
+    public GetProduct toResponse() {
+        return mapper.toResponse(product);
+    }
+
+    @Benchmark
+    public GetProduct copy() {
+        return mapper.copy(view);
+    }
+
+    @Benchmark
+    public Product toEntity() {
+        return mapper.toEntity(request);
+    }
+}
@@ -0,0 +1,42 @@
+package benchmarks.product;
+
+import infrastructure.logging.LoggingHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stack trace formatting done for every ErrorLog (LoggingHelper.getStackTrace) at shallow and deep call stacks
+ * Run: ./gradlew :benchmarks:jmhProduct -Pjmh.includes=StackTraceBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StackTraceBenchmark {
+
+    @Param({"8", "64"})
+    public int depth;
+
+    private LoggingHelper helper;
+    private MethodHandle getStackTrace;
+    private Throwable error;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        helper = ProductBeans.loggingHelper();
+        getStackTrace = MethodHandles.privateLookupIn(LoggingHelper.class, MethodHandles.lookup())
+                .findVirtual(LoggingHelper.class, "getStackTrace", MethodType.methodType(String.class, Throwable.class));
+        error = StackTraces.thrownAt(depth);
+    }
+
+    @Benchmark
+    public String format() throws Throwable {
+        return (String) getStackTrace.invoke(helper, error);
+    }
+}
@@ -0,0 +1,26 @@
+package benchmarks.product;
+
+/**
+ * Exceptions thrown from a given call depth, about what a failing repository call carries up a Mutiny chain
+ */
+final class StackTraces {
+
+    private StackTraces() {
+    }
+
+    static IllegalStateException thrownAt(int depth) {
+        try {
+            descend(depth);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+        throw new AssertionError("unreachable");
+    }
+
+    private static void descend(int depth) {
+        if (depth == 0) {
+            throw new IllegalStateException("Product PRD-000042 not found");
+        }
+        descend(depth - 1);
+    }
+}
@@ -21,8 +21,23 @@ dependencies {
     implementation(enforcedPlatform("io.quarkus.platform:quarkus-bom:3.29.4"))
     implementation("io.quarkus:quarkus-arc")
     implementation("io.quarkus:quarkus-hibernate-reactive-panache")
+    implementation("io.quarkus:quarkus-reactive-pg-client") // Replica reads bypass Hibernate
     implementation("io.quarkus:quarkus-rest") // For JAX-RS Provider support
+    implementation("io.quarkus:quarkus-messaging-kafka") // Outbox relay
+    implementation("io.smallrye.reactive:smallrye-reactive-messaging-in-memory") // loadtest profile: channels without a broker
+    implementation("io.quarkus:quarkus-scheduler")
+    implementation("io.quarkus:quarkus-micrometer") // Shared meters; services pick the registry
+    implementation("io.quarkus:quarkus-caffeine") // Entity cache
+    implementation("io.quarkus:quarkus-jackson") // Field selection and binary bodies share the JSON mapper
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
     
     // Share module for common enums/constants
     implementation(project(":share"))
+
+    testImplementation("io.quarkus:quarkus-junit5")
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
 }
@@ -0,0 +1,58 @@
+package domain.entity.outbox;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional outbox row
+ * Written in the same transaction as the business change, relayed to Kafka after commit
+ * The id is assigned by OutboxWriter, one sequence value per row, and is the relay's send order.
+ */
+@Entity
+@Table(name = "outbox_messages", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "sent_at, id"),
+        // Per-key order checks in the relay's claim
+        @Index(name = "idx_outbox_key", columnList = "message_key, id")
+})
+public class OutboxMessage extends PanacheEntityBase {
+
+    // Not generated: a pooled generator hands each replica its own block, which breaks id order across writers
+    @Id
+    @Column(name = "id")
+    public Long id;
+
+    @Column(name = "topic", nullable = false, length = 255)
+    public String topic;
+
+    @Column(name = "message_key", length = 255)
+    public String messageKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    public String payload;
+
+    // Request context, relayed as Kafka headers
+    @Column(name = "request_id", length = 64)
+    public String requestId;
+
+    @Column(name = "correlation_id", length = 64)
+    public String correlationId;
+
+    @Column(name = "created_at", nullable = false)
+    public LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "sent_at")
+    public LocalDateTime sentAt;
+
+    @Column(name = "attempts", nullable = false)
+    public int attempts;
+
+    // Set after a failed send; the row, and every later row with its key, waits until then
+    @Column(name = "next_attempt_at")
+    public LocalDateTime nextAttemptAt;
+
+    // Set once attempts reaches max-attempts; dead rows are no longer relayed nor purged
+    @Column(name = "dead_at")
+    public LocalDateTime deadAt;
+}
@@ -0,0 +1,149 @@
+package infrastructure.admission;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * AIMD concurrency limit driven by measured latency
+ * Each completion is a sample: slower than tolerance x the no-load latency (the fastest sample of the
+ * previous window), or failed, shrinks the limit by the backoff ratio at most once per round trip;
+ * otherwise, while the limit is actually being used, it grows by about one per round trip's worth of samples.
+ * The no-load latency is kept per priority, so work of different shapes sharing one limiter (fast inserts,
+ * slow queries) is each judged against its own. Samples are lock-free; concurrent updates may interleave.
+ */
+public final class AdaptiveLimiter {
+
+    // Samples per no-load latency window; the baseline follows lasting shifts (e.g. a bigger table) after one window
+    private static final int BASELINE_WINDOW = 500;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoff;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Double bits, updated by compare-and-set
+    private final AtomicLong limitBits = new AtomicLong();
+    private final AtomicLong lastDecreaseAt = new AtomicLong();
+    private final Baseline[] baselines = new Baseline[AdmissionPriority.values().length];
+
+    /**
+     * No-load latency of one priority: the fastest successful sample of the previous window
+     */
+    private static final class Baseline {
+        private final AtomicLong baselineNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong windowMinNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicInteger windowSamples = new AtomicInteger();
+
+        long sample(long rttNanos) {
+            long windowMin = windowMinNanos.accumulateAndGet(rttNanos, Math::min);
+            if (baselineNanos.get() == Long.MAX_VALUE) {
+                baselineNanos.compareAndSet(Long.MAX_VALUE, windowMin);
+            }
+            if (windowSamples.incrementAndGet() == BASELINE_WINDOW) {
+                // Only the sample that completes the window rotates it
+                baselineNanos.set(windowMinNanos.getAndSet(Long.MAX_VALUE));
+                windowSamples.set(0);
+            }
+            return baselineNanos.get();
+        }
+
+        long current() {
+            return baselineNanos.get();
+        }
+    }
+
+    public AdaptiveLimiter(String name, int initialLimit, int minLimit, int maxLimit, double tolerance, double backoff) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoff = backoff;
+        this.limitBits.set(Double.doubleToRawLongBits(Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+        for (int i = 0; i < baselines.length; i++) {
+            baselines[i] = new Baseline();
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return (int) currentLimit();
+    }
+
+    private double currentLimit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * A permit to release when the work completes, or null if the work should be shed
+     */
+    public Permit tryAcquire(AdmissionPriority priority) {
+        while (true) {
+            int current = inFlight.get();
+            if (priority != AdmissionPriority.CRITICAL && current >= Math.max(1, (int) (currentLimit() * priority.share))) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(priority, current + 1);
+            }
+        }
+    }
+
+    private void onSample(AdmissionPriority priority, long now, long rttNanos, int inFlightAtStart, boolean failed) {
+        Baseline baseline = baselines[priority.ordinal()];
+        long baselineNanos = failed ? baseline.current() : baseline.sample(rttNanos);
+        if (failed || rttNanos > baselineNanos * tolerance) {
+            // Completions of one overloaded round trip all look slow; count them as one signal
+            long last = lastDecreaseAt.get();
+            if (now - last > rttNanos && lastDecreaseAt.compareAndSet(last, now)) {
+                updateLimit(limit -> Math.max(minLimit, limit * backoff));
+            }
+        } else if (inFlightAtStart * 2 >= currentLimit()) {
+            updateLimit(limit -> Math.min(maxLimit, limit + 1.0 / limit));
+        }
+    }
+
+    private void updateLimit(DoubleUnaryOperator update) {
+        while (true) {
+            long bits = limitBits.get();
+            long next = Double.doubleToRawLongBits(update.applyAsDouble(Double.longBitsToDouble(bits)));
+            if (limitBits.compareAndSet(bits, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * One admitted unit of work; release exactly once, release(true) for a failure caused by load (timeout, 5xx)
+     */
+    public final class Permit {
+
+        private final long startedAt = System.nanoTime();
+        private final AdmissionPriority priority;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AdmissionPriority priority, int inFlightAtStart) {
+            this.priority = priority;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                long now = System.nanoTime();
+                onSample(priority, now, now - startedAt, inFlightAtStart, failed);
+            }
+        }
+    }
+}
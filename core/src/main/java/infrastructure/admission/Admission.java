@@ -0,0 +1,20 @@
+package infrastructure.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limiter and priority of a resource class or method; without it, each resource class gets its own limiter at NORMAL
+ * Resources sharing a backend (e.g. one database) should name the same limiter so they compete for one limit.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admission {
+
+    // Defaults to the resource class's simple name
+    String limiter() default "";
+
+    AdmissionPriority priority() default AdmissionPriority.NORMAL;
+}
@@ -0,0 +1,76 @@
+package infrastructure.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named adaptive limiters, created on first use with the honeybee.admission settings
+ * admission.limit / admission.in-flight{limiter} gauges; admission.rejected{limiter, priority} counts shed work
+ */
+@ApplicationScoped
+public class AdmissionLimiters {
+
+    @ConfigProperty(name = "honeybee.admission.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "honeybee.admission.initial-limit", defaultValue = "20")
+    int initialLimit;
+
+    @ConfigProperty(name = "honeybee.admission.min-limit", defaultValue = "4")
+    int minLimit;
+
+    @ConfigProperty(name = "honeybee.admission.max-limit", defaultValue = "200")
+    int maxLimit;
+
+    @ConfigProperty(name = "honeybee.admission.latency-tolerance", defaultValue = "2.0")
+    double tolerance;
+
+    @ConfigProperty(name = "honeybee.admission.backoff-ratio", defaultValue = "0.9")
+    double backoff;
+
+    @ConfigProperty(name = "honeybee.admission.retry-after", defaultValue = "1s")
+    Duration retryAfter;
+
+    private final Map<String, AdaptiveLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+
+    public AdaptiveLimiter get(String name) {
+        return limiters.computeIfAbsent(name, this::create);
+    }
+
+    /**
+     * A permit from the named limiter, or null (counted as rejected) if the work should be shed
+     */
+    public AdaptiveLimiter.Permit tryAcquire(String name, AdmissionPriority priority) {
+        AdaptiveLimiter.Permit permit = get(name).tryAcquire(priority);
+        if (permit == null) {
+            rejections.computeIfAbsent(name + ':' + priority, key -> Counter.builder("admission.rejected")
+                    .tag("limiter", name)
+                    .tag("priority", priority.name())
+                    .register(Metrics.globalRegistry)).increment();
+        }
+        return permit;
+    }
+
+    private AdaptiveLimiter create(String name) {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(name, initialLimit, minLimit, maxLimit, tolerance, backoff);
+        Gauge.builder("admission.limit", limiter, AdaptiveLimiter::limit).tag("limiter", name).register(Metrics.globalRegistry);
+        Gauge.builder("admission.in-flight", limiter, AdaptiveLimiter::inFlight).tag("limiter", name).register(Metrics.globalRegistry);
+        return limiter;
+    }
+}
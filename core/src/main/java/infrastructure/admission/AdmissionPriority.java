@@ -0,0 +1,19 @@
+package infrastructure.admission;
+
+/**
+ * How much of a limiter's current limit work of this priority may fill
+ * Lower priorities run out of room first, so under overload they are shed while higher ones still get in.
+ */
+public enum AdmissionPriority {
+
+    // Never rejected, only counted (e.g. Kafka ingestion, whose consumers already bound their concurrency)
+    CRITICAL(1.0),
+    NORMAL(0.9),
+    SHEDDABLE(0.6);
+
+    final double share;
+
+    AdmissionPriority(double share) {
+        this.share = share;
+    }
+}
@@ -0,0 +1,113 @@
+package infrastructure.admission;
+
+import infrastructure.metrics.MessagingMetrics;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.scheduler.Scheduled;
+import io.vertx.core.json.JsonObject;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+import share.id.IdGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shares rate-limit budgets across replicas: each one periodically broadcasts the tokens it handed out
+ * per caller, and the others take them from their own buckets
+ * Each replica consumes with its own consumer group (see rate-limit-sync-in config). Until the next
+ * sync a caller can exceed its budget by what the other replicas admitted in one interval.
+ * The usage of one interval is split over as many messages as it takes to keep each under max-message-size.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "honeybee.rate-limit.sync.enabled", stringValue = "true")
+public class RateLimitSync {
+
+    private static final String OUT_CHANNEL = "rate-limit-sync";
+    private static final String ORIGIN = IdGenerator.nextId();
+    // Quotes, colon, comma and the count of one tokens entry, on top of its key
+    private static final int ENTRY_OVERHEAD = 16;
+
+    @Inject
+    @Channel(OUT_CHANNEL)
+    // Room for the chunks of a few intervals; beyond it send throws and the usage is counted as failed
+    @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = 64)
+    Emitter<String> emitter;
+
+    @Inject
+    RateLimiter rateLimiter;
+
+    @Inject
+    MessagingMetrics messagingMetrics;
+
+    // Below the producer's max.request.size (1 MiB by default), which would reject a larger message
+    @ConfigProperty(name = "honeybee.rate-limit.sync.max-message-size", defaultValue = "256K")
+    MemorySize maxMessageSize;
+
+    @Scheduled(every = "${honeybee.rate-limit.sync.interval:1s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void publish() {
+        Map<String, Integer> taken = rateLimiter.drainTaken();
+        if (taken.isEmpty()) {
+            return;
+        }
+        List<JsonObject> chunks = chunks(taken, (int) maxMessageSize.asLongValue());
+        for (JsonObject tokens : chunks) {
+            try {
+                emitter.send(messagingMetrics.track(OUT_CHANNEL,
+                        Message.of(new JsonObject().put("origin", ORIGIN).put("tokens", tokens).encode())));
+            } catch (Exception e) {
+                messagingMetrics.failed(OUT_CHANNEL);
+                Log.warnf(e, "Failed to publish rate-limit usage of %d callers", tokens.size());
+            }
+        }
+    }
+
+    /**
+     * The usage split into tokens objects of at most maxBytes encoded (a single oversized key gets one of its own)
+     */
+    static List<JsonObject> chunks(Map<String, Integer> taken, int maxBytes) {
+        List<JsonObject> chunks = new ArrayList<>();
+        JsonObject chunk = new JsonObject();
+        int bytes = 0;
+        for (Map.Entry<String, Integer> entry : taken.entrySet()) {
+            int entryBytes = entry.getKey().getBytes(StandardCharsets.UTF_8).length + ENTRY_OVERHEAD;
+            if (bytes > 0 && bytes + entryBytes > maxBytes) {
+                chunks.add(chunk);
+                chunk = new JsonObject();
+                bytes = 0;
+            }
+            chunk.put(entry.getKey(), entry.getValue());
+            bytes += entryBytes;
+        }
+        if (bytes > 0) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    @Incoming("rate-limit-sync-in")
+    void onRemoteUsage(String json) {
+        try {
+            JsonObject usage = new JsonObject(json);
+            if (ORIGIN.equals(usage.getString("origin"))) {
+                return;
+            }
+            JsonObject tokens = usage.getJsonObject("tokens");
+            for (String key : tokens.fieldNames()) {
+                rateLimiter.charge(key, tokens.getInteger(key));
+            }
+        } catch (Exception e) {
+            Log.warnf(e, "Ignoring malformed rate-limit usage: %s", json);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package infrastructure.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.net.SocketAddress;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-caller request rate limits: one token bucket per user id, or per client IP for anonymous callers
+ * Caller identity comes from headers only on requests sent by a trusted proxy (the gateway); any other
+ * caller is keyed by its connection's address, which it can't vary per request.
+ * Buckets live in a bounded map; an evicted or expired bucket comes back full, which is what an idle
+ * caller's bucket would be anyway. With honeybee.rate-limit.sync.enabled, tokens taken here are also
+ * reported to the other replicas (RateLimitSync) so a caller's budget is shared across them.
+ */
+@ApplicationScoped
+public class RateLimiter {
+
+    @ConfigProperty(name = "honeybee.rate-limit.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "honeybee.rate-limit.requests-per-second", defaultValue = "50")
+    double requestsPerSecond;
+
+    @ConfigProperty(name = "honeybee.rate-limit.burst", defaultValue = "100")
+    int burst;
+
+    @ConfigProperty(name = "honeybee.rate-limit.max-keys", defaultValue = "100000")
+    long maxKeys;
+
+    @ConfigProperty(name = "honeybee.rate-limit.idle-expiry", defaultValue = "5m")
+    Duration idleExpiry;
+
+    @ConfigProperty(name = "honeybee.rate-limit.sync.enabled", defaultValue = "false")
+    boolean syncEnabled;
+
+    @ConfigProperty(name = "honeybee.rate-limit.trusted-proxies")
+    Optional<List<String>> trustedProxyList;
+
+    private TrustedProxies trustedProxies;
+    private long intervalNanos;
+    private Cache<String, TokenBucket> buckets;
+    private Counter rejected;
+
+    // Tokens taken per key since the last sync, only tracked when syncing
+    private final Map<String, LongAdder> taken = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        trustedProxies = TrustedProxies.parse(trustedProxyList.orElse(List.of()));
+        intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        rejected = Counter.builder("ratelimit.rejected").register(Metrics.globalRegistry);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Bucket key of a request, null when it has no address at all
+     */
+    public String key(HttpServerRequest request) {
+        SocketAddress remote = request.remoteAddress();
+        return key(request.getHeader("X-User-Id"), request.getHeader("X-Forwarded-For"),
+                remote != null ? remote.hostAddress() : null, trustedProxies);
+    }
+
+    /**
+     * X-User-Id and X-Forwarded-For are set by the client unless a trusted proxy sent the request, so only
+     * then is the key the user, or else the rightmost forwarded address that isn't a trusted proxy itself
+     * (the one the outermost trusted proxy saw). Otherwise it is the remote address.
+     */
+    static String key(String userId, String forwardedFor, String remoteAddress, TrustedProxies trustedProxies) {
+        if (remoteAddress == null) {
+            return null;
+        }
+        if (!trustedProxies.contains(remoteAddress)) {
+            return "ip:" + remoteAddress;
+        }
+        if (userId != null && !userId.isBlank()) {
+            return "u:" + userId;
+        }
+        String client = remoteAddress;
+        if (forwardedFor != null) {
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (hop.isEmpty()) {
+                    continue;
+                }
+                client = hop;
+                if (!trustedProxies.contains(hop)) {
+                    break;
+                }
+            }
+        }
+        return "ip:" + client;
+    }
+
+    /**
+     * 0 if the caller may proceed, otherwise the nanoseconds until it may
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        long wait = buckets.get(key, k -> new TokenBucket(intervalNanos, burst, now)).tryTake(now);
+        if (wait > 0) {
+            rejected.increment();
+        } else if (syncEnabled) {
+            taken.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+        return wait;
+    }
+
+    /**
+     * The Retry-After value (whole seconds, at least 1) for a wait returned by tryAcquire
+     */
+    public static long retryAfterSeconds(long waitNanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(1, (waitNanos + second - 1) / second);
+    }
+
+    /**
+     * Applies tokens another replica took for the key
+     */
+    public void charge(String key, int tokens) {
+        long now = System.nanoTime();
+        buckets.get(key, k -> new TokenBucket(intervalNanos, burst, now)).charge(tokens, now);
+    }
+
+    /**
+     * Tokens taken here since the previous call, per key (best effort: a token taken while draining may go unreported)
+     */
+    Map<String, Integer> drainTaken() {
+        Map<String, Integer> drained = new HashMap<>();
+        for (String key : taken.keySet()) {
+            LongAdder adder = taken.remove(key);
+            if (adder != null) {
+                drained.put(key, (int) adder.sum());
+            }
+        }
+        return drained;
+    }
+}
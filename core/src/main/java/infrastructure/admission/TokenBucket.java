@@ -0,0 +1,46 @@
+package infrastructure.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one theoretical arrival time
+ * A request is allowed unless it arrives more than the burst allowance ahead of schedule; taking
+ * a token is a single compare-and-set, with no refill thread and no lock.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong arrival;
+
+    public TokenBucket(long intervalNanos, int burst, long now) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * burst;
+        this.arrival = new AtomicLong(now);
+    }
+
+    /**
+     * 0 if a token was taken, otherwise the nanoseconds until one will be available
+     */
+    public long tryTake(long now) {
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Takes tokens used elsewhere (another replica) without checking; at most empties the bucket
+     */
+    public void charge(int tokens, long now) {
+        arrival.accumulateAndGet(now, (current, time) ->
+                Math.min(Math.max(current, time) + tokens * intervalNanos, time + burstNanos));
+    }
+}
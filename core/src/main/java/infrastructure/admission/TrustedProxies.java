@@ -0,0 +1,108 @@
+package infrastructure.admission;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Addresses (literal IPs or CIDR ranges) of the proxies whose forwarding headers are believed
+ * Literals only: a host name would need a DNS lookup at startup and could change under us.
+ */
+public final class TrustedProxies {
+
+    public static final TrustedProxies NONE = new TrustedProxies(List.of());
+
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9A-Fa-f:.]+");
+
+    private final List<Range> ranges;
+
+    private TrustedProxies(List<Range> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Parses entries such as 10.0.0.5, 172.16.0.0/12 or fd00::/8
+     */
+    public static TrustedProxies parse(List<String> entries) {
+        List<Range> ranges = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            String value = entry.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            int slash = value.indexOf('/');
+            byte[] address = parseAddress(slash < 0 ? value : value.substring(0, slash));
+            if (address == null) {
+                throw new IllegalArgumentException("Invalid trusted proxy: " + entry);
+            }
+            int prefix;
+            try {
+                prefix = slash < 0 ? address.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid trusted proxy: " + entry);
+            }
+            if (prefix < 0 || prefix > address.length * 8) {
+                throw new IllegalArgumentException("Invalid trusted proxy: " + entry);
+            }
+            ranges.add(new Range(address, prefix));
+        }
+        return new TrustedProxies(List.copyOf(ranges));
+    }
+
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    public boolean contains(String address) {
+        if (ranges.isEmpty() || address == null) {
+            return false;
+        }
+        byte[] bytes = parseAddress(address.trim());
+        if (bytes == null) {
+            return false;
+        }
+        for (Range range : ranges) {
+            if (range.contains(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The address as bytes, or null when it isn't an IP literal (no DNS lookup is ever made)
+     */
+    private static byte[] parseAddress(String value) {
+        if (value.isEmpty() || !IP_LITERAL.matcher(value).matches()) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(value).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record Range(byte[] address, int prefix) {
+
+        boolean contains(byte[] candidate) {
+            if (candidate.length != address.length) {
+                return false;
+            }
+            int fullBytes = prefix / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (candidate[i] != address[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefix % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits) & 0xFF;
+            return (candidate[fullBytes] & mask) == (address[fullBytes] & mask);
+        }
+    }
+}
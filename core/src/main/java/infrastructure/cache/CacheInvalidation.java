@@ -0,0 +1,46 @@
+package infrastructure.cache;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Entity cache invalidation, fired locally and broadcast to other replicas
+ */
+public class CacheInvalidation {
+
+    public final String entityType;
+    public final String number;
+    public final long minVersion;
+    public final String origin;
+
+    public CacheInvalidation(String entityType, String number, long minVersion, String origin) {
+        this.entityType = entityType;
+        this.number = number;
+        this.minVersion = minVersion;
+        this.origin = origin;
+    }
+
+    /**
+     * True when the change was made by this replica
+     */
+    public boolean isLocal() {
+        return EntityCaches.ORIGIN.equals(origin);
+    }
+
+    String toJson() {
+        return new JsonObject()
+                .put("entityType", entityType)
+                .put("number", number)
+                .put("minVersion", minVersion)
+                .put("origin", origin)
+                .encode();
+    }
+
+    static CacheInvalidation fromJson(String json) {
+        JsonObject object = new JsonObject(json);
+        return new CacheInvalidation(
+                object.getString("entityType"),
+                object.getString("number"),
+                object.getLong("minVersion", EntityCache.DELETED),
+                object.getString("origin"));
+    }
+}
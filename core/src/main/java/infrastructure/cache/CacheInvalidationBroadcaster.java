@@ -0,0 +1,70 @@
+package infrastructure.cache;
+
+import infrastructure.metrics.MessagingMetrics;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.logging.Log;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+
+/**
+ * Broadcasts entity cache invalidations over Kafka so every replica drops its entry
+ * Each replica consumes the topic with its own consumer group (see cache-invalidation-in config).
+ * Delivery is best effort: the cache TTL bounds staleness if a broadcast is lost.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "honeybee.cache.broadcast.enabled", stringValue = "true")
+public class CacheInvalidationBroadcaster {
+
+    private static final String OUT_CHANNEL = "cache-invalidation";
+
+    @Inject
+    @Channel(OUT_CHANNEL)
+    @OnOverflow(value = OnOverflow.Strategy.BUFFER, bufferSize = 4096)
+    Emitter<String> emitter;
+
+    @Inject
+    EntityCaches caches;
+
+    @Inject
+    MessagingMetrics messagingMetrics;
+
+    @Inject
+    Event<CacheInvalidation> remoteInvalidations;
+
+    void broadcast(@Observes CacheInvalidation invalidation) {
+        if (!invalidation.isLocal()) {
+            return;
+        }
+        try {
+            emitter.send(messagingMetrics.track(OUT_CHANNEL, Message.of(invalidation.toJson())
+                    .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
+                            .withKey(invalidation.entityType + ":" + invalidation.number)
+                            .build())));
+        } catch (Exception e) {
+            messagingMetrics.failed(OUT_CHANNEL);
+            Log.warnf(e, "Failed to broadcast cache invalidation for %s %s", invalidation.entityType, invalidation.number);
+        }
+    }
+
+    @Incoming("cache-invalidation-in")
+    void onRemoteInvalidation(String json) {
+        try {
+            CacheInvalidation invalidation = CacheInvalidation.fromJson(json);
+            if (!invalidation.isLocal()) {
+                caches.invalidateLocal(invalidation.entityType, invalidation.number, invalidation.minVersion);
+                // Let other in-memory views (e.g. snapshots) react to the remote change
+                remoteInvalidations.fire(invalidation);
+            }
+        } catch (Exception e) {
+            Log.warnf(e, "Ignoring malformed cache invalidation: %s", json);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import domain.entity.base.BaseEntityWithNumber;
+import io.micrometer.core.instrument.Counter;
+import io.smallrye.mutiny.Uni;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of one entity type, keyed by Number
+ * Entries are detached snapshots: use them for reads only, never modify and flush them.
+ * Invalidations leave a rowVersion fence so a load that raced with an update can't put the old row back.
+ */
+public class EntityCache<E extends BaseEntityWithNumber> {
+
+    // Fence for deleted rows: nothing may be cached until the fence expires
+    public static final long DELETED = Long.MAX_VALUE;
+
+    private final String entityType;
+    private final Cache<String, E> entries;
+    private final Cache<String, Long> fences;
+    private final Counter staleFills;
+
+    EntityCache(String entityType, Cache<String, E> entries, Cache<String, Long> fences, Counter staleFills) {
+        this.entityType = entityType;
+        this.entries = entries;
+        this.fences = fences;
+        this.staleFills = staleFills;
+    }
+
+    public String entityType() {
+        return entityType;
+    }
+
+    /**
+     * Cached entity, or the loader's result (cached unless it is older than the key's fence)
+     */
+    public Uni<E> get(String number, Supplier<Uni<E>> loader) {
+        E cached = entries.getIfPresent(number);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return loader.get().invoke(loaded -> fill(number, loaded));
+    }
+
+    /**
+     * Drop the entry and reject fills older than minVersion (use DELETED for deletes)
+     */
+    void invalidate(String number, long minVersion) {
+        fences.asMap().merge(number, minVersion, Math::max);
+        entries.invalidate(number);
+    }
+
+    private void fill(String number, E loaded) {
+        if (loaded == null) {
+            return;
+        }
+        // compute() serialises with invalidate()'s removal for the same key
+        entries.asMap().compute(number, (key, current) -> {
+            Long fence = fences.getIfPresent(key);
+            long version = loaded.rowVersion != null ? loaded.rowVersion : 0L;
+            if (fence != null && version < fence) {
+                staleFills.increment();
+                return current;
+            }
+            if (current != null && current.rowVersion != null && current.rowVersion > version) {
+                return current;
+            }
+            return loaded;
+        });
+    }
+}
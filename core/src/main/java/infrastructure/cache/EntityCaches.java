@@ -0,0 +1,117 @@
+package infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import domain.entity.base.BaseEntityWithNumber;
+import infrastructure.persistence.Transactions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import share.id.IdGenerator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of EntityCache instances, one per entity type
+ * Invalidations are applied locally and fired as CacheInvalidation events
+ * (broadcast to other replicas by CacheInvalidationBroadcaster when enabled)
+ */
+@ApplicationScoped
+public class EntityCaches {
+
+    // Identifies this replica so it can skip its own broadcasts
+    static final String ORIGIN = IdGenerator.nextId();
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Event<CacheInvalidation> invalidations;
+
+    @ConfigProperty(name = "honeybee.cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "honeybee.cache.ttl", defaultValue = "5m")
+    Duration ttl;
+
+    private final Map<String, EntityCache<?>> caches = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <E extends BaseEntityWithNumber> EntityCache<E> forType(Class<E> type) {
+        return (EntityCache<E>) caches.computeIfAbsent(type.getSimpleName(), this::create);
+    }
+
+    /**
+     * Invalidate before persisting a change; the fence is the version the change will commit with
+     * (0 for a new row, which still notifies listeners such as snapshots). Listeners and other
+     * replicas are told once the change has committed.
+     */
+    public void changed(BaseEntityWithNumber entity) {
+        if (entity.Number == null) {
+            return;
+        }
+        long committedVersion = entity.rowVersion == null ? 0L : entity.rowVersion + 1;
+        invalidate(entity.getClass().getSimpleName(), entity.Number, committedVersion);
+    }
+
+    /**
+     * Invalidate after a bulk update that already bumped the row to committedVersion
+     */
+    public void changed(Class<? extends BaseEntityWithNumber> type, String number, long committedVersion) {
+        if (number != null) {
+            invalidate(type.getSimpleName(), number, committedVersion);
+        }
+    }
+
+    public void deleted(BaseEntityWithNumber entity) {
+        deleted(entity.getClass(), entity.Number);
+    }
+
+    public void deleted(Class<? extends BaseEntityWithNumber> type, String number) {
+        if (number != null) {
+            invalidate(type.getSimpleName(), number, EntityCache.DELETED);
+        }
+    }
+
+    void invalidate(String entityType, String number, long minVersion) {
+        // The local fence goes up now, so a load racing with the transaction can't cache the old row
+        invalidateLocal(entityType, number, minVersion);
+        CacheInvalidation invalidation = new CacheInvalidation(entityType, number, minVersion, ORIGIN);
+        Transactions.afterCommit(() -> invalidations.fire(invalidation));
+    }
+
+    /**
+     * Apply an invalidation without re-broadcasting it (used for remote invalidations)
+     */
+    void invalidateLocal(String entityType, String number, long minVersion) {
+        EntityCache<?> cache = caches.get(entityType);
+        if (cache != null) {
+            cache.invalidate(number, minVersion);
+            Log.debugf("🗑️ Cache invalidated: %s %s (min version %d)", entityType, number, minVersion);
+        }
+    }
+
+    private EntityCache<?> create(String entityType) {
+        Cache<String, BaseEntityWithNumber> entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // Fences only need to outlive entries that could have been loaded before the change
+        Cache<String, Long> fences = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, entries, "entity", Tags.of("entity", entityType));
+        return new EntityCache<>(entityType, entries, fences,
+                registry.counter("cache.stale.fills", "cache", "entity", "entity", entityType));
+    }
+}
@@ -0,0 +1,77 @@
+package infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Request coalescing: concurrent loads of the same key share one in-flight Uni
+ * The shared load is never cancelled by a single caller; each caller only cancels (or times out)
+ * its own subscription. A failure fails every caller waiting on that flight and is not remembered,
+ * so the next call starts a new flight. Meters: singleflight.calls{role=leader|coalesced}.
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, Uni<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, Duration timeout) {
+        this.timeout = timeout;
+        this.leaders = Counter.builder("singleflight.calls")
+                .description("Loads started (leader) or joined to an in-flight load (coalesced)")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(Metrics.globalRegistry);
+        this.coalesced = Counter.builder("singleflight.calls")
+                .description("Loads started (leader) or joined to an in-flight load (coalesced)")
+                .tag("name", name)
+                .tag("role", "coalesced")
+                .register(Metrics.globalRegistry);
+    }
+
+    public Uni<V> execute(K key, Supplier<Uni<V>> loader) {
+        return Uni.createFrom().deferred(() -> {
+            Uni<V> existing = inFlight.get(key);
+            if (existing != null) {
+                coalesced.increment();
+                return onCallerContext(existing);
+            }
+
+            AtomicReference<Uni<V>> flight = new AtomicReference<>();
+            // memoize(): one upstream subscription, which a caller cancelling its own subscription leaves running
+            flight.set(Uni.createFrom().deferred(loader::get)
+                    // Leave the map before the result reaches anyone, so late callers start a new flight
+                    .onTermination().invoke(() -> inFlight.remove(key, flight.get()))
+                    .memoize().indefinitely());
+
+            Uni<V> raced = inFlight.putIfAbsent(key, flight.get());
+            if (raced != null) {
+                coalesced.increment();
+                return onCallerContext(raced);
+            }
+            leaders.increment();
+            return flight.get();
+        }).ifNoItem().after(timeout).fail();
+    }
+
+    /**
+     * The shared result arrives on the leader's context; move it back to the follower's own
+     */
+    private Uni<V> onCallerContext(Uni<V> shared) {
+        Context caller = Vertx.currentContext();
+        if (caller == null) {
+            return shared;
+        }
+        return shared.emitOn(command -> caller.runOnContext(ignored -> command.run()));
+    }
+}
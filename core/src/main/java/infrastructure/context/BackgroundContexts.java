@@ -0,0 +1,24 @@
+package infrastructure.context;
+
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs background work (startup loads, debounced reloads) on a fresh Vert.x duplicated context
+ * Hibernate Reactive needs a Vert.x context, and a fresh one never shares a request's session or RequestMetadata
+ */
+public final class BackgroundContexts {
+
+    private BackgroundContexts() {
+    }
+
+    public static <T> Uni<T> run(Vertx vertx, Supplier<Uni<T>> work) {
+        Context context = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        return Uni.createFrom().deferred(work::get)
+                .runSubscriptionOn(command -> context.runOnContext(ignored -> command.run()));
+    }
+}
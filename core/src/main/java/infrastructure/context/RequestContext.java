@@ -0,0 +1,85 @@
+package infrastructure.context;
+
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import share.id.IdGenerator;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request-scoped metadata carried in Vert.x duplicated-context locals
+ * A duplicated context follows one request across Uni/Multi continuations and worker hops,
+ * and is dropped with the request, so nothing leaks between requests sharing an event loop
+ * (unlike MDC/ThreadLocal). Outside a request, callers get RequestMetadata.SYSTEM.
+ */
+public final class RequestContext {
+
+    public static final String REQUEST_ID_HEADER = "x-request-id";
+    public static final String CORRELATION_ID_HEADER = "x-correlation-id";
+
+    private static final String LOCAL_KEY = RequestMetadata.class.getName();
+
+    private RequestContext() {
+    }
+
+    public static RequestMetadata current() {
+        Context context = Vertx.currentContext();
+        if (context != null && VertxContext.isDuplicatedContext(context)) {
+            RequestMetadata metadata = context.getLocal(LOCAL_KEY);
+            if (metadata != null) {
+                return metadata;
+            }
+        }
+        return RequestMetadata.SYSTEM;
+    }
+
+    /**
+     * Bind metadata to the current request; ignored (returns false) outside a duplicated context
+     */
+    public static boolean set(RequestMetadata metadata) {
+        Context context = Vertx.currentContext();
+        if (context == null || !VertxContext.isDuplicatedContext(context)) {
+            return false;
+        }
+        context.putLocal(LOCAL_KEY, metadata);
+        return true;
+    }
+
+    /**
+     * Request ID of the current request, or a fresh ID when there is none
+     */
+    public static String requestId() {
+        String requestId = current().requestId;
+        return requestId != null ? requestId : IdGenerator.nextId();
+    }
+
+    /**
+     * Correlation ID shared by every log/event of the current request, or a fresh ID when there is none
+     */
+    public static String correlationId() {
+        String correlationId = current().correlationId;
+        return correlationId != null ? correlationId : IdGenerator.nextId();
+    }
+
+    /**
+     * Kafka headers for the current request
+     */
+    public static Headers kafkaHeaders() {
+        RequestMetadata metadata = current();
+        return kafkaHeaders(metadata.requestId, metadata.correlationId);
+    }
+
+    public static Headers kafkaHeaders(String requestId, String correlationId) {
+        RecordHeaders headers = new RecordHeaders();
+        if (requestId != null) {
+            headers.add(REQUEST_ID_HEADER, requestId.getBytes(StandardCharsets.UTF_8));
+        }
+        if (correlationId != null) {
+            headers.add(CORRELATION_ID_HEADER, correlationId.getBytes(StandardCharsets.UTF_8));
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,36 @@
+package infrastructure.context;
+
+/**
+ * Immutable per-request metadata (request/correlation IDs, user, POS store and terminal)
+ * Stored in the Vert.x duplicated context by RequestContext; copy-on-write, never mutated
+ */
+public final class RequestMetadata {
+
+    public static final String SYSTEM_USER = "system";
+
+    public static final RequestMetadata SYSTEM =
+            new RequestMetadata(null, null, SYSTEM_USER, SYSTEM_USER, null, null, null);
+
+    public final String requestId;
+    public final String correlationId;
+    public final String userId;
+    public final String username;
+    public final String ipAddress;
+    public final String storeId;
+    public final String terminalId;
+
+    public RequestMetadata(String requestId, String correlationId, String userId, String username,
+                           String ipAddress, String storeId, String terminalId) {
+        this.requestId = requestId;
+        this.correlationId = correlationId;
+        this.userId = userId != null ? userId : SYSTEM_USER;
+        this.username = username;
+        this.ipAddress = ipAddress;
+        this.storeId = storeId;
+        this.terminalId = terminalId;
+    }
+
+    public RequestMetadata withUser(String userId, String username, String ipAddress) {
+        return new RequestMetadata(requestId, correlationId, userId, username, ipAddress, storeId, terminalId);
+    }
+}
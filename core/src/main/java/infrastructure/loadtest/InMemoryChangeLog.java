@@ -0,0 +1,51 @@
+package infrastructure.loadtest;
+
+import share.sync.Change;
+import share.sync.ChangeCursor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * ChangeTracking for an in-memory repository: latest change per Number, in (version, Number) order
+ * Writes are applied at once (no transaction in flight), so the watermark is simply past the last version.
+ */
+public final class InMemoryChangeLog {
+
+    private static final Comparator<Change> ORDER =
+            Comparator.comparingLong(Change::version).thenComparing(Change::number);
+
+    private final Map<String, Change> latest = new HashMap<>();
+    private final NavigableSet<Change> ordered = new TreeSet<>(ORDER);
+    private long version;
+
+    public synchronized void record(String number, boolean deleted) {
+        Change change = new Change(number, ++version, deleted);
+        Change previous = latest.put(number, change);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+        ordered.add(change);
+    }
+
+    public synchronized long watermark() {
+        return version + 1;
+    }
+
+    public synchronized List<Change> changes(ChangeCursor from, long watermark, int limit) {
+        Change after = new Change(from.afterNumber() != null ? from.afterNumber() : "", from.version(), false);
+        List<Change> changes = new ArrayList<>(Math.min(limit, ordered.size()));
+        for (Change change : ordered.tailSet(after, false)) {
+            if (change.version() >= watermark || changes.size() == limit) {
+                break;
+            }
+            changes.add(change);
+        }
+        return changes;
+    }
+}
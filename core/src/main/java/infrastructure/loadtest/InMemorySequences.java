@@ -0,0 +1,32 @@
+package infrastructure.loadtest;
+
+import infrastructure.persistence.DatabaseSequences;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequences as counters, so NumberAllocator keeps its hi/lo blocks without PostgreSQL
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemorySequences extends DatabaseSequences {
+
+    private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    @Override
+    public Uni<Long> nextValue(String sequenceName, long incrementBy) {
+        // Like a PostgreSQL sequence: starts at 1, then moves by its increment
+        return Uni.createFrom().item(sequences.computeIfAbsent(sequenceName, name -> new AtomicLong(1 - incrementBy))
+                .addAndGet(incrementBy));
+    }
+
+    @Override
+    public Uni<Long> incrementOf(String sequenceName, long incrementBy) {
+        return Uni.createFrom().item(incrementBy);
+    }
+}
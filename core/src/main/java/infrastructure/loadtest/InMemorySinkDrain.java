@@ -0,0 +1,53 @@
+package infrastructure.loadtest;
+
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.reactive.messaging.memory.InMemoryConnector;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.Config;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
+
+/**
+ * In the loadtest profile every channel uses the in-memory connector; its sinks keep every message
+ * they receive, so they are emptied regularly to keep a long run from filling the heap
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemorySinkDrain {
+
+    private static final Pattern OUTGOING_CONNECTOR = Pattern.compile("mp\\.messaging\\.outgoing\\.(.+)\\.connector");
+
+    @Inject
+    @Any
+    InMemoryConnector connector;
+
+    @Inject
+    Config config;
+
+    private List<String> channels;
+
+    @PostConstruct
+    void init() {
+        channels = StreamSupport.stream(config.getPropertyNames().spliterator(), false)
+                .map(OUTGOING_CONNECTOR::matcher)
+                .filter(Matcher::matches)
+                .filter(m -> InMemoryConnector.CONNECTOR.equals(config.getOptionalValue(m.group(), String.class).orElse(null)))
+                .map(m -> m.group(1))
+                .distinct()
+                .toList();
+    }
+
+    @Scheduled(every = "${honeybee.loadtest.sink-drain-interval:1s}")
+    void drain() {
+        for (String channel : channels) {
+            connector.sink(channel).clear();
+        }
+    }
+}
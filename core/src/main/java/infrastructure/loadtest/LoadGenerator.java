@@ -0,0 +1,197 @@
+package infrastructure.loadtest;
+
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.http.RequestOptions;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process HTTP load generator: drives this service's REST endpoints over its own HTTP port
+ * With the in-memory adapters behind them, the numbers are the cost of the framework, filters,
+ * services and serialization, without PostgreSQL or Kafka. Client and server share the CPU, so
+ * compare runs with each other rather than with a remote load test.
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class LoadGenerator {
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+
+    @Inject
+    Vertx vertx;
+
+    @ConfigProperty(name = "quarkus.http.port", defaultValue = "8080")
+    int port;
+
+    @ConfigProperty(name = "honeybee.numbering.digits", defaultValue = "8")
+    int digits;
+
+    @ConfigProperty(name = "honeybee.loadtest.request-timeout", defaultValue = "10s")
+    Duration requestTimeout;
+
+    public Uni<LoadReport> run(LoadRun run) {
+        if (run.path == null || !run.path.startsWith("/")) {
+            return Uni.createFrom().failure(new IllegalArgumentException("path must start with /"));
+        }
+        if (run.concurrency < 1 || run.durationSeconds < 1 || run.warmupSeconds < 0 || run.range < 1) {
+            return Uni.createFrom().failure(new IllegalArgumentException(
+                    "concurrency, durationSeconds and range must be positive, warmupSeconds not negative"));
+        }
+        HttpMethod method = HttpMethod.valueOf(run.method.toUpperCase());
+        HttpClient client = vertx.createHttpClient(
+                new HttpClientOptions().setDefaultHost("localhost").setDefaultPort(port).setKeepAlive(true),
+                new PoolOptions().setHttp1MaxSize(run.concurrency));
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(run.warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(run.durationSeconds);
+
+        List<Future<Void>> connections = new ArrayList<>(run.concurrency);
+        List<Connection> results = new ArrayList<>(run.concurrency);
+        for (int i = 0; i < run.concurrency; i++) {
+            Connection connection = new Connection(client, run, method, measureFrom, end);
+            results.add(connection);
+            connections.add(connection.start());
+        }
+
+        return Uni.createFrom().completionStage(() -> Future.join(connections).toCompletionStage())
+                .eventually(() -> Uni.createFrom().completionStage(client.close().toCompletionStage()))
+                .map(ignored -> report(run, results, end - measureFrom));
+    }
+
+    private LoadReport report(LoadRun run, List<Connection> connections, long measuredNanos) {
+        LoadReport report = new LoadReport();
+        report.method = run.method.toUpperCase();
+        report.path = run.path;
+        report.concurrency = run.concurrency;
+        report.durationMs = TimeUnit.NANOSECONDS.toMillis(measuredNanos);
+
+        int total = 0;
+        for (Connection connection : connections) {
+            total += connection.count;
+            report.errors += connection.errors;
+            connection.statuses.forEach((status, count) -> report.statuses.merge(status, count, Long::sum));
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Connection connection : connections) {
+            System.arraycopy(connection.latencies, 0, latencies, offset, connection.count);
+            offset += connection.count;
+        }
+        Arrays.sort(latencies);
+
+        report.requests = total + report.errors;
+        report.throughputPerSecond = report.requests / (measuredNanos / 1e9);
+        Map<String, Double> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("mean", total == 0 ? 0 : toMillis(Arrays.stream(latencies).sum() / total));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            latencyMs.put(PERCENTILE_NAMES[i], total == 0 ? 0 : toMillis(latencies[(int) Math.ceil(PERCENTILES[i] * total) - 1]));
+        }
+        latencyMs.put("max", total == 0 ? 0 : toMillis(latencies[total - 1]));
+        report.latencyMs = latencyMs;
+        return report;
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * One keep-alive connection's request loop; its callbacks run one at a time, so no locking
+     */
+    private final class Connection {
+        private final HttpClient client;
+        private final LoadRun run;
+        private final HttpMethod method;
+        private final long measureFrom;
+        private final long end;
+        private final Buffer body;
+        private final Promise<Void> done = Promise.promise();
+
+        long[] latencies = new long[1024];
+        int count;
+        long errors;
+        final Map<Integer, Long> statuses = new LinkedHashMap<>();
+
+        Connection(HttpClient client, LoadRun run, HttpMethod method, long measureFrom, long end) {
+            this.client = client;
+            this.run = run;
+            this.method = method;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            this.body = run.body != null ? Buffer.buffer(run.body) : null;
+        }
+
+        Future<Void> start() {
+            next();
+            return done.future();
+        }
+
+        private void next() {
+            long sent = System.nanoTime();
+            if (sent >= end) {
+                done.complete();
+                return;
+            }
+            RequestOptions options = new RequestOptions()
+                    .setMethod(method)
+                    .setURI(uri())
+                    .setIdleTimeout(requestTimeout.toMillis());
+            run.headers.forEach(options::putHeader);
+            if (body != null && !run.headers.containsKey("Content-Type")) {
+                options.putHeader("Content-Type", "application/json");
+            }
+            client.request(options)
+                    .compose(request -> body != null ? request.send(body) : request.send())
+                    // Read the whole body: the response isn't served until it is
+                    .compose(response -> response.body().map(ignored -> response.statusCode()))
+                    .onComplete(result -> {
+                        long received = System.nanoTime();
+                        if (sent >= measureFrom) {
+                            if (result.succeeded()) {
+                                record(received - sent, result.result());
+                            } else {
+                                errors++;
+                            }
+                        }
+                        next();
+                    });
+        }
+
+        private void record(long latencyNanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        private String uri() {
+            if (!run.path.contains("{n}")) {
+                return run.path;
+            }
+            String n = Long.toString(ThreadLocalRandom.current().nextLong(1, run.range + 1L));
+            return run.path.replace("{n}", "0".repeat(Math.max(0, digits - n.length())) + n);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package infrastructure.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of a LoadRun; warm-up requests are not counted
+ */
+public class LoadReport {
+    public String method;
+    public String path;
+    public int concurrency;
+    public long durationMs;
+    public long requests;
+    // Connection failures and timeouts (no HTTP status)
+    public long errors;
+    public Map<Integer, Long> statuses = new TreeMap<>();
+    public double throughputPerSecond;
+    // mean, p50, p90, p99, p99.9 and max
+    public Map<String, Double> latencyMs;
+}
@@ -0,0 +1,20 @@
+package infrastructure.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One load run against this service's own HTTP port (body of POST /loadtest/run)
+ * "{n}" in the path becomes a random Number suffix in [1, range], e.g. /api/products/PRD-{n}.
+ */
+public class LoadRun {
+    public String method = "GET";
+    public String path;
+    public String body;
+    public Map<String, String> headers = new LinkedHashMap<>();
+    public int range = 1;
+    // Closed loop: each connection sends its next request once the previous response is read
+    public int concurrency = 32;
+    public int warmupSeconds = 5;
+    public int durationSeconds = 30;
+}
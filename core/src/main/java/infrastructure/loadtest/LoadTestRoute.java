@@ -0,0 +1,40 @@
+package infrastructure.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import infrastructure.web.RunRoute;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.Router;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * POST /loadtest/run with a LoadRun body; answers with the LoadReport once the run is over
+ * A plain Vert.x route: it stays outside the admission and rate limits of the endpoints it drives.
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class LoadTestRoute {
+
+    static final String PATH = "/loadtest/run";
+
+    @Inject
+    LoadGenerator generator;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    void register(@Observes Router router) {
+        router.post(PATH).handler(new RunRoute<>(objectMapper, LoadRun.class, "LOAD_RUN", this::run));
+    }
+
+    private Uni<LoadReport> run(LoadRun run) {
+        Log.infof("🏋️ Load run: %s %s x%d for %ds (+%ds warm-up)",
+                run.method, run.path, run.concurrency, run.durationSeconds, run.warmupSeconds);
+        return generator.run(run)
+                .invoke(report -> Log.infof("🏋️ %s %s: %.0f req/s, p99 %.3f ms",
+                        report.method, report.path, report.throughputPerSecond, report.latencyMs.get("p99")));
+    }
+}
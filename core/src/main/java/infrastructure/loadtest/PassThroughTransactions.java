@@ -0,0 +1,22 @@
+package infrastructure.loadtest;
+
+import infrastructure.persistence.Transactions;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.function.Supplier;
+
+/**
+ * No database, no transaction: the work runs as is against the in-memory repositories
+ * Nothing is rolled back on failure, which a load test doesn't rely on.
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class PassThroughTransactions extends Transactions {
+
+    @Override
+    public <T> Uni<T> withTransaction(Supplier<Uni<T>> work) {
+        return committing(() -> Uni.createFrom().deferred(work::get));
+    }
+}
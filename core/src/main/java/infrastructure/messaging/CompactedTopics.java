@@ -0,0 +1,61 @@
+package infrastructure.messaging;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the state-feed topics as compacted topics before anything is published to them
+ * Broker auto-creation would make them delete-policy topics, so consumers could no longer rebuild
+ * their views from the topic alone. Existing topics are left as they are.
+ */
+@ApplicationScoped
+public class CompactedTopics {
+
+    @ConfigProperty(name = "honeybee.state-feed.compacted-topics")
+    Optional<List<String>> topics;
+
+    @ConfigProperty(name = "honeybee.state-feed.partitions", defaultValue = "6")
+    int partitions;
+
+    @ConfigProperty(name = "honeybee.state-feed.replication-factor", defaultValue = "1")
+    short replicationFactor;
+
+    @ConfigProperty(name = "mp.messaging.connector.smallrye-kafka.bootstrap.servers", defaultValue = "localhost:9092")
+    String bootstrapServers;
+
+    void onStart(@Observes StartupEvent event) {
+        if (topics.isEmpty() || topics.get().isEmpty()) {
+            return;
+        }
+        try (Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+            Set<String> missing = new HashSet<>(topics.get());
+            missing.removeAll(admin.listTopics().names().get(10, TimeUnit.SECONDS));
+            if (missing.isEmpty()) {
+                return;
+            }
+            List<NewTopic> newTopics = missing.stream()
+                    .map(name -> new NewTopic(name, partitions, replicationFactor)
+                            .configs(Map.of(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT)))
+                    .toList();
+            admin.createTopics(newTopics).all().get(10, TimeUnit.SECONDS);
+            Log.infof("Created compacted topics %s", missing);
+        } catch (Exception e) {
+            // Another replica may have created them first; otherwise publishing still works on auto-created topics
+            Log.warnf(e, "Could not create compacted topics %s: %s", topics.get(), e.getMessage());
+        }
+    }
+}
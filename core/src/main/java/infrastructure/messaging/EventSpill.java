@@ -0,0 +1,87 @@
+package infrastructure.messaging;
+
+import infrastructure.metrics.MessagingMetrics;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Disk-backed spill for fire-and-forget Kafka channels (logs, error audits): one SpillJournal per channel
+ * under honeybee.spill.directory, replayed in order while the broker accepts sends again
+ * spill.events{channel, outcome=spilled|replayed|dropped} counts events; spill.pending.bytes{channel} is the backlog.
+ */
+@ApplicationScoped
+public class EventSpill {
+
+    @Inject
+    MessagingMetrics messagingMetrics;
+
+    @ConfigProperty(name = "honeybee.spill.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "honeybee.spill.directory", defaultValue = "data/spill")
+    String directory;
+
+    @ConfigProperty(name = "honeybee.spill.segment-size", defaultValue = "16M")
+    MemorySize segmentSize;
+
+    // Per channel; once reached, new events are dropped (and counted) until replay frees a segment
+    @ConfigProperty(name = "honeybee.spill.max-size", defaultValue = "256M")
+    MemorySize maxSize;
+
+    @ConfigProperty(name = "honeybee.spill.fsync", defaultValue = "INTERVAL")
+    SpillJournal.Fsync fsync;
+
+    @ConfigProperty(name = "honeybee.spill.replay-batch", defaultValue = "100")
+    int replayBatch;
+
+    private final Map<String, SpillingEmitter> channels = new ConcurrentHashMap<>();
+
+    /**
+     * The spilling emitter of a channel; one per channel, whoever asks first
+     */
+    public SpillingEmitter wrap(String channel, Emitter<String> emitter) {
+        return channels.computeIfAbsent(channel, name -> new SpillingEmitter(name, emitter, open(name), messagingMetrics, replayBatch));
+    }
+
+    private SpillJournal open(String channel) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            return new SpillJournal(Path.of(directory, channel), (int) segmentSize.asLongValue(), maxSize.asLongValue(), fsync);
+        } catch (RuntimeException e) {
+            Log.errorf(e, "Cannot open spill journal for %s; its events are dropped while Kafka is unavailable", channel);
+            return null;
+        }
+    }
+
+    @Scheduled(every = "${honeybee.spill.replay-interval:1s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> replay() {
+        List<SpillingEmitter> emitters = List.copyOf(channels.values());
+        return Multi.createFrom().iterable(emitters)
+                .onItem().transformToUniAndConcatenate(SpillingEmitter::replay)
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    @Scheduled(every = "${honeybee.spill.fsync-interval:1s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void sync() {
+        if (fsync == SpillJournal.Fsync.INTERVAL) {
+            channels.values().forEach(SpillingEmitter::sync);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package infrastructure.messaging;
+
+import domain.entity.outbox.OutboxMessage;
+import infrastructure.context.RequestContext;
+import infrastructure.metrics.MessagingMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.logging.Log;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.MutinyEmitter;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Drains the transactional outbox to Kafka
+ * One replica relays at a time (transaction-scoped advisory lock), and within a batch the rows of a key
+ * are sent one after the other in id order. Ids are drawn per row (see OutboxWriter), so a key's id order
+ * is its commit order across replicas, and its messages reach Kafka in that order.
+ * A failed row is retried with backoff and holds back the later rows of its key; after max-attempts it
+ * is dead-lettered (dead_at set) so it no longer blocks them.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "honeybee.outbox.relay.enabled", stringValue = "true")
+public class OutboxRelay {
+
+    private static final String RELAY_LOCK_SQL = "select pg_try_advisory_xact_lock(hashtext('outbox_relay'))";
+
+    // Oldest due rows, skipping every key that has an earlier row still waiting out its backoff
+    private static final String CLAIM_BATCH_SQL =
+            "select * from outbox_messages m where m.sent_at is null and m.dead_at is null"
+                    + " and (m.next_attempt_at is null or m.next_attempt_at <= ?1)"
+                    + " and not exists (select 1 from outbox_messages w where w.message_key = m.message_key"
+                    + " and w.id < m.id and w.sent_at is null and w.dead_at is null and w.next_attempt_at > ?1)"
+                    + " order by m.id limit %d for update";
+
+    private static final String PURGE_SQL =
+            "delete from outbox_messages where id in "
+                    + "(select id from outbox_messages where sent_at < ?1 order by id limit %d)";
+
+    @Inject
+    @Channel("outbox")
+    @OnOverflow(OnOverflow.Strategy.UNBOUNDED_BUFFER) // bounded by batch-size
+    MutinyEmitter<String> emitter;
+
+    @Inject
+    MessagingMetrics messagingMetrics;
+
+    @ConfigProperty(name = "honeybee.outbox.relay.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "honeybee.outbox.relay.max-batches-per-run", defaultValue = "20")
+    int maxBatchesPerRun;
+
+    @ConfigProperty(name = "honeybee.outbox.relay.publish-timeout", defaultValue = "10s")
+    Duration publishTimeout;
+
+    @ConfigProperty(name = "honeybee.outbox.retention", defaultValue = "1h")
+    Duration retention;
+
+    @ConfigProperty(name = "honeybee.outbox.relay.max-attempts", defaultValue = "30")
+    int maxAttempts;
+
+    @ConfigProperty(name = "honeybee.outbox.relay.retry-backoff", defaultValue = "1s")
+    Duration retryBackoff;
+
+    @ConfigProperty(name = "honeybee.outbox.relay.max-retry-backoff", defaultValue = "5m")
+    Duration maxRetryBackoff;
+
+    private final Counter deadLettered = Counter.builder("outbox.dead.lettered")
+            .description("Outbox messages given up after max-attempts")
+            .register(Metrics.globalRegistry);
+
+    @Scheduled(every = "${honeybee.outbox.relay.interval:200ms}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> relay() {
+        // Keep draining while batches come back full, up to max-batches-per-run
+        return Uni.createFrom().deferred(this::relayBatch)
+                .repeat().whilst(sent -> sent == batchSize)
+                .select().first(maxBatchesPerRun)
+                .onItem().ignoreAsUni()
+                .onFailure().invoke(ex -> Log.errorf(ex, "❌ Outbox relay run failed: %s", ex.getMessage()))
+                .onFailure().recoverWithNull();
+    }
+
+    @Scheduled(every = "${honeybee.outbox.cleanup.interval:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> purgeSent() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        return Panache.withTransaction(() -> Panache.getSession()
+                        .chain(session -> session
+                                .createNativeQuery(PURGE_SQL.formatted(batchSize * 10))
+                                .setParameter(1, cutoff)
+                                .executeUpdate()))
+                .invoke(deleted -> {
+                    if (deleted > 0) {
+                        Log.debugf("🧹 Purged %d relayed outbox messages", deleted);
+                    }
+                })
+                .onFailure().invoke(ex -> Log.warnf(ex, "Outbox purge failed: %s", ex.getMessage()))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    /**
+     * Claim one batch, publish it and settle it, all in one transaction
+     * (row locks and the relay lock are held until the batch is settled)
+     */
+    Uni<Integer> relayBatch() {
+        return Panache.withTransaction(() -> Panache.getSession()
+                .chain(session -> session
+                        .createNativeQuery(RELAY_LOCK_SQL, Boolean.class)
+                        .getSingleResult()
+                        .chain(locked -> !locked
+                                // Another replica is relaying
+                                ? Uni.createFrom().item(List.<OutboxMessage>of())
+                                : session.createNativeQuery(CLAIM_BATCH_SQL.formatted(batchSize), OutboxMessage.class)
+                                        .setParameter(1, LocalDateTime.now())
+                                        .getResultList()))
+                .chain(batch -> batch.isEmpty()
+                        ? Uni.createFrom().item(0)
+                        : publish(batch).chain(outcome -> settle(batch.size(), outcome)).replaceWith(batch.size())));
+    }
+
+    /**
+     * Keyless rows are sent independently; the rows of a key in id order, stopping at its first failure
+     */
+    Uni<Outcome> publish(List<OutboxMessage> batch) {
+        Map<String, List<OutboxMessage>> byKey = new LinkedHashMap<>();
+        List<List<OutboxMessage>> lanes = new ArrayList<>();
+        for (OutboxMessage message : batch) {
+            if (message.messageKey == null) {
+                lanes.add(List.of(message));
+            } else {
+                byKey.computeIfAbsent(message.messageKey, key -> new ArrayList<>()).add(message);
+            }
+        }
+        lanes.addAll(byKey.values());
+
+        Outcome outcome = new Outcome();
+        List<Uni<Void>> sends = new ArrayList<>(lanes.size());
+        for (List<OutboxMessage> lane : lanes) {
+            sends.add(publishInOrder(lane, 0, outcome));
+        }
+        return Uni.join().all(sends).andFailFast().replaceWith(outcome);
+    }
+
+    private Uni<Void> publishInOrder(List<OutboxMessage> lane, int index, Outcome outcome) {
+        if (index == lane.size()) {
+            return Uni.createFrom().voidItem();
+        }
+        OutboxMessage message = lane.get(index);
+        return send(message).chain(acked -> {
+            if (!acked) {
+                // The rest of the lane stays pending behind this row's backoff
+                outcome.failed.add(message);
+                return Uni.createFrom().voidItem();
+            }
+            outcome.sentIds.add(message.id);
+            return publishInOrder(lane, index + 1, outcome);
+        });
+    }
+
+    Uni<Boolean> send(OutboxMessage message) {
+        return messagingMetrics.track("outbox", emitter.sendMessage(Message.of(message.payload)
+                        .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
+                                .withTopic(message.topic)
+                                .withKey(message.messageKey)
+                                .withHeaders(RequestContext.kafkaHeaders(message.requestId, message.correlationId))
+                                .build())))
+                .ifNoItem().after(publishTimeout).fail()
+                .replaceWith(true)
+                .onFailure().invoke(ex -> Log.warnf("Outbox message %d to %s not acknowledged: %s",
+                        message.id, message.topic, ex.getMessage()))
+                .onFailure().recoverWithItem(false);
+    }
+
+    private Uni<Void> settle(int claimed, Outcome outcome) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = List.copyOf(outcome.sentIds);
+        Uni<Void> settled = sentIds.isEmpty()
+                ? Uni.createFrom().voidItem()
+                : OutboxMessage.update("sentAt = ?1 where id in ?2", now, sentIds).replaceWithVoid();
+        if (outcome.failed.isEmpty()) {
+            return settled;
+        }
+
+        Settlement settlement = settlement(outcome.failed);
+        List<Long> dead = settlement.dead();
+        Log.warnf("⚠️ Outbox relay: %d of %d messages not acknowledged, %d dead-lettered; later messages of their keys wait",
+                outcome.failed.size(), claimed, dead.size());
+
+        for (Map.Entry<Integer, List<Long>> retry : settlement.retries().entrySet()) {
+            LocalDateTime retryAt = now.plus(backoff(retry.getKey()));
+            settled = settled
+                    .chain(() -> OutboxMessage.update("attempts = attempts + 1, nextAttemptAt = ?1 where id in ?2",
+                            retryAt, retry.getValue()))
+                    .replaceWithVoid();
+        }
+        if (!dead.isEmpty()) {
+            deadLettered.increment(dead.size());
+            settled = settled
+                    .chain(() -> OutboxMessage.update("attempts = attempts + 1, deadAt = ?1 where id in ?2", now, dead))
+                    .replaceWithVoid();
+        }
+        return settled;
+    }
+
+    /**
+     * Splits failed rows into retry groups (attempts after this failure -> ids, so each group shares one
+     * backoff) and the rows that reached max-attempts
+     */
+    Settlement settlement(Collection<OutboxMessage> failed) {
+        Map<Integer, List<Long>> retries = new TreeMap<>();
+        List<Long> dead = new ArrayList<>();
+        for (OutboxMessage message : failed) {
+            int attempts = message.attempts + 1;
+            if (attempts >= maxAttempts) {
+                Log.errorf("💀 Outbox message %d to %s (key %s) dead-lettered after %d attempts",
+                        message.id, message.topic, message.messageKey, attempts);
+                dead.add(message.id);
+            } else {
+                retries.computeIfAbsent(attempts, key -> new ArrayList<>()).add(message.id);
+            }
+        }
+        return new Settlement(retries, dead);
+    }
+
+    /**
+     * retry-backoff doubled per attempt, capped at max-retry-backoff
+     */
+    Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    record Settlement(Map<Integer, List<Long>> retries, List<Long> dead) {
+    }
+
+    /**
+     * Results of one batch; lanes complete on producer threads
+     */
+    static final class Outcome {
+        final Queue<Long> sentIds = new ConcurrentLinkedQueue<>();
+        final Queue<OutboxMessage> failed = new ConcurrentLinkedQueue<>();
+    }
+}
@@ -0,0 +1,47 @@
+package infrastructure.messaging;
+
+import domain.entity.outbox.OutboxMessage;
+import infrastructure.context.RequestContext;
+import infrastructure.context.RequestMetadata;
+import infrastructure.persistence.DatabaseSequences;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Writes messages to the transactional outbox
+ * Must be called inside the caller's transaction (@WithTransaction) so the message
+ * commits or rolls back together with the business change
+ */
+@ApplicationScoped
+public class OutboxWriter {
+
+    // The sequence Hibernate created for the former generated id. Its increment is the old pool size, so a
+    // value taken here lies in a block no replica still running the pooled generator will hand out.
+    static final String ID_SEQUENCE = "outbox_messages_seq";
+    private static final long ID_INCREMENT = 50;
+
+    @Inject
+    DatabaseSequences sequences;
+
+    /**
+     * The id is drawn per row, after the caller has read (and, for an update, flushed) the entity: writers
+     * of one entity are serialized by its @Version check, so the ids of a key follow its commit order
+     * whichever replica wrote them.
+     */
+    public Uni<Void> enqueue(String topic, String key, String payload) {
+        OutboxMessage message = new OutboxMessage();
+        message.topic = topic;
+        message.messageKey = key;
+        message.payload = payload;
+        RequestMetadata context = RequestContext.current();
+        message.requestId = context.requestId;
+        message.correlationId = context.correlationId;
+        return sequences.nextValue(ID_SEQUENCE, ID_INCREMENT)
+                .chain(id -> {
+                    message.id = id;
+                    return message.persist();
+                })
+                .replaceWithVoid();
+    }
+}
@@ -0,0 +1,290 @@
+package infrastructure.messaging;
+
+import io.quarkus.logging.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of opaque records in memory-mapped segment files, read back in append order
+ * Record: [length][crc32c][payload]. The length is written last, so a torn append reads as the end
+ * of the journal after a crash. Consumed records are tracked by a checkpoint file; fully consumed
+ * segments are deleted. Appends are refused once the segments would exceed maxBytes.
+ */
+public final class SpillJournal {
+
+    public enum Fsync {
+        // force() after every append
+        ALWAYS,
+        // force() when sync() is called, e.g. on a timer
+        INTERVAL,
+        // leave it to the OS page cache
+        NEVER
+    }
+
+    public record Batch(List<byte[]> records, long segment, int position) {
+    }
+
+    private static final int HEADER = 8;
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxBytes;
+    private final Fsync fsync;
+
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Path checkpointFile;
+    private long readSegment;
+    private int readPosition;
+    private boolean dirty;
+
+    private static final class Segment {
+        final long sequence;
+        final Path path;
+        final MappedByteBuffer buffer;
+        int writePosition;
+
+        Segment(long sequence, Path path, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    public SpillJournal(Path directory, int segmentSize, long maxBytes, Fsync fsync) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxBytes = maxBytes;
+        this.fsync = fsync;
+        this.checkpointFile = directory.resolve("checkpoint");
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open spill journal in " + directory, e);
+        }
+    }
+
+    /**
+     * False if the record does not fit: larger than a segment, or the journal is at maxBytes
+     */
+    public synchronized boolean append(byte[] payload) {
+        int size = HEADER + payload.length;
+        if (size > segmentSize) {
+            return false;
+        }
+        Segment head = segments.peekLast();
+        if (head == null || segmentSize - head.writePosition < size) {
+            if ((long) (segments.size() + 1) * segmentSize > maxBytes) {
+                return false;
+            }
+            head = open(head == null ? readSegment : head.sequence + 1);
+            segments.addLast(head);
+        }
+        int position = head.writePosition;
+        if (position + size + 4 <= segmentSize) {
+            // Recovery may have cut the segment short; end it here so records left after the cut can't come back
+            head.buffer.putInt(position + size, 0);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        head.buffer.putInt(position + 4, (int) crc.getValue());
+        head.buffer.put(position + HEADER, payload);
+        head.buffer.putInt(position, payload.length);
+        head.writePosition += size;
+        if (fsync == Fsync.ALWAYS) {
+            head.buffer.force(position, size);
+        } else {
+            dirty = true;
+        }
+        return true;
+    }
+
+    /**
+     * Up to max records after the checkpoint, not yet consumed; commit() the batch once they are delivered
+     */
+    public synchronized Batch read(int max) {
+        List<byte[]> records = new ArrayList<>();
+        long segment = readSegment;
+        int position = readPosition;
+        for (Segment current : segments) {
+            if (current.sequence < segment) {
+                continue;
+            }
+            if (current.sequence > segment) {
+                segment = current.sequence;
+                position = 0;
+            }
+            while (records.size() < max && position < current.writePosition) {
+                int length = current.buffer.getInt(position);
+                byte[] payload = new byte[length];
+                current.buffer.get(position + HEADER, payload);
+                records.add(payload);
+                position += HEADER + length;
+            }
+            if (records.size() == max) {
+                break;
+            }
+        }
+        return new Batch(records, segment, position);
+    }
+
+    public synchronized void commit(Batch batch) {
+        readSegment = batch.segment();
+        readPosition = batch.position();
+        while (segments.size() > 1 && segments.peekFirst().sequence < readSegment) {
+            delete(segments.removeFirst());
+        }
+        Segment last = segments.peekLast();
+        // Fully consumed: start over at the beginning of a fresh segment instead of growing this one
+        if (last != null && last.sequence == readSegment && readPosition == last.writePosition && segments.size() == 1) {
+            segments.removeFirst();
+            delete(last);
+            readSegment = last.sequence + 1;
+            readPosition = 0;
+        }
+        writeCheckpoint();
+    }
+
+    public synchronized boolean isEmpty() {
+        return pendingBytes() == 0;
+    }
+
+    /**
+     * Bytes appended and not yet consumed
+     */
+    public synchronized long pendingBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            if (segment.sequence >= readSegment) {
+                bytes += segment.writePosition - (segment.sequence == readSegment ? readPosition : 0);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Forces appends since the last call to disk (Fsync.INTERVAL)
+     */
+    public synchronized void sync() {
+        if (!dirty) {
+            return;
+        }
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+        dirty = false;
+    }
+
+    private void recover() throws IOException {
+        readCheckpoint();
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            long sequence = sequenceOf(file);
+            if (sequence < readSegment) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            Segment segment = open(sequence);
+            segment.writePosition = scan(segment);
+            if (sequence == readSegment && readPosition > segment.writePosition) {
+                readPosition = segment.writePosition; // checkpoint past a corrupt tail
+            }
+            segments.addLast(segment);
+        }
+        if (!segments.isEmpty()) {
+            Log.infof("📼 Spill journal %s holds %d bytes to replay", directory, pendingBytes());
+        }
+    }
+
+    /**
+     * End of the valid records: the first empty, truncated or corrupt record ends the segment
+     */
+    private int scan(Segment segment) {
+        int position = 0;
+        CRC32C crc = new CRC32C();
+        while (position + HEADER <= segmentSize) {
+            int length = segment.buffer.getInt(position);
+            if (length <= 0 || position + HEADER + length > segmentSize) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            segment.buffer.get(position + HEADER, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != segment.buffer.getInt(position + 4)) {
+                Log.warnf("Spill segment %s is corrupt at %d; records after it are dropped", segment.path, position);
+                break;
+            }
+            position += HEADER + length;
+        }
+        return position;
+    }
+
+    private Segment open(long sequence) {
+        Path path = directory.resolve(String.format("%020d%s", sequence, SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed; a new file reads as zeros (no records)
+            return new Segment(sequence, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map spill segment " + path, e);
+        }
+    }
+
+    private void delete(Segment segment) {
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            Log.warnf(e, "Could not delete consumed spill segment %s", segment.path);
+        }
+    }
+
+    private void readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return;
+        }
+        ByteBuffer checkpoint = ByteBuffer.wrap(Files.readAllBytes(checkpointFile));
+        if (checkpoint.remaining() >= 12) {
+            readSegment = checkpoint.getLong();
+            readPosition = checkpoint.getInt();
+        }
+    }
+
+    private void writeCheckpoint() {
+        ByteBuffer checkpoint = ByteBuffer.allocate(12).putLong(readSegment).putInt(readPosition).flip();
+        try (FileChannel channel = FileChannel.open(checkpointFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(checkpoint);
+            if (fsync != Fsync.NEVER) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            // Only costs duplicates: the records are replayed again after a restart
+            Log.warnf(e, "Could not write spill checkpoint %s", checkpointFile);
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
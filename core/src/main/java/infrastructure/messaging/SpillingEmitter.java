@@ -0,0 +1,207 @@
+package infrastructure.messaging;
+
+import infrastructure.context.RequestContext;
+import infrastructure.metrics.MessagingMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fire-and-forget Kafka emitter that spills to a local journal instead of buffering or dropping
+ * An event goes to the journal when the emitter has no demand (broker down or slow), its send is
+ * rejected or nacked, or older events are still waiting there; EventSpill replays the journal in
+ * order once the emitter has demand again. Delivery of replayed events is at least once.
+ * Order holds among spilled events, not across a nack: events sent while an earlier one is still
+ * unacknowledged can reach Kafka before it if that one is nacked and spilled. These are logs and audit
+ * errors, each timestamped, so the fast path doesn't wait for acknowledgements to keep order.
+ */
+public final class SpillingEmitter {
+
+    private record Event(String key, String requestId, String correlationId, String payload) {
+    }
+
+    private final String channel;
+    private final Emitter<String> emitter;
+    private final SpillJournal journal;
+    private final MessagingMetrics messagingMetrics;
+    private final int replayBatch;
+
+    private final Counter spilled;
+    private final Counter replayed;
+    private final Counter dropped;
+    private volatile boolean full;
+    // Set while the journal may hold events, so send() doesn't take the journal's lock to find out
+    private volatile boolean spilling;
+
+    SpillingEmitter(String channel, Emitter<String> emitter, SpillJournal journal, MessagingMetrics messagingMetrics, int replayBatch) {
+        this.channel = channel;
+        this.emitter = emitter;
+        this.journal = journal;
+        this.messagingMetrics = messagingMetrics;
+        this.replayBatch = replayBatch;
+        this.spilled = Counter.builder("spill.events").tag("channel", channel).tag("outcome", "spilled").register(Metrics.globalRegistry);
+        this.replayed = Counter.builder("spill.events").tag("channel", channel).tag("outcome", "replayed").register(Metrics.globalRegistry);
+        this.dropped = Counter.builder("spill.events").tag("channel", channel).tag("outcome", "dropped").register(Metrics.globalRegistry);
+        if (journal != null) {
+            Gauge.builder("spill.pending.bytes", journal, SpillJournal::pendingBytes).tag("channel", channel).register(Metrics.globalRegistry);
+            spilling = !journal.isEmpty();
+        }
+    }
+
+    /**
+     * Keyed by key, with the request/correlation headers; never blocks and never throws
+     */
+    public void send(String key, String requestId, String correlationId, String payload) {
+        Event event = new Event(key, requestId, correlationId, payload);
+        if (journal != null && (spilling || !emitter.hasRequests())) {
+            spill(event);
+            return;
+        }
+        try {
+            emitter.send(messagingMetrics.track(channel, message(event).withNack(failure -> {
+                spill(event);
+                return CompletableFuture.completedFuture(null);
+            })));
+        } catch (Exception e) {
+            messagingMetrics.failed(channel);
+            spill(event);
+        }
+    }
+
+    /**
+     * Sends one batch from the journal and commits it once the broker acknowledged all of it
+     */
+    Uni<Void> replay() {
+        if (journal == null || !spilling || !emitter.hasRequests()) {
+            return Uni.createFrom().voidItem();
+        }
+        SpillJournal.Batch batch = journal.read(replayBatch);
+        if (batch.records().isEmpty()) {
+            journal.commit(batch);
+            drained();
+            return Uni.createFrom().voidItem();
+        }
+        List<Uni<Void>> sends = batch.records().stream().map(record -> resend(decode(record))).toList();
+        return Uni.join().all(sends).andFailFast()
+                .invoke(() -> {
+                    journal.commit(batch);
+                    replayed.increment(batch.records().size());
+                    if (drained()) {
+                        Log.infof("📤 Spilled %s events replayed", channel);
+                    }
+                })
+                .onFailure().invoke(e -> Log.warnf("Replay of spilled %s events failed, retrying: %s", channel, e.getMessage()))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    /**
+     * Clears the spilling flag if the journal is empty; cleared before checking, so a concurrent spill sets it again
+     */
+    private boolean drained() {
+        spilling = false;
+        if (!journal.isEmpty()) {
+            spilling = true;
+            return false;
+        }
+        return true;
+    }
+
+    void sync() {
+        if (journal != null) {
+            journal.sync();
+        }
+    }
+
+    private Uni<Void> resend(Event event) {
+        return Uni.createFrom().completionStage(() -> {
+            CompletableFuture<Void> acked = new CompletableFuture<>();
+            emitter.send(messagingMetrics.track(channel, message(event)
+                    .withAck(() -> {
+                        acked.complete(null);
+                        return CompletableFuture.completedFuture(null);
+                    })
+                    .withNack(failure -> {
+                        acked.completeExceptionally(failure);
+                        return CompletableFuture.completedFuture(null);
+                    })));
+            return acked;
+        });
+    }
+
+    private Message<String> message(Event event) {
+        return Message.of(event.payload())
+                .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
+                        .withKey(event.key())
+                        .withHeaders(RequestContext.kafkaHeaders(event.requestId(), event.correlationId()))
+                        .build());
+    }
+
+    private void spill(Event event) {
+        if (journal != null && journal.append(encode(event))) {
+            spilling = true;
+            spilled.increment();
+            if (full) {
+                full = false;
+                Log.infof("Spill journal for %s accepts events again", channel);
+            }
+            return;
+        }
+        dropped.increment();
+        if (!full) {
+            full = true;
+            Log.errorf("❌ Spill journal for %s is full or disabled; dropping events until it drains", channel);
+        }
+    }
+
+    private static byte[] encode(Event event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(event.payload().length() + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, event.key());
+            writeString(out, event.requestId());
+            writeString(out, event.correlationId());
+            writeString(out, event.payload());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Event decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            return new Event(readString(in), readString(in), readString(in), readString(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        return length < 0 ? null : new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
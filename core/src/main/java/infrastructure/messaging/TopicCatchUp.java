@@ -0,0 +1,74 @@
+package infrastructure.messaging;
+
+import io.quarkus.logging.Log;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Tells when a view rebuilt from a (compacted) topic has read everything the topic held at startup
+ * Call fetchEndOffsets() once at startup and consumed() for every record; isCaughtUp() stays false
+ * if the end offsets could not be read, so callers fail closed rather than serve a partial view.
+ */
+public final class TopicCatchUp {
+
+    private final String topic;
+    private final String bootstrapServers;
+
+    private final Map<Integer, Long> consumedOffsets = new ConcurrentHashMap<>();
+    private volatile Map<Integer, Long> endOffsets;
+    private volatile boolean caughtUp;
+
+    public TopicCatchUp(String topic, String bootstrapServers) {
+        this.topic = topic;
+        this.bootstrapServers = bootstrapServers;
+    }
+
+    public void fetchEndOffsets() {
+        try (Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+            TopicDescription description = admin.describeTopics(List.of(topic))
+                    .allTopicNames().get(10, TimeUnit.SECONDS).get(topic);
+            Map<TopicPartition, OffsetSpec> request = description.partitions().stream()
+                    .collect(Collectors.toMap(p -> new TopicPartition(topic, p.partition()), p -> OffsetSpec.latest()));
+            endOffsets = admin.listOffsets(request).all().get(10, TimeUnit.SECONDS).entrySet().stream()
+                    .collect(Collectors.toMap(e -> e.getKey().partition(), e -> e.getValue().offset()));
+        } catch (Exception e) {
+            if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+                endOffsets = Map.of(); // nothing published yet: an empty view is complete
+            } else {
+                Log.errorf(e, "Could not read end offsets of %s; its view stays not ready: %s", topic, e.getMessage());
+                return;
+            }
+        }
+        check();
+    }
+
+    public void consumed(int partition, long offset) {
+        consumedOffsets.merge(partition, offset, Math::max);
+        if (!caughtUp) {
+            check();
+        }
+    }
+
+    public boolean isCaughtUp() {
+        return caughtUp;
+    }
+
+    private void check() {
+        Map<Integer, Long> ends = endOffsets;
+        if (ends == null || caughtUp) {
+            return;
+        }
+        caughtUp = ends.entrySet().stream()
+                .allMatch(end -> end.getValue() == 0 || consumedOffsets.getOrDefault(end.getKey(), -1L) >= end.getValue() - 1);
+    }
+}
@@ -0,0 +1,28 @@
+package infrastructure.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for database operations (db.operation{operation, entity, outcome})
+ * Static so it can be used from static helpers such as DatabaseOperationLogger
+ */
+public final class DatabaseMetrics {
+
+    public static final String DB_OPERATION = "db.operation";
+
+    private DatabaseMetrics() {
+    }
+
+    public static void record(String operation, String entityName, boolean success, long durationNanos) {
+        Timer.builder(DB_OPERATION)
+                .description("Database operation latency")
+                .tag("operation", operation)
+                .tag("entity", entityName)
+                .tag("outcome", success ? "success" : "failure")
+                .register(Metrics.globalRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,77 @@
+package infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka send latency (emit to broker ack) and failures per channel
+ * kafka.send{channel, outcome} timer; kafka.send.failures{channel} counts nacks and rejected sends
+ */
+@ApplicationScoped
+public class MessagingMetrics {
+
+    public static final String KAFKA_SEND = "kafka.send";
+
+    @Inject
+    MeterRegistry registry;
+
+    // channel -> timers, avoids a registry lookup per message
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Attach ack/nack callbacks that record the send on completion
+     */
+    public <T> Message<T> track(String channel, Message<T> message) {
+        long start = System.nanoTime();
+        return message
+                .withAck(() -> {
+                    record(channel, true, start);
+                    return message.ack();
+                })
+                .withNack(ex -> {
+                    record(channel, false, start);
+                    return message.nack(ex);
+                });
+    }
+
+    /**
+     * Time a send that completes when the broker acknowledges it
+     */
+    public <T> Uni<T> track(String channel, Uni<T> send) {
+        return Uni.createFrom().deferred(() -> {
+            long start = System.nanoTime();
+            return send
+                    .onItem().invoke(() -> record(channel, true, start))
+                    .onFailure().invoke(() -> record(channel, false, start));
+        });
+    }
+
+    /**
+     * Count a failed send; call directly when the emitter rejects a message before it reaches the producer
+     */
+    public void failed(String channel) {
+        registry.counter(KAFKA_SEND + ".failures", "channel", channel).increment();
+    }
+
+    private void record(String channel, boolean success, long start) {
+        Map<String, Timer> timers = success ? successTimers : failureTimers;
+        timers.computeIfAbsent(channel, key -> Timer.builder(KAFKA_SEND)
+                        .description("Kafka send latency until broker acknowledgement")
+                        .tag("channel", key)
+                        .tag("outcome", success ? "success" : "failure")
+                        .register(registry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!success) {
+            failed(channel);
+        }
+    }
+}
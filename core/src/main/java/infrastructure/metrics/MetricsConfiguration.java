@@ -0,0 +1,53 @@
+package infrastructure.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Shared Micrometer setup: service tag on every meter and latency histograms
+ * (for p95/p99 in Prometheus) on HTTP, DB and Kafka timers
+ */
+@Singleton
+public class MetricsConfiguration {
+
+    private static final List<String> HISTOGRAM_METERS = List.of(
+            "http.server.requests",
+            DatabaseMetrics.DB_OPERATION,
+            MessagingMetrics.KAFKA_SEND);
+
+    @ConfigProperty(name = "quarkus.application.name", defaultValue = "unknown-service")
+    String serviceName;
+
+    @Produces
+    @Singleton
+    public MeterFilter serviceTag() {
+        return MeterFilter.commonTags(List.of(Tag.of("service", serviceName)));
+    }
+
+    @Produces
+    @Singleton
+    public MeterFilter latencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAM_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
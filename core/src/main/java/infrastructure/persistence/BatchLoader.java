@@ -0,0 +1,112 @@
+package infrastructure.persistence;
+
+import infrastructure.context.BackgroundContexts;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces single-key loads issued on the same event loop into one batch query (DataLoader style)
+ * Keys requested while a batch is pending join it; the batch is flushed after the window (or on the
+ * next event-loop turn with a zero window) in its own session, and each caller gets its result back
+ * on its own context. Pending state is per event-loop thread, so it needs no locking.
+ */
+public final class BatchLoader<K, V> {
+
+    private final Vertx vertx;
+    private final Function<Set<K>, Uni<Map<K, V>>> batchFunction;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizes;
+
+    private final Map<Thread, Batch<K, V>> pendingByLoop = new ConcurrentHashMap<>();
+
+    /**
+     * Keys pending on one event loop; identity matters, so a scheduled flush only takes its own batch
+     */
+    private static final class Batch<K, V> {
+        final Map<K, List<Waiter<V>>> waiters = new LinkedHashMap<>();
+        long timerId = -1;
+    }
+
+    private record Waiter<V>(Context context, UniEmitter<? super V> emitter) {
+
+        void complete(V value) {
+            context.runOnContext(ignored -> emitter.complete(value));
+        }
+
+        void fail(Throwable failure) {
+            context.runOnContext(ignored -> emitter.fail(failure));
+        }
+    }
+
+    public BatchLoader(String name, Vertx vertx, Duration window, int maxBatchSize,
+                       Function<Set<K>, Uni<Map<K, V>>> batchFunction) {
+        this.vertx = vertx;
+        this.batchFunction = batchFunction;
+        this.windowMillis = window.toMillis();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = DistributionSummary.builder("db.batch.size")
+                .description("Keys per coalesced batch query")
+                .tag("loader", name)
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Value for the key, or null if the batch query didn't return it
+     */
+    public Uni<V> load(K key) {
+        Context caller = Vertx.currentContext();
+        if (caller == null || !Context.isOnEventLoopThread()) {
+            // Nothing to coalesce with off the event loop
+            return BackgroundContexts.run(vertx, () -> batchFunction.apply(Set.of(key)))
+                    .onItem().transform(results -> results.get(key));
+        }
+        return Uni.createFrom().emitter(emitter -> enqueue(key, new Waiter<>(caller, emitter)));
+    }
+
+    private void enqueue(K key, Waiter<V> waiter) {
+        Thread loop = Thread.currentThread();
+        Batch<K, V> batch = pendingByLoop.computeIfAbsent(loop, thread -> new Batch<>());
+        boolean first = batch.waiters.isEmpty();
+        batch.waiters.computeIfAbsent(key, k -> new ArrayList<>()).add(waiter);
+
+        if (batch.waiters.size() >= maxBatchSize) {
+            if (batch.timerId >= 0) {
+                vertx.cancelTimer(batch.timerId);
+            }
+            flush(loop, batch);
+        } else if (first) {
+            // Timers and runOnContext fire on the current event loop, i.e. the thread owning this batch
+            if (windowMillis > 0) {
+                batch.timerId = vertx.setTimer(windowMillis, id -> flush(loop, batch));
+            } else {
+                waiter.context().runOnContext(ignored -> flush(loop, batch));
+            }
+        }
+    }
+
+    private void flush(Thread loop, Batch<K, V> batch) {
+        if (!pendingByLoop.remove(loop, batch)) {
+            return; // already flushed because it reached maxBatchSize; a newer batch has its own schedule
+        }
+        Map<K, List<Waiter<V>>> waiters = batch.waiters;
+        batchSizes.record(waiters.size());
+        BackgroundContexts.run(vertx, () -> batchFunction.apply(Set.copyOf(waiters.keySet())))
+                .subscribe().with(
+                        results -> waiters.forEach((key, list) -> list.forEach(w -> w.complete(results.get(key)))),
+                        failure -> waiters.values().forEach(list -> list.forEach(w -> w.fail(failure))));
+    }
+}
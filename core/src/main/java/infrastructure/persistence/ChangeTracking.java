@@ -0,0 +1,148 @@
+package infrastructure.persistence;
+
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import share.sync.Change;
+import share.sync.ChangeCursor;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Monotonic change versions for delta sync
+ * A trigger stamps every inserted or updated row with the writing transaction's id and hard deletes
+ * leave a tombstone. Readers only see versions below the oldest transaction still in flight (the
+ * snapshot xmin), so a change that commits late can never fall behind a client's cursor.
+ */
+@ApplicationScoped
+public class ChangeTracking {
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,40}");
+
+    private static final String INSTALL_LOCK_SQL = "select 1 from pg_advisory_xact_lock(hashtext('honeybee.change-tracking'))";
+
+    private static final String STAMP_FUNCTION_SQL = """
+            create or replace function honeybee_stamp_change_version() returns trigger as $$
+            begin
+                new.change_version := txid_current();
+                return new;
+            end
+            $$ language plpgsql""";
+
+    private static final String TOMBSTONE_FUNCTION_SQL = """
+            create or replace function honeybee_record_tombstone() returns trigger as $$
+            begin
+                execute format('insert into %I (number, change_version, deleted_at) values ($1, txid_current(), now()) '
+                        || 'on conflict (number) do update set change_version = excluded.change_version, '
+                        || 'deleted_at = excluded.deleted_at', TG_TABLE_NAME || '_tombstones')
+                    using old.number;
+                return old;
+            end
+            $$ language plpgsql""";
+
+    /**
+     * Idempotently adds the change_version column, triggers, tombstone table and indexes to a table
+     * Each table-level DDL only runs when the catalog shows the object missing. ALTER TABLE takes an ACCESS
+     * EXCLUSIVE lock and CREATE TRIGGER / CREATE INDEX hold off writers even when they turn out to be no-ops,
+     * so a restart against an installed table takes no table lock. A changed trigger definition is therefore
+     * not picked up on its own; the trigger functions it calls are replaced on every install.
+     */
+    @WithTransaction
+    public Uni<Void> install(String tableName) {
+        String table = validate(tableName);
+        List<String> statements = installStatements(table);
+
+        return Panache.getSession()
+                // Serializes concurrent installs from several replicas
+                .chain(session -> session.createNativeQuery(INSTALL_LOCK_SQL).getSingleResult()
+                        .chain(() -> Multi.createFrom().iterable(statements)
+                                .onItem().transformToUniAndConcatenate(sql -> session.createNativeQuery(sql).executeUpdate())
+                                .collect().last()))
+                .invoke(() -> Log.debugf("Change tracking installed on %s", table))
+                .replaceWithVoid();
+    }
+
+    /**
+     * Exclusive upper bound of versions that are safe to hand out: every transaction below it has finished
+     * Must be read before the changes themselves.
+     */
+    @WithSession
+    public Uni<Long> watermark() {
+        return Panache.getSession()
+                .chain(session -> session
+                        .createNativeQuery("select txid_snapshot_xmin(txid_current_snapshot())", Long.class)
+                        .getSingleResult());
+    }
+
+    /**
+     * Up to limit changes after the cursor and below the watermark, in (version, Number) order
+     * Rows still present count as deleted when soft-deleted.
+     */
+    @WithSession
+    public Uni<List<Change>> changes(String tableName, ChangeCursor from, long watermark, int limit) {
+        String table = validate(tableName);
+        String window = " where change_version < ?1 and (change_version > ?2 or (change_version = ?2 and number > ?3))";
+        String sql = "select number, change_version, (deleted_at is not null or modification_status = 'DELETED') as deleted from "
+                + table + window
+                + " union all select number, change_version, true from " + table + "_tombstones" + window
+                + " order by 2, 1 limit ?4";
+        return Panache.getSession()
+                .chain(session -> session.createNativeQuery(sql, Object[].class)
+                        .setParameter(1, watermark)
+                        .setParameter(2, from.version())
+                        .setParameter(3, from.afterNumber() != null ? from.afterNumber() : "")
+                        .setParameter(4, limit)
+                        .getResultList())
+                .onItem().transform(rows -> rows.stream()
+                        .map(row -> new Change((String) row[0], ((Number) row[1]).longValue(), (Boolean) row[2]))
+                        .toList());
+    }
+
+    static List<String> installStatements(String table) {
+        String tombstones = table + "_tombstones";
+        return List.of(
+                ifMissing("select 1 from pg_attribute where attrelid = to_regclass('" + table + "')"
+                                + " and attname = 'change_version' and not attisdropped",
+                        "alter table " + table + " add column change_version bigint"),
+                "create table if not exists " + tombstones
+                        + " (number varchar(255) primary key, change_version bigint not null, deleted_at timestamp not null)",
+                STAMP_FUNCTION_SQL,
+                TOMBSTONE_FUNCTION_SQL,
+                ifMissing(triggerExists(table, table + "_change_version"),
+                        "create trigger " + table + "_change_version before insert or update on " + table
+                                + " for each row execute function honeybee_stamp_change_version()"),
+                ifMissing(triggerExists(table, table + "_tombstone"),
+                        "create trigger " + table + "_tombstone after delete on " + table
+                                + " for each row execute function honeybee_record_tombstone()"),
+                ifMissing(indexExists("idx_" + table + "_change_version"),
+                        "create index idx_" + table + "_change_version on " + table + " (change_version, number)"),
+                ifMissing(indexExists("idx_" + tombstones + "_change_version"),
+                        "create index idx_" + tombstones + "_change_version on " + tombstones + " (change_version, number)"),
+                // Rows written before tracking existed; the trigger stamps them with this transaction's id
+                "update " + table + " set change_version = 0 where change_version is null");
+    }
+
+    private static String ifMissing(String existsQuery, String ddl) {
+        return "do $$ begin if not exists (" + existsQuery + ") then " + ddl + "; end if; end $$";
+    }
+
+    private static String triggerExists(String table, String trigger) {
+        return "select 1 from pg_trigger where tgrelid = to_regclass('" + table + "') and tgname = '" + trigger + "'";
+    }
+
+    private static String indexExists(String index) {
+        return "select 1 where to_regclass('" + index + "') is not null";
+    }
+
+    private static String validate(String tableName) {
+        if (!TABLE_NAME.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("Invalid table name: " + tableName);
+        }
+        return tableName;
+    }
+}
@@ -0,0 +1,89 @@
+package infrastructure.persistence;
+
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Thin access to PostgreSQL sequences
+ * Sequences are created on first use so services don't need a migration per sequence
+ */
+@ApplicationScoped
+@UnlessBuildProfile("loadtest")
+public class DatabaseSequences {
+
+    private static final Pattern SEQUENCE_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    // sequence name -> increment_by, filled once the sequence is known to exist
+    private final Map<String, Long> increments = new ConcurrentHashMap<>();
+
+    /**
+     * Fetch the next value of the sequence (one round trip)
+     */
+    @WithSession
+    public Uni<Long> nextValue(String sequenceName, long incrementBy) {
+        String sequence = validate(sequenceName);
+        return ensure(sequence, incrementBy)
+                .chain(() -> Panache.getSession())
+                .chain(session -> session
+                        .createNativeQuery("select nextval('" + sequence + "')", Long.class)
+                        .getSingleResult());
+    }
+
+    /**
+     * Actual increment of the sequence, which may differ from the requested one
+     * if the sequence was created earlier with another value
+     */
+    @WithSession
+    public Uni<Long> incrementOf(String sequenceName, long incrementBy) {
+        String sequence = validate(sequenceName);
+        return ensure(sequence, incrementBy)
+                .replaceWith(() -> increments.get(sequence));
+    }
+
+    private Uni<Void> ensure(String sequence, long incrementBy) {
+        if (increments.containsKey(sequence)) {
+            return Uni.createFrom().voidItem();
+        }
+        return Panache.getSession()
+                .chain(session -> session
+                        .createNativeQuery(createStatement(sequence, incrementBy))
+                        .executeUpdate()
+                        .chain(() -> session
+                                .createNativeQuery("select increment_by from pg_sequences where sequencename = '" + sequence + "'", Long.class)
+                                .getSingleResult()))
+                .invoke(actual -> {
+                    if (actual != incrementBy) {
+                        Log.warnf("Sequence %s has increment %d (requested %d), using %d",
+                                sequence, actual, incrementBy, actual);
+                    }
+                    increments.put(sequence, actual);
+                })
+                .replaceWithVoid();
+    }
+
+    /**
+     * "create sequence if not exists" is not safe against concurrent creators: the loser can fail with
+     * 42P07 or 23505 (pg_type). The block swallows both in a subtransaction, so a caller's transaction survives.
+     */
+    static String createStatement(String sequence, long incrementBy) {
+        return "do $$ begin "
+                + "create sequence if not exists " + sequence + " increment by " + incrementBy + "; "
+                + "exception when duplicate_table or unique_violation then null; "
+                + "end $$";
+    }
+
+    private String validate(String sequenceName) {
+        if (sequenceName == null || !SEQUENCE_NAME.matcher(sequenceName).matches()) {
+            throw new IllegalArgumentException("Invalid sequence name: " + sequenceName);
+        }
+        return sequenceName;
+    }
+}
@@ -0,0 +1,165 @@
+package infrastructure.persistence;
+
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maps plain SQL rows onto entities using the entity's own @Table/@Column mapping
+ * For reads that bypass Hibernate (replica reads). Basic-typed columns only: the entities here have no associations.
+ * Column names follow Hibernate's default physical naming (camelCase to snake_case, lower case).
+ */
+public final class EntityRows<E> {
+
+    private record MappedColumn(Field field, String name, boolean ordinal) {
+    }
+
+    public final String table;
+
+    private final Constructor<E> constructor;
+    private final List<MappedColumn> columns;
+    private final String selectList;
+
+    private EntityRows(Class<E> type) {
+        Table mappedTable = type.getAnnotation(Table.class);
+        this.table = physicalName(mappedTable != null && !mappedTable.name().isEmpty()
+                ? mappedTable.name() : type.getSimpleName());
+        try {
+            this.constructor = type.getDeclaredConstructor();
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " has no no-arg constructor", e);
+        }
+
+        List<MappedColumn> mapped = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+                        || field.isAnnotationPresent(Transient.class) || field.isSynthetic()) {
+                    continue;
+                }
+                Column column = field.getAnnotation(Column.class);
+                String name = column != null && !column.name().isEmpty() ? column.name() : field.getName();
+                Enumerated enumerated = field.getAnnotation(Enumerated.class);
+                field.setAccessible(true);
+                mapped.add(new MappedColumn(field, physicalName(name),
+                        field.getType().isEnum() && (enumerated == null || enumerated.value() == EnumType.ORDINAL)));
+            }
+        }
+        this.columns = List.copyOf(mapped);
+        this.selectList = columns.stream().map(c -> "\"" + c.name() + "\"").collect(Collectors.joining(", "));
+    }
+
+    public static <E> EntityRows<E> of(Class<E> type) {
+        return new EntityRows<>(type);
+    }
+
+    /**
+     * "select <all mapped columns> from <table> <clause>"
+     */
+    public String select(String clause) {
+        return "select " + selectList + " from " + table + (clause.isEmpty() ? "" : " " + clause);
+    }
+
+    public List<E> mapAll(RowSet<Row> rows) {
+        List<E> entities = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            entities.add(map(row));
+        }
+        return entities;
+    }
+
+    /**
+     * Row selected with {@link #select(String)} (columns are read by position)
+     */
+    public E map(Row row) {
+        try {
+            E entity = constructor.newInstance();
+            for (int i = 0; i < columns.size(); i++) {
+                MappedColumn column = columns.get(i);
+                Object value = read(row, i, column);
+                if (value != null || !column.field().getType().isPrimitive()) {
+                    column.field().set(entity, value);
+                }
+            }
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot map row of " + table, e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object read(Row row, int position, MappedColumn column) {
+        Class<?> type = column.field().getType();
+        if (type == String.class) {
+            return row.getString(position);
+        }
+        if (type == Long.class || type == long.class) {
+            return row.getLong(position);
+        }
+        if (type == Integer.class || type == int.class) {
+            return row.getInteger(position);
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return row.getBoolean(position);
+        }
+        if (type == Double.class || type == double.class) {
+            return row.getDouble(position);
+        }
+        if (type == BigDecimal.class) {
+            return row.getBigDecimal(position);
+        }
+        if (type == LocalDateTime.class) {
+            return row.getLocalDateTime(position);
+        }
+        if (type == LocalDate.class) {
+            return row.getLocalDate(position);
+        }
+        if (type == OffsetDateTime.class) {
+            return row.getOffsetDateTime(position);
+        }
+        if (type == UUID.class) {
+            return row.getUUID(position);
+        }
+        if (type.isEnum()) {
+            if (column.ordinal()) {
+                Integer ordinal = row.getInteger(position);
+                return ordinal == null ? null : type.getEnumConstants()[ordinal];
+            }
+            String name = row.getString(position);
+            return name == null ? null : Enum.valueOf((Class) type, name);
+        }
+        return row.getValue(position);
+    }
+
+    /**
+     * Hibernate's CamelCaseToUnderscoresNamingStrategy, which Quarkus applies to every table/column name
+     */
+    static String physicalName(String logical) {
+        StringBuilder name = new StringBuilder(logical.replace('.', '_'));
+        for (int i = 1; i < name.length() - 1; i++) {
+            if (Character.isLowerCase(name.charAt(i - 1)) && Character.isUpperCase(name.charAt(i))
+                    && Character.isLowerCase(name.charAt(i + 1))) {
+                name.insert(i++, '_');
+            }
+        }
+        return name.toString().toLowerCase();
+    }
+}
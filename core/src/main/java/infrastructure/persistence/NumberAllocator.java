@@ -0,0 +1,90 @@
+package infrastructure.persistence;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Allocates human-readable business Numbers (e.g. PRD-00001234)
+ * Ranges are reserved from a database sequence (hi/lo, pooled variant) and handed out from memory,
+ * so only one insert in block-size pays a round trip. Replicas reserve disjoint ranges.
+ */
+@ApplicationScoped
+public class NumberAllocator {
+
+    @Inject
+    DatabaseSequences sequences;
+
+    @ConfigProperty(name = "honeybee.numbering.block-size", defaultValue = "100")
+    long blockSize;
+
+    @ConfigProperty(name = "honeybee.numbering.digits", defaultValue = "8")
+    int digits;
+
+    private final Map<String, Range> ranges = new ConcurrentHashMap<>();
+
+    /**
+     * Next Number for the prefix, backed by sequence "<prefix>_number_seq"
+     */
+    public Uni<String> next(String prefix) {
+        String sequence = prefix.toLowerCase() + "_number_seq";
+        Range range = ranges.computeIfAbsent(sequence, key -> new Range());
+
+        long value = range.take();
+        if (value >= 0) {
+            return Uni.createFrom().item(format(prefix, value));
+        }
+
+        // Range exhausted: the sequence value is the first number of a fresh block
+        return sequences.incrementOf(sequence, blockSize)
+                .chain(size -> sequences.nextValue(sequence, blockSize)
+                        .map(start -> range.refill(start, size)))
+                .map(number -> format(prefix, number));
+    }
+
+    private String format(String prefix, long value) {
+        String number = Long.toString(value);
+        StringBuilder sb = new StringBuilder(prefix.length() + 1 + Math.max(digits, number.length()));
+        sb.append(prefix).append('-');
+        for (int i = number.length(); i < digits; i++) {
+            sb.append('0');
+        }
+        return sb.append(number).toString();
+    }
+
+    /**
+     * Current block plus at most one spare block (when two refills race)
+     */
+    static final class Range {
+        private long next;
+        private long limit;
+        private long spareStart;
+        private long spareLimit;
+
+        synchronized long take() {
+            if (next >= limit && spareStart < spareLimit) {
+                next = spareStart;
+                limit = spareLimit;
+                spareStart = spareLimit = 0;
+            }
+            return next < limit ? next++ : -1;
+        }
+
+        synchronized long refill(long start, long size) {
+            if (next >= limit) {
+                next = start;
+                limit = start + size;
+            } else if (spareStart >= spareLimit) {
+                // Another caller refilled first; keep this block for later instead of wasting it
+                spareStart = start;
+                spareLimit = start + size;
+                return take();
+            }
+            return next++;
+        }
+    }
+}
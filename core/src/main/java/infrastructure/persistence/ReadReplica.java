@@ -0,0 +1,229 @@
+package infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.logging.Log;
+import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.SqlClient;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.pgclient.PgException;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Routes read-only queries to the "replica" datasource while keeping read-your-writes
+ * Write responses carry the primary's WAL position (X-Consistency-Token); a request presenting it
+ * reads from the replica only once the replica has replayed that far, otherwise from the primary.
+ * Without a replica, or while it is unreachable, every read goes to the primary.
+ */
+@ApplicationScoped
+public class ReadReplica {
+
+    public static final String TOKEN_HEADER = "X-Consistency-Token";
+
+    private static final String TOKEN_KEY = ReadReplica.class.getName() + ".token";
+    private static final String PRIMARY_ONLY = "primary";
+
+    private static final String CURRENT_LSN_SQL = "select pg_current_wal_lsn()::text";
+    // Null on a server that is not a standby: its LSNs say nothing about the primary's writes
+    private static final String REPLAY_LSN_SQL =
+            "select case when pg_is_in_recovery() then pg_last_wal_replay_lsn()::text end";
+
+    @Inject
+    Pool primary;
+
+    @Inject
+    @ReactiveDataSource("replica")
+    Instance<Pool> replicaPool;
+
+    @ConfigProperty(name = "honeybee.read-replica.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "honeybee.read-replica.lag-check-interval", defaultValue = "50ms")
+    Duration lagCheckInterval;
+
+    @ConfigProperty(name = "honeybee.read-replica.retry-after", defaultValue = "5s")
+    Duration retryAfter;
+
+    private Pool replica;
+    private final AtomicLong replayedLsn = new AtomicLong(-1);
+    private volatile long replayCheckedAt;
+    private volatile long downUntil;
+
+    private Counter replicaReads;
+    private Counter primaryReads;
+
+    @PostConstruct
+    void init() {
+        if (enabled && replicaPool.isResolvable()) {
+            replica = replicaPool.get();
+        } else if (enabled) {
+            Log.warn("honeybee.read-replica.enabled is set but no 'replica' datasource is configured; reading from the primary");
+        }
+        replicaReads = Counter.builder("db.reads").tag("target", "replica").register(Metrics.globalRegistry);
+        primaryReads = Counter.builder("db.reads").tag("target", "primary").register(Metrics.globalRegistry);
+    }
+
+    public boolean enabled() {
+        return replica != null;
+    }
+
+    /**
+     * Reads of the current request must see the primary at least up to this WAL position
+     */
+    public static void requireToken(String token) {
+        bind(token);
+    }
+
+    /**
+     * Pins reads of the current context to the primary, e.g. when the result is stamped with a primary watermark
+     */
+    public static void pinToPrimary() {
+        bind(PRIMARY_ONLY);
+    }
+
+    private static void bind(String value) {
+        Context context = Vertx.currentContext();
+        if (context != null && VertxContext.isDuplicatedContext(context)) {
+            context.putLocal(TOKEN_KEY, value);
+        }
+    }
+
+    private static String boundToken() {
+        Context context = Vertx.currentContext();
+        return context != null && VertxContext.isDuplicatedContext(context) ? context.getLocal(TOKEN_KEY) : null;
+    }
+
+    /**
+     * WAL position of the primary right now, handed to clients as their consistency token
+     */
+    public Uni<String> primaryLsn() {
+        return primary.query(CURRENT_LSN_SQL).execute()
+                .onItem().transform(rows -> rows.iterator().next().getString(0));
+    }
+
+    /**
+     * Whether the current request may read from the replica; decide on the caller's context
+     */
+    public Uni<Boolean> useReplica() {
+        if (replica == null || System.currentTimeMillis() < downUntil) {
+            return Uni.createFrom().item(false);
+        }
+        String token = boundToken();
+        if (token == null) {
+            return Uni.createFrom().item(true);
+        }
+        if (PRIMARY_ONLY.equals(token)) {
+            return Uni.createFrom().item(false);
+        }
+        long required = parseLsn(token);
+        if (replayedLsn.get() >= required) {
+            return Uni.createFrom().item(true);
+        }
+        if (System.currentTimeMillis() - replayCheckedAt < lagCheckInterval.toMillis()) {
+            return Uni.createFrom().item(false); // known to be behind as of a moment ago
+        }
+        return replica.query(REPLAY_LSN_SQL).execute()
+                .onItem().transform(rows -> {
+                    String replayed = rows.iterator().next().getString(0);
+                    replayCheckedAt = System.currentTimeMillis();
+                    long lsn = replayed != null ? replayedLsn.accumulateAndGet(parseLsn(replayed), Math::max) : -1;
+                    return lsn >= required;
+                })
+                .onFailure().recoverWithItem(failure -> {
+                    markDown(failure);
+                    return false;
+                });
+    }
+
+    /**
+     * Runs the query on the replica if the current request may read from it, otherwise on the primary
+     */
+    public <T> Uni<T> read(Function<SqlClient, Uni<T>> query) {
+        return useReplica().chain(onReplica -> onReplica ? onReplica(query) : onPrimary(query));
+    }
+
+    /**
+     * Runs the query on the replica (routing already decided), falling back to the primary if it fails there
+     */
+    public <T> Uni<T> onReplica(Function<SqlClient, Uni<T>> query) {
+        if (replica == null) {
+            return onPrimary(query);
+        }
+        replicaReads.increment();
+        return Uni.createFrom().deferred(() -> query.apply(replica))
+                .onFailure().recoverWithUni(failure -> {
+                    // A server error (e.g. a query cancelled by replay conflict) leaves the replica in rotation
+                    if (!(failure instanceof PgException)) {
+                        markDown(failure);
+                    }
+                    return onPrimary(query);
+                });
+    }
+
+    private <T> Uni<T> onPrimary(Function<SqlClient, Uni<T>> query) {
+        primaryReads.increment();
+        return Uni.createFrom().deferred(() -> query.apply(primary));
+    }
+
+    /**
+     * Entities matching "select ... from <table> <clause>"; Enum parameters are bound by name
+     */
+    public <E> Uni<List<E>> list(EntityRows<E> rows, String clause, Object... params) {
+        String sql = rows.select(clause);
+        Tuple tuple = tuple(params);
+        return read(client -> client.preparedQuery(sql).execute(tuple)
+                .onItem().transform(rows::mapAll));
+    }
+
+    public Uni<Long> count(String table, String where, Object... params) {
+        String sql = "select count(*) from " + table + (where.isEmpty() ? "" : " where " + where);
+        Tuple tuple = tuple(params);
+        return read(client -> client.preparedQuery(sql).execute(tuple)
+                .onItem().transform(rows -> rows.iterator().next().getLong(0)));
+    }
+
+    private static Tuple tuple(Object... params) {
+        List<Object> values = new ArrayList<>(params.length);
+        for (Object param : params) {
+            values.add(param instanceof Enum<?> constant ? constant.name() : param);
+        }
+        return Tuple.from(values);
+    }
+
+    private void markDown(Throwable failure) {
+        if (System.currentTimeMillis() >= downUntil) {
+            Log.warnf("⚠️ Read replica unavailable, reading from the primary for %s: %s", retryAfter, failure.getMessage());
+        }
+        downUntil = System.currentTimeMillis() + retryAfter.toMillis();
+    }
+
+    /**
+     * "16/B374D848" as a comparable number; anything unparsable can only be satisfied by the primary
+     */
+    static long parseLsn(String lsn) {
+        int slash = lsn.indexOf('/');
+        try {
+            if (slash > 0) {
+                return (Long.parseLong(lsn.substring(0, slash), 16) << 32) | Long.parseLong(lsn.substring(slash + 1), 16);
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,70 @@
+package infrastructure.persistence;
+
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Transaction boundary of the application services (Panache reactive transaction)
+ * The loadtest profile replaces it together with the repositories, see infrastructure.loadtest
+ */
+@ApplicationScoped
+@UnlessBuildProfile("loadtest")
+public class Transactions {
+
+    // Actions waiting for the outermost withTransaction of the current context to commit
+    private static final String AFTER_COMMIT = Transactions.class.getName() + ".afterCommit";
+
+    public <T> Uni<T> withTransaction(Supplier<Uni<T>> work) {
+        return committing(() -> Panache.withTransaction(work));
+    }
+
+    /**
+     * Run the action once the current withTransaction has committed, or right away outside one
+     * Dropped if the transaction rolls back.
+     */
+    public static void afterCommit(Runnable action) {
+        Context context = Vertx.currentContext();
+        List<Runnable> actions = context != null ? context.getLocal(AFTER_COMMIT) : null;
+        if (actions == null) {
+            action.run();
+        } else {
+            actions.add(action);
+        }
+    }
+
+    /**
+     * Collects afterCommit actions while the transaction runs and runs them once it has succeeded
+     */
+    protected static <T> Uni<T> committing(Supplier<Uni<T>> transaction) {
+        return Uni.createFrom().deferred(() -> {
+            Context context = Vertx.currentContext();
+            if (context == null || context.getLocal(AFTER_COMMIT) != null) {
+                // Nested: the outer transaction runs the actions
+                return transaction.get();
+            }
+            List<Runnable> actions = new ArrayList<>();
+            context.putLocal(AFTER_COMMIT, actions);
+            return transaction.get()
+                    .onTermination().invoke(() -> context.removeLocal(AFTER_COMMIT))
+                    .invoke(() -> actions.forEach(Transactions::runQuietly));
+        });
+    }
+
+    private static void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            // The transaction has committed; a failing listener must not turn it into an error
+            Log.errorf(e, "After-commit action failed: %s", e.getMessage());
+        }
+    }
+}
@@ -1,46 +1,47 @@
 package infrastructure.persistence;
 
+import infrastructure.context.RequestContext;
+import infrastructure.context.RequestMetadata;
 import io.quarkus.arc.Unremovable;
-import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.ApplicationScoped;
 
 /**
  * Holds current user context for the request
- * Similar to UnitOfWork pattern for tracking current user
+ * Backed by RequestContext (Vert.x duplicated-context locals), so it is safe to use from Mutiny callbacks
  */
-@RequestScoped
+@ApplicationScoped
 @Unremovable
 public class UserContext {
 
-    private String userId = "system";
-    private String username;
-    private String ipAddress;
-
     public String getCurrentUserId() {
-        return userId != null ? userId : "system";
+        return RequestContext.current().userId;
     }
 
     public String getUsername() {
-        return username;
+        return RequestContext.current().username;
     }
 
     public String getIpAddress() {
-        return ipAddress;
+        return RequestContext.current().ipAddress;
+    }
+
+    public String getStoreId() {
+        return RequestContext.current().storeId;
+    }
+
+    public String getTerminalId() {
+        return RequestContext.current().terminalId;
     }
 
     public void setCurrentUser(String userId, String username) {
-        this.userId = userId;
-        this.username = username;
+        setCurrentUser(userId, username, RequestContext.current().ipAddress);
     }
 
     public void setCurrentUser(String userId, String username, String ipAddress) {
-        this.userId = userId;
-        this.username = username;
-        this.ipAddress = ipAddress;
+        RequestContext.set(RequestContext.current().withUser(userId, username, ipAddress));
     }
 
     public void clear() {
-        this.userId = "system";
-        this.username = null;
-        this.ipAddress = null;
+        setCurrentUser(RequestMetadata.SYSTEM_USER, null, null);
     }
 }
@@ -0,0 +1,70 @@
+package infrastructure.web;
+
+import infrastructure.admission.AdaptiveLimiter;
+import infrastructure.admission.Admission;
+import infrastructure.admission.AdmissionLimiters;
+import infrastructure.admission.AdmissionPriority;
+import infrastructure.context.RequestContext;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import share.ApiResponse;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Admission control: each request takes a slot from its resource's adaptive limiter before any work
+ * (DB pool, event loop) is spent on it; without one it is answered 503 with Retry-After right away.
+ * The slot is returned when the response ends or the connection drops, with the measured latency.
+ */
+public class AdmissionFilter {
+
+    private record Target(String limiter, AdmissionPriority priority) {
+    }
+
+    private static final Map<Method, Target> TARGETS = new ConcurrentHashMap<>();
+
+    @Inject
+    AdmissionLimiters limiters;
+
+    // After RequestContextFilter, so the rejection carries the request id
+    @ServerRequestFilter(priority = Priorities.AUTHENTICATION - 50)
+    public Response admit(ContainerRequestContext requestContext, ResourceInfo resourceInfo, RoutingContext routingContext) {
+        Method method = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+        if (!limiters.enabled() || method == null) {
+            return null;
+        }
+        Target target = TARGETS.computeIfAbsent(method, m -> resolve(resourceInfo.getResourceClass(), m));
+        AdaptiveLimiter.Permit permit = limiters.tryAcquire(target.limiter(), target.priority());
+        if (permit == null) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, Math.max(1, limiters.retryAfter().toSeconds()))
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(ApiResponse.fail("OVERLOADED", "Server is at capacity, retry later", RequestContext.requestId()))
+                    .build();
+        }
+        routingContext.addEndHandler(result ->
+                permit.release(result.failed() || routingContext.response().getStatusCode() >= 500));
+        return null;
+    }
+
+    private static Target resolve(Class<?> resourceClass, Method method) {
+        Admission admission = method.getAnnotation(Admission.class);
+        if (admission == null && resourceClass != null) {
+            admission = resourceClass.getAnnotation(Admission.class);
+        }
+        String defaultName = resourceClass != null ? resourceClass.getSimpleName() : method.getDeclaringClass().getSimpleName();
+        if (admission == null) {
+            return new Target(defaultName, AdmissionPriority.NORMAL);
+        }
+        return new Target(admission.limiter().isEmpty() ? defaultName : admission.limiter(), admission.priority());
+    }
+}
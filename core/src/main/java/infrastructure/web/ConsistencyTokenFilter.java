@@ -0,0 +1,45 @@
+package infrastructure.web;
+
+import infrastructure.persistence.ReadReplica;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+import java.util.Set;
+
+/**
+ * Read-your-writes across the replica: successful writes return the primary's WAL position as
+ * X-Consistency-Token, and a client sending it back is not served from a replica that is behind it
+ */
+public class ConsistencyTokenFilter {
+
+    private static final Set<String> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    @Inject
+    ReadReplica readReplica;
+
+    @ServerRequestFilter
+    public void bind(ContainerRequestContext requestContext) {
+        String token = requestContext.getHeaderString(ReadReplica.TOKEN_HEADER);
+        if (token != null && !token.isBlank()) {
+            ReadReplica.requireToken(token.trim());
+        }
+    }
+
+    @ServerResponseFilter
+    public Uni<Void> issue(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!readReplica.enabled() || responseContext.getStatus() >= 400
+                || READ_METHODS.contains(requestContext.getMethod())) {
+            return Uni.createFrom().voidItem();
+        }
+        // Runs after the transaction committed, so the position covers this request's writes
+        return readReplica.primaryLsn()
+                .invoke(lsn -> responseContext.getHeaders().putSingle(ReadReplica.TOKEN_HEADER, lsn))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+}
@@ -0,0 +1,82 @@
+package infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets: GET ...?fields=name,price,stock limits DTOs annotated @JsonFilter("fields") to those properties
+ * The selection is bound once the resource method has returned, so it shapes only the response body
+ * and never what the request serialized on the way (state events, snapshots). Applies to every media type.
+ */
+@Singleton
+public class FieldSelection implements ObjectMapperCustomizer {
+
+    public static final String FILTER = "fields";
+
+    private static final String PARAM = "fields";
+    private static final String KEY = FieldSelection.class.getName();
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.setFilterProvider(new SimpleFilterProvider().addFilter(FILTER, new SelectedFields()));
+    }
+
+    @ServerResponseFilter
+    public void bind(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!HttpMethod.GET.equals(requestContext.getMethod()) || responseContext.getStatus() >= 400) {
+            return;
+        }
+        List<String> values = requestContext.getUriInfo().getQueryParameters().get(PARAM);
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        Set<String> fields = values.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        Context context = Vertx.currentContext();
+        if (!fields.isEmpty() && context != null && VertxContext.isDuplicatedContext(context)) {
+            context.putLocal(KEY, fields);
+        }
+    }
+
+    private static Set<String> selected() {
+        Context context = Vertx.currentContext();
+        return context != null && VertxContext.isDuplicatedContext(context) ? context.getLocal(KEY) : null;
+    }
+
+    /**
+     * Keeps every property unless the current response carries a selection
+     */
+    private static final class SelectedFields extends SimpleBeanPropertyFilter {
+
+        @Override
+        protected boolean include(BeanPropertyWriter writer) {
+            return include((PropertyWriter) writer);
+        }
+
+        @Override
+        protected boolean include(PropertyWriter writer) {
+            Set<String> fields = selected();
+            return fields == null || fields.contains(writer.getName());
+        }
+    }
+}
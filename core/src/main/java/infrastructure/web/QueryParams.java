@@ -0,0 +1,27 @@
+package infrastructure.web;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parsing helpers for query parameters shared by the resources
+ */
+public final class QueryParams {
+
+    private QueryParams() {
+    }
+
+    /**
+     * Values of a repeatable, comma-separated parameter (?ids=A,B or ?ids=A&ids=B), trimmed, blanks dropped
+     */
+    public static List<String> splitList(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,45 @@
+package infrastructure.web;
+
+import infrastructure.admission.RateLimiter;
+import infrastructure.context.RequestContext;
+import infrastructure.context.RequestMetadata;
+import io.vertx.core.http.HttpServerRequest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import share.ApiResponse;
+
+/**
+ * Answers 429 with Retry-After once a caller exceeds its request rate (see RateLimiter.key for who a caller is)
+ * Runs before admission control, so a flooding caller is turned away without taking a concurrency slot.
+ */
+public class RateLimitFilter {
+
+    @Inject
+    RateLimiter rateLimiter;
+
+    // After RequestContextFilter (caller identity), before AdmissionFilter
+    @ServerRequestFilter(priority = Priorities.AUTHENTICATION - 75)
+    public Response limit(HttpServerRequest request) {
+        if (!rateLimiter.enabled()) {
+            return null;
+        }
+        RequestMetadata caller = RequestContext.current();
+        String key = rateLimiter.key(request);
+        if (key == null) {
+            return null;
+        }
+        long wait = rateLimiter.tryAcquire(key);
+        if (wait == 0) {
+            return null;
+        }
+        return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, RateLimiter.retryAfterSeconds(wait))
+                .type(MediaType.APPLICATION_JSON)
+                .entity(ApiResponse.fail("RATE_LIMITED", "Too many requests, retry later", caller.requestId))
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package infrastructure.web;
+
+import infrastructure.context.RequestContext;
+import infrastructure.context.RequestMetadata;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.net.SocketAddress;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import share.id.IdGenerator;
+
+import java.util.regex.Pattern;
+
+/**
+ * Builds the RequestMetadata of each request from headers (e.g. from JWT, API Gateway, POS terminal)
+ * and echoes the request/correlation IDs on the response
+ */
+public class RequestContextFilter {
+
+    // Caller-supplied IDs go into varchar(64) columns (outbox, logs) and Kafka keys; anything else is replaced
+    private static final Pattern ID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    @ServerRequestFilter(priority = Priorities.AUTHENTICATION - 100)
+    public void bind(HttpServerRequest request) {
+        RequestContext.set(metadataOf(request));
+    }
+
+    /**
+     * The caller metadata of a request; also used by plain Vert.x routes, which bypass this filter
+     */
+    public static RequestMetadata metadataOf(HttpServerRequest request) {
+        String requestId = validId(request.getHeader(RequestContext.REQUEST_ID_HEADER));
+        if (requestId == null) {
+            requestId = IdGenerator.nextId();
+        }
+        // A caller-supplied correlation ID spans several requests; otherwise the request is its own correlation
+        String correlationId = validId(request.getHeader(RequestContext.CORRELATION_ID_HEADER));
+        if (correlationId == null) {
+            correlationId = requestId;
+        }
+
+        String userId = request.getHeader("X-User-Id");
+        String username = request.getHeader("X-Username");
+        if (username == null) {
+            username = userId != null ? userId : RequestMetadata.SYSTEM_USER;
+        }
+
+        return new RequestMetadata(
+                requestId,
+                correlationId,
+                userId,
+                username,
+                clientAddress(request),
+                request.getHeader("X-Store-Id"),
+                request.getHeader("X-Terminal-Id"));
+    }
+
+    @ServerResponseFilter
+    public void echo(ContainerResponseContext responseContext) {
+        RequestMetadata metadata = RequestContext.current();
+        if (metadata.requestId != null) {
+            responseContext.getHeaders().putSingle(RequestContext.REQUEST_ID_HEADER, metadata.requestId);
+            responseContext.getHeaders().putSingle(RequestContext.CORRELATION_ID_HEADER, metadata.correlationId);
+        }
+    }
+
+    static String validId(String value) {
+        return value != null && ID.matcher(value).matches() ? value : null;
+    }
+
+    private static String clientAddress(HttpServerRequest request) {
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null && !forwarded.isBlank()) {
+            int comma = forwarded.indexOf(',');
+            return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+        }
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null) {
+            return realIp;
+        }
+        SocketAddress remote = request.remoteAddress();
+        return remote != null ? remote.hostAddress() : null;
+    }
+}
@@ -0,0 +1,48 @@
+package infrastructure.web;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.container.ResourceInfo;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the matched route template of a resource method (e.g. /api/products/{id})
+ * Computed once per resource method, so per-request cost is a single map lookup
+ */
+@ApplicationScoped
+public class RouteTemplates {
+
+    public static final String UNMATCHED = "UNMATCHED";
+
+    private final Map<Method, String> templates = new ConcurrentHashMap<>();
+
+    public String of(ResourceInfo resourceInfo) {
+        Method method = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+        if (method == null) {
+            return UNMATCHED;
+        }
+        return templates.computeIfAbsent(method, m -> build(resourceInfo.getResourceClass(), m));
+    }
+
+    private static String build(Class<?> resourceClass, Method method) {
+        StringBuilder template = new StringBuilder();
+        append(template, resourceClass != null ? resourceClass.getAnnotation(Path.class) : null);
+        append(template, method.getAnnotation(Path.class));
+        return template.isEmpty() ? "/" : template.toString();
+    }
+
+    private static void append(StringBuilder template, Path path) {
+        if (path == null || path.value().isEmpty() || "/".equals(path.value())) {
+            return;
+        }
+        String segment = path.value();
+        if (segment.charAt(0) != '/') {
+            template.append('/');
+        }
+        int end = segment.endsWith("/") ? segment.length() - 1 : segment.length();
+        template.append(segment, 0, end);
+    }
+}
@@ -0,0 +1,64 @@
+package infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+import share.ApiResponse;
+
+import java.util.function.Function;
+
+/**
+ * Handler of the benchmark run routes: reads the JSON body as a run, starts it and answers with its report
+ * 400 for a body that doesn't parse or a run that fails with IllegalArgumentException, 500 for any other failure.
+ *
+ * @param <R> run settings
+ * @param <T> report
+ */
+public final class RunRoute<R, T> implements Handler<RoutingContext> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<R> runType;
+    private final String errorCode;
+    private final Function<R, Uni<T>> runner;
+
+    /**
+     * @param errorCode e.g. LOAD_RUN: failures answer INVALID_LOAD_RUN or LOAD_RUN_FAILED
+     */
+    public RunRoute(ObjectMapper objectMapper, Class<R> runType, String errorCode, Function<R, Uni<T>> runner) {
+        this.objectMapper = objectMapper;
+        this.runType = runType;
+        this.errorCode = errorCode;
+        this.runner = runner;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        ctx.request().body()
+                .onSuccess(body -> {
+                    R run;
+                    try {
+                        run = objectMapper.readValue(body.getBytes(), runType);
+                    } catch (Exception e) {
+                        respond(ctx, 400, ApiResponse.fail("INVALID_" + errorCode, e.getMessage(), null));
+                        return;
+                    }
+                    runner.apply(run).subscribe().with(
+                            report -> respond(ctx, 200, ApiResponse.ok(report, null)),
+                            ex -> respond(ctx, ex instanceof IllegalArgumentException ? 400 : 500,
+                                    ApiResponse.fail(errorCode + "_FAILED", ex.getMessage(), null)));
+                })
+                .onFailure(ex -> respond(ctx, 400, ApiResponse.fail("INVALID_" + errorCode, ex.getMessage(), null)));
+    }
+
+    private void respond(RoutingContext ctx, int status, ApiResponse<?> body) {
+        try {
+            ctx.response().setStatusCode(status)
+                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .end(objectMapper.writeValueAsString(body));
+        } catch (Exception e) {
+            ctx.fail(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package infrastructure.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveLimiterTest {
+
+    private static AdaptiveLimiter limiter(int initialLimit, double tolerance) {
+        return new AdaptiveLimiter("test", initialLimit, 1, 100, tolerance, 0.9);
+    }
+
+    private static List<AdaptiveLimiter.Permit> acquireAll(AdaptiveLimiter limiter, AdmissionPriority priority) {
+        List<AdaptiveLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveLimiter.Permit permit;
+        while (permits.size() < 1000 && (permit = limiter.tryAcquire(priority)) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+
+    @Test
+    void lowerPrioritiesGetASmallerShareOfTheLimit() {
+        assertEquals(6, acquireAll(limiter(10, 2.0), AdmissionPriority.SHEDDABLE).size());
+        assertEquals(9, acquireAll(limiter(10, 2.0), AdmissionPriority.NORMAL).size());
+    }
+
+    @Test
+    void criticalWorkIsNeverShedButTakesRoomFromOthers() {
+        AdaptiveLimiter limiter = limiter(10, 2.0);
+        for (int i = 0; i < 20; i++) {
+            assertNotNull(limiter.tryAcquire(AdmissionPriority.CRITICAL));
+        }
+        assertEquals(20, limiter.inFlight());
+        assertNull(limiter.tryAcquire(AdmissionPriority.NORMAL));
+    }
+
+    @Test
+    void releasingTwiceFreesOneSlot() {
+        AdaptiveLimiter limiter = limiter(10, 2.0);
+        AdaptiveLimiter.Permit permit = limiter.tryAcquire(AdmissionPriority.NORMAL);
+        limiter.tryAcquire(AdmissionPriority.NORMAL);
+        permit.release(false);
+        permit.release(false);
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void failuresOfOneRoundTripShrinkTheLimitOnce() throws InterruptedException {
+        AdaptiveLimiter limiter = limiter(10, 2.0);
+        List<AdaptiveLimiter.Permit> permits = acquireAll(limiter, AdmissionPriority.NORMAL);
+        Thread.sleep(20);
+        permits.forEach(permit -> permit.release(true));
+        assertEquals(9, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void limitGrowsWhileItIsUsed() {
+        AdaptiveLimiter limiter = limiter(4, 1_000_000.0);
+        for (int round = 0; round < 50; round++) {
+            acquireAll(limiter, AdmissionPriority.NORMAL)
+                    .forEach(permit -> permit.release(false));
+        }
+        assertTrue(limiter.limit() > 4, "limit " + limiter.limit());
+    }
+
+    @Test
+    void slowWorkIsJudgedAgainstItsOwnPriority() throws InterruptedException {
+        AdaptiveLimiter limiter = limiter(10, 2.0);
+        // Fast critical work sets its own no-load latency
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(AdmissionPriority.CRITICAL).release(false);
+        }
+        // Much slower, but steady, sheddable work is not an overload signal
+        for (int i = 0; i < 3; i++) {
+            AdaptiveLimiter.Permit permit = limiter.tryAcquire(AdmissionPriority.SHEDDABLE);
+            Thread.sleep(20);
+            permit.release(false);
+        }
+        assertTrue(limiter.limit() >= 10, "limit " + limiter.limit());
+    }
+}
@@ -0,0 +1,50 @@
+package infrastructure.admission;
+
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitSyncTest {
+
+    @Test
+    void splitsUsageIntoBoundedMessages() {
+        Map<String, Integer> taken = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            taken.put("ip:10.0." + (i / 256) + "." + (i % 256), i % 7 + 1);
+        }
+
+        List<JsonObject> chunks = RateLimitSync.chunks(taken, 4096);
+
+        assertTrue(chunks.size() > 1);
+        int keys = 0;
+        for (JsonObject chunk : chunks) {
+            assertTrue(chunk.encode().length() <= 4096, "chunk of " + chunk.encode().length() + " bytes");
+            for (String key : chunk.fieldNames()) {
+                assertEquals(taken.get(key), chunk.getInteger(key));
+                keys++;
+            }
+        }
+        assertEquals(taken.size(), keys);
+    }
+
+    @Test
+    void smallUsageIsOneMessage() {
+        assertEquals(1, RateLimitSync.chunks(Map.of("u:alice", 3, "ip:10.0.0.1", 1), 4096).size());
+        assertEquals(0, RateLimitSync.chunks(Map.of(), 4096).size());
+    }
+
+    @Test
+    void oversizedKeyGetsAMessageOfItsOwn() {
+        Map<String, Integer> taken = new LinkedHashMap<>();
+        taken.put("u:" + "x".repeat(200), 1);
+        taken.put("u:bob", 2);
+
+        assertEquals(2, RateLimitSync.chunks(taken, 64).size());
+    }
+}
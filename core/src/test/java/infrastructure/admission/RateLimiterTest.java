@@ -0,0 +1,42 @@
+package infrastructure.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimiterTest {
+
+    private static final TrustedProxies GATEWAY = TrustedProxies.parse(List.of("10.0.0.1", "192.168.0.0/16"));
+
+    @Test
+    void untrustedCallersAreKeyedByTheirConnection() {
+        // Headers a caller sets itself would give it a fresh bucket per request
+        assertEquals("ip:203.0.113.9", RateLimiter.key("alice", "198.51.100.7", "203.0.113.9", GATEWAY));
+        assertEquals("ip:203.0.113.9", RateLimiter.key("alice", "198.51.100.7", "203.0.113.9", TrustedProxies.NONE));
+        assertNull(RateLimiter.key("alice", null, null, GATEWAY));
+    }
+
+    @Test
+    void userHeaderCountsOnlyFromATrustedProxy() {
+        assertEquals("u:alice", RateLimiter.key("alice", "198.51.100.7", "10.0.0.1", GATEWAY));
+    }
+
+    @Test
+    void anonymousCallersBehindTheGatewayAreKeyedByTheRightmostUntrustedHop() {
+        // The leftmost entry is whatever the client sent; the gateway appended the address it saw
+        assertEquals("ip:198.51.100.7", RateLimiter.key(null, "1.2.3.4, 198.51.100.7", "10.0.0.1", GATEWAY));
+        assertEquals("ip:198.51.100.7", RateLimiter.key(" ", "1.2.3.4, 198.51.100.7, 192.168.4.2", "10.0.0.1", GATEWAY));
+        assertEquals("ip:10.0.0.1", RateLimiter.key(null, null, "10.0.0.1", GATEWAY));
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() {
+        assertEquals(1, RateLimiter.retryAfterSeconds(1));
+        assertEquals(1, RateLimiter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(2, RateLimiter.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1) + 1));
+    }
+}
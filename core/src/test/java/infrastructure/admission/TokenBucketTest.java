@@ -0,0 +1,82 @@
+package infrastructure.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = 10;
+    private static final int BURST = 5;
+
+    private static int takeAll(TokenBucket bucket, long now) {
+        int taken = 0;
+        while (bucket.tryTake(now) == 0) {
+            taken++;
+        }
+        return taken;
+    }
+
+    @Test
+    void fullBucketAllowsTheBurst() {
+        assertEquals(BURST, takeAll(new TokenBucket(INTERVAL, BURST, 0), 0));
+    }
+
+    @Test
+    void emptyBucketReportsTheWaitForTheNextToken() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, BURST, 0);
+        takeAll(bucket, 0);
+        assertEquals(INTERVAL, bucket.tryTake(0));
+        assertEquals(INTERVAL - 4, bucket.tryTake(4));
+        assertEquals(0, bucket.tryTake(INTERVAL));
+    }
+
+    @Test
+    void idleTimeRefillsAtMostTheBurst() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, BURST, 0);
+        takeAll(bucket, 0);
+        assertEquals(2, takeAll(bucket, 2 * INTERVAL));
+        assertEquals(BURST, takeAll(bucket, 1_000_000));
+    }
+
+    @Test
+    void chargeTakesTokensUsedElsewhere() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, BURST, 0);
+        bucket.charge(3, 0);
+        assertEquals(BURST - 3, takeAll(bucket, 0));
+    }
+
+    @Test
+    void chargeAtMostEmptiesTheBucket() {
+        TokenBucket bucket = new TokenBucket(INTERVAL, BURST, 0);
+        bucket.charge(1000, 0);
+        assertEquals(INTERVAL, bucket.tryTake(0));
+        assertEquals(1, takeAll(bucket, INTERVAL));
+    }
+
+    @Test
+    void concurrentTakersShareTheBurst() throws Exception {
+        TokenBucket bucket = new TokenBucket(INTERVAL, 1000, 0);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> takers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                takers.add(() -> takeAll(bucket, 0));
+            }
+            int taken = 0;
+            for (Future<Integer> result : pool.invokeAll(takers)) {
+                taken += result.get();
+            }
+            assertEquals(1000, taken);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package infrastructure.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrustedProxiesTest {
+
+    @Test
+    void matchesAddressesAndRanges() {
+        TrustedProxies proxies = TrustedProxies.parse(List.of("10.0.0.5", " 172.16.0.0/12 ", "fd00::/8", ""));
+
+        assertTrue(proxies.contains("10.0.0.5"));
+        assertFalse(proxies.contains("10.0.0.6"));
+        assertTrue(proxies.contains("172.31.255.1"));
+        assertFalse(proxies.contains("172.32.0.1"));
+        assertTrue(proxies.contains("fd12::1"));
+        assertFalse(proxies.contains("fe80::1"));
+    }
+
+    @Test
+    void neverResolvesNames() {
+        TrustedProxies proxies = TrustedProxies.parse(List.of("0.0.0.0/0"));
+
+        assertTrue(proxies.contains("198.51.100.7"));
+        assertFalse(proxies.contains("localhost"));
+        assertFalse(proxies.contains(null));
+        assertThrows(IllegalArgumentException.class, () -> TrustedProxies.parse(List.of("gateway")));
+        assertThrows(IllegalArgumentException.class, () -> TrustedProxies.parse(List.of("10.0.0.0/33")));
+    }
+}
@@ -0,0 +1,99 @@
+package infrastructure.cache;
+
+import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>("test", Duration.ofSeconds(5));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Uni<String> pending(CompletableFuture<String> result) {
+        return Uni.createFrom().deferred(() -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().completionStage(result);
+        });
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletableFuture<String> first = flights.execute("k", () -> pending(result)).subscribeAsCompletionStage();
+        CompletableFuture<String> second = flights.execute("k", () -> pending(result)).subscribeAsCompletionStage();
+
+        result.complete("v");
+
+        assertEquals("v", first.get(1, TimeUnit.SECONDS));
+        assertEquals("v", second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void differentKeysLoadSeparately() throws Exception {
+        CompletableFuture<String> result = CompletableFuture.completedFuture("v");
+        flights.execute("a", () -> pending(result)).await().atMost(Duration.ofSeconds(1));
+        flights.execute("b", () -> pending(result)).await().atMost(Duration.ofSeconds(1));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void completedFlightIsNotRemembered() {
+        CompletableFuture<String> result = CompletableFuture.completedFuture("v");
+        flights.execute("k", () -> pending(result)).await().atMost(Duration.ofSeconds(1));
+        flights.execute("k", () -> pending(result)).await().atMost(Duration.ofSeconds(1));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failureReachesEveryCallerAndIsNotRemembered() {
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        CompletableFuture<String> first = flights.execute("k", () -> pending(failed)).subscribeAsCompletionStage();
+        CompletableFuture<String> second = flights.execute("k", () -> pending(failed)).subscribeAsCompletionStage();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+
+        assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, first::get).getCause());
+        assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, second::get).getCause());
+
+        String retried = flights.execute("k", () -> pending(CompletableFuture.completedFuture("v")))
+                .await().atMost(Duration.ofSeconds(1));
+        assertEquals("v", retried);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void cancellingOneCallerLeavesTheSharedLoadRunning() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Cancellable first = flights.execute("k", () -> pending(result)).subscribe().with(ignored -> {
+        });
+        CompletableFuture<String> second = flights.execute("k", () -> pending(result)).subscribeAsCompletionStage();
+
+        first.cancel();
+        assertFalse(second.isDone());
+        result.complete("v");
+
+        assertEquals("v", second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void callerGivesUpAfterTheTimeout() {
+        SingleFlight<String, String> impatient = new SingleFlight<>("test-timeout", Duration.ofMillis(50));
+        CompletableFuture<String> never = new CompletableFuture<>();
+        ExecutionException failure = assertThrows(ExecutionException.class, () ->
+                impatient.execute("k", () -> pending(never)).subscribeAsCompletionStage().get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+    }
+}
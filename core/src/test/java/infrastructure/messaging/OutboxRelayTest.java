@@ -0,0 +1,119 @@
+package infrastructure.messaging;
+
+import domain.entity.outbox.OutboxMessage;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OutboxRelayTest {
+
+    @Test
+    void rowsOfAKeyAreSentInClaimOrder() {
+        ScriptedRelay relay = new ScriptedRelay(Set.of());
+        relay.publish(List.of(message(1, "A"), message(2, "B"), message(3, "A"), message(4, null), message(5, "A")))
+                .await().indefinitely();
+
+        assertEquals(List.of(1L, 3L, 5L), relay.triedFor("A"));
+        assertEquals(List.of(2L), relay.triedFor("B"));
+    }
+
+    @Test
+    void failureHoldsBackTheRestOfItsKeyOnly() {
+        ScriptedRelay relay = new ScriptedRelay(Set.of(3L));
+        OutboxRelay.Outcome outcome = relay.publish(
+                        List.of(message(1, "A"), message(2, "B"), message(3, "A"), message(4, null), message(5, "A"), message(6, "B")))
+                .await().indefinitely();
+
+        List<Long> sent = new ArrayList<>(outcome.sentIds);
+        Collections.sort(sent);
+        assertEquals(List.of(1L, 2L, 4L, 6L), sent);
+        assertEquals(List.of(3L), outcome.failed.stream().map(message -> message.id).toList());
+        // 5 was never tried: it stays pending behind 3's backoff
+        assertEquals(List.of(1L, 3L), relay.triedFor("A"));
+    }
+
+    @Test
+    void keylessRowsDoNotHoldEachOtherBack() {
+        ScriptedRelay relay = new ScriptedRelay(Set.of(1L));
+        OutboxRelay.Outcome outcome = relay.publish(List.of(message(1, null), message(2, null)))
+                .await().indefinitely();
+
+        assertEquals(List.of(2L), List.copyOf(outcome.sentIds));
+    }
+
+    @Test
+    void backoffDoublesUpToTheCap() {
+        OutboxRelay relay = relay();
+
+        assertEquals(Duration.ofSeconds(1), relay.backoff(1));
+        assertEquals(Duration.ofSeconds(2), relay.backoff(2));
+        assertEquals(Duration.ofSeconds(16), relay.backoff(5));
+        assertEquals(Duration.ofSeconds(256), relay.backoff(9));
+        assertEquals(Duration.ofMinutes(5), relay.backoff(10));
+        assertEquals(Duration.ofMinutes(5), relay.backoff(1000));
+    }
+
+    @Test
+    void failuresAreGroupedByAttemptsAndDeadLetteredAtMax() {
+        OutboxRelay relay = relay();
+        OutboxRelay.Settlement settlement = relay.settlement(List.of(
+                failed(1, 0), failed(2, 3), failed(3, 0), failed(4, 29), failed(5, 30)));
+
+        assertEquals(Map.of(1, List.of(1L, 3L), 4, List.of(2L)), settlement.retries());
+        assertEquals(List.of(4L, 5L), settlement.dead());
+    }
+
+    private static OutboxRelay relay() {
+        OutboxRelay relay = new OutboxRelay();
+        relay.retryBackoff = Duration.ofSeconds(1);
+        relay.maxRetryBackoff = Duration.ofMinutes(5);
+        relay.maxAttempts = 30;
+        return relay;
+    }
+
+    private static OutboxMessage message(long id, String key) {
+        OutboxMessage message = new OutboxMessage();
+        message.id = id;
+        message.topic = "products";
+        message.messageKey = key;
+        message.payload = "{}";
+        return message;
+    }
+
+    private static OutboxMessage failed(long id, int attempts) {
+        OutboxMessage message = message(id, "A");
+        message.attempts = attempts;
+        return message;
+    }
+
+    /**
+     * Acknowledges every send except the given ids, and records the order each key was tried in
+     */
+    private static final class ScriptedRelay extends OutboxRelay {
+
+        private final Set<Long> failing;
+        private final List<OutboxMessage> tried = Collections.synchronizedList(new ArrayList<>());
+
+        ScriptedRelay(Set<Long> failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        Uni<Boolean> send(OutboxMessage message) {
+            tried.add(message);
+            return Uni.createFrom().item(!failing.contains(message.id));
+        }
+
+        List<Long> triedFor(String key) {
+            return tried.stream().filter(message -> key.equals(message.messageKey)).map(message -> message.id).toList();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final int HEADER = 8;
+
+    @TempDir
+    Path directory;
+
+    private SpillJournal open() {
+        return new SpillJournal(directory, SEGMENT_SIZE, 4L * SEGMENT_SIZE, SpillJournal.Fsync.NEVER);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> read(SpillJournal journal) {
+        return journal.read(100).records().stream().map(record -> new String(record, StandardCharsets.UTF_8)).toList();
+    }
+
+    private Path firstSegment() {
+        return directory.resolve(String.format("%020d.seg", 0));
+    }
+
+    private void overwrite(long position, byte[] data) throws IOException {
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(data), position);
+        }
+    }
+
+    @Test
+    void readsRecordsInAppendOrderUntilCommitted() {
+        SpillJournal journal = open();
+        assertTrue(journal.isEmpty());
+        journal.append(bytes("a"));
+        journal.append(bytes("b"));
+        journal.append(bytes("c"));
+
+        assertEquals(2, journal.read(2).records().size());
+        assertEquals(List.of("a", "b", "c"), read(journal));
+
+        journal.commit(journal.read(100));
+        assertTrue(journal.isEmpty());
+        assertEquals(List.of(), read(journal));
+    }
+
+    @Test
+    void recordsSpanSegments() {
+        SpillJournal journal = open();
+        // Three per segment
+        byte[] large = new byte[SEGMENT_SIZE / 4];
+        for (int i = 0; i < 5; i++) {
+            large[0] = (byte) i;
+            assertTrue(journal.append(large.clone()));
+        }
+        List<byte[]> records = journal.read(100).records();
+        assertEquals(5, records.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, records.get(i)[0]);
+        }
+    }
+
+    @Test
+    void refusesRecordsThatDoNotFit() {
+        SpillJournal journal = new SpillJournal(directory, SEGMENT_SIZE, SEGMENT_SIZE, SpillJournal.Fsync.NEVER);
+        assertFalse(journal.append(new byte[SEGMENT_SIZE]));
+        assertTrue(journal.append(new byte[SEGMENT_SIZE - HEADER]));
+        assertFalse(journal.append(bytes("x")));
+    }
+
+    @Test
+    void reopenedJournalResumesAfterTheCheckpoint() {
+        SpillJournal journal = open();
+        journal.append(bytes("a"));
+        journal.append(bytes("b"));
+        journal.append(bytes("c"));
+        journal.commit(journal.read(2));
+
+        SpillJournal reopened = open();
+        assertEquals(List.of("c"), read(reopened));
+        reopened.append(bytes("d"));
+        assertEquals(List.of("c", "d"), read(reopened));
+    }
+
+    @Test
+    void tornAppendReadsAsTheEndOfTheJournal() throws IOException {
+        SpillJournal journal = open();
+        journal.append(bytes("a"));
+        journal.append(bytes("b"));
+        // A crash mid-append: checksum and payload written, the length (written last) still zero
+        overwrite(2L * (HEADER + 1) + 4, new byte[]{1, 2, 3, 4, 'c'});
+
+        SpillJournal reopened = open();
+        assertEquals(List.of("a", "b"), read(reopened));
+        reopened.append(bytes("d"));
+        assertEquals(List.of("a", "b", "d"), read(reopened));
+    }
+
+    @Test
+    void corruptRecordEndsTheJournal() throws IOException {
+        SpillJournal journal = open();
+        journal.append(bytes("a"));
+        journal.append(bytes("b"));
+        journal.append(bytes("c"));
+        // Flip the payload of the second record; its checksum no longer matches
+        overwrite(HEADER + 1 + HEADER, bytes("x"));
+
+        SpillJournal reopened = open();
+        assertEquals(List.of("a"), read(reopened));
+        reopened.append(bytes("d"));
+        assertEquals(List.of("a", "d"), read(reopened));
+        // "c" is still in the file right after "d", but must not come back
+        assertEquals(List.of("a", "d"), read(open()));
+    }
+
+    @Test
+    void checkpointPastACorruptTailIsPulledBack() throws IOException {
+        SpillJournal journal = open();
+        journal.append(bytes("a"));
+        journal.append(bytes("b"));
+        journal.append(bytes("c"));
+        journal.commit(journal.read(2));
+        // The checkpoint points after "b"; the segment is now cut short before it
+        overwrite(HEADER, bytes("x"));
+
+        SpillJournal reopened = open();
+        assertTrue(reopened.isEmpty());
+        reopened.append(bytes("d"));
+        assertEquals(List.of("d"), read(reopened));
+    }
+}
@@ -0,0 +1,94 @@
+package infrastructure.persistence;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchLoaderTest {
+
+    private static final long WINDOW_MILLIS = 200;
+
+    private final Vertx vertx = Vertx.vertx();
+    private final Context loop = vertx.getOrCreateContext();
+    private final List<Flush> flushes = new CopyOnWriteArrayList<>();
+
+    private record Flush(Set<String> keys, long atNanos) {
+    }
+
+    @AfterEach
+    void close() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    private BatchLoader<String, String> loader(int maxBatchSize) {
+        Function<Set<String>, Uni<Map<String, String>>> batchFunction = keys -> {
+            flushes.add(new Flush(Set.copyOf(keys), System.nanoTime()));
+            return Uni.createFrom().item(keys.stream().collect(Collectors.toMap(key -> key, key -> "v-" + key)));
+        };
+        return new BatchLoader<>("test", vertx, Duration.ofMillis(WINDOW_MILLIS), maxBatchSize, batchFunction);
+    }
+
+    private CompletableFuture<String> loadOnLoop(BatchLoader<String, String> loader, String key) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        loop.runOnContext(ignored -> loader.load(key).subscribe().with(result::complete, result::completeExceptionally));
+        return result;
+    }
+
+    @Test
+    void keysWithinTheWindowShareOneQuery() throws Exception {
+        BatchLoader<String, String> loader = loader(10);
+        CompletableFuture<String> a = loadOnLoop(loader, "a");
+        CompletableFuture<String> b = loadOnLoop(loader, "b");
+        CompletableFuture<String> again = loadOnLoop(loader, "a");
+
+        assertEquals("v-a", a.get(5, TimeUnit.SECONDS));
+        assertEquals("v-b", b.get(5, TimeUnit.SECONDS));
+        assertEquals("v-a", again.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of("a", "b")), flushes.stream().map(Flush::keys).toList());
+    }
+
+    @Test
+    void fullBatchGoesOutWithoutWaitingForTheWindow() throws Exception {
+        BatchLoader<String, String> loader = loader(2);
+        long start = System.nanoTime();
+        CompletableFuture<String> a = loadOnLoop(loader, "a");
+        CompletableFuture<String> b = loadOnLoop(loader, "b");
+
+        a.get(5, TimeUnit.SECONDS);
+        b.get(5, TimeUnit.SECONDS);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(flushes.get(0).atNanos() - start) < WINDOW_MILLIS);
+    }
+
+    @Test
+    void sizeFlushedBatchTimerDoesNotFlushTheNextBatchEarly() throws Exception {
+        BatchLoader<String, String> loader = loader(2);
+        loadOnLoop(loader, "a");
+        loadOnLoop(loader, "b").get(5, TimeUnit.SECONDS);
+
+        // Starts a new batch while the first batch's window would still be open
+        Thread.sleep(WINDOW_MILLIS / 2);
+        long enqueued = System.nanoTime();
+        assertEquals("v-c", loadOnLoop(loader, "c").get(5, TimeUnit.SECONDS));
+
+        Flush second = flushes.get(1);
+        assertEquals(Set.of("c"), second.keys());
+        // Before the fix the first batch's timer fired about half a window in and took this batch with it
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(second.atNanos() - enqueued);
+        assertTrue(waitedMillis >= WINDOW_MILLIS - 20, "flushed after " + waitedMillis + "ms");
+    }
+}
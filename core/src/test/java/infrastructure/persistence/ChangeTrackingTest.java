@@ -0,0 +1,33 @@
+package infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeTrackingTest {
+
+    @Test
+    void installNeverDropsTriggers() {
+        List<String> statements = ChangeTracking.installStatements("products");
+
+        assertFalse(statements.stream().anyMatch(sql -> sql.contains("drop trigger")));
+    }
+
+    @Test
+    void tableLevelDdlIsGuardedByTheCatalog() {
+        List<String> statements = ChangeTracking.installStatements("products");
+
+        for (String sql : statements) {
+            if (sql.contains("alter table") || sql.contains("create trigger") || sql.contains("create index")) {
+                assertTrue(sql.startsWith("do $$ begin if not exists ("), sql);
+            }
+        }
+        assertTrue(statements.contains("do $$ begin if not exists (select 1 from pg_trigger"
+                + " where tgrelid = to_regclass('products') and tgname = 'products_change_version') then"
+                + " create trigger products_change_version before insert or update on products"
+                + " for each row execute function honeybee_stamp_change_version(); end if; end $$"));
+    }
+}
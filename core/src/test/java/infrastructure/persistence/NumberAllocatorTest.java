@@ -0,0 +1,115 @@
+package infrastructure.persistence;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NumberAllocatorTest {
+
+    @Test
+    void formatsWithPrefixAndZeroPadding() {
+        NumberAllocator allocator = allocator(new CountingSequences(), 10, 8);
+        assertEquals("PRD-00000001", allocator.next("PRD").await().indefinitely());
+        assertEquals("PRD-00000002", allocator.next("PRD").await().indefinitely());
+    }
+
+    @Test
+    void reservesOneBlockPerBlockSizeNumbers() {
+        CountingSequences sequences = new CountingSequences();
+        NumberAllocator allocator = allocator(sequences, 10, 8);
+        for (int i = 1; i <= 25; i++) {
+            assertEquals(String.format("CAT-%08d", i), allocator.next("CAT").await().indefinitely());
+        }
+        assertEquals(3, sequences.reservations.get());
+    }
+
+    @Test
+    void keepsSeparateRangesPerPrefix() {
+        NumberAllocator allocator = allocator(new CountingSequences(), 10, 4);
+        assertEquals("PRD-0001", allocator.next("PRD").await().indefinitely());
+        assertEquals("CAT-0001", allocator.next("CAT").await().indefinitely());
+        assertEquals("PRD-0002", allocator.next("PRD").await().indefinitely());
+    }
+
+    @Test
+    void spareBlockFromARacingRefillIsUsedNotWasted() {
+        NumberAllocator.Range range = new NumberAllocator.Range();
+        assertEquals(-1, range.take());
+        // Two callers found the range empty and both reserved a block
+        assertEquals(1, range.refill(1, 2));
+        assertEquals(2, range.refill(101, 2));
+        assertEquals(101, range.take());
+        assertEquals(102, range.take());
+        assertEquals(-1, range.take());
+    }
+
+    @Test
+    void handsOutUniqueNumbersUnderConcurrentRefills() throws Exception {
+        CountingSequences sequences = new CountingSequences();
+        NumberAllocator allocator = allocator(sequences, 7, 8);
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<List<String>>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    List<String> numbers = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        numbers.add(allocator.next("PRD").await().indefinitely());
+                    }
+                    return numbers;
+                });
+            }
+            Set<String> all = new HashSet<>();
+            for (Future<List<String>> result : executor.invokeAll(tasks)) {
+                all.addAll(result.get());
+            }
+            assertEquals(threads * perThread, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static NumberAllocator allocator(DatabaseSequences sequences, long blockSize, int digits) {
+        NumberAllocator allocator = new NumberAllocator();
+        allocator.sequences = sequences;
+        allocator.blockSize = blockSize;
+        allocator.digits = digits;
+        return allocator;
+    }
+
+    /**
+     * A PostgreSQL sequence per name: starts at 1, then moves by its increment
+     */
+    private static final class CountingSequences extends DatabaseSequences {
+        private final Map<String, AtomicLong> values = new ConcurrentHashMap<>();
+        final AtomicInteger reservations = new AtomicInteger();
+
+        @Override
+        public Uni<Long> nextValue(String sequenceName, long incrementBy) {
+            reservations.incrementAndGet();
+            return Uni.createFrom().item(values.computeIfAbsent(sequenceName, name -> new AtomicLong(1 - incrementBy))
+                    .addAndGet(incrementBy));
+        }
+
+        @Override
+        public Uni<Long> incrementOf(String sequenceName, long incrementBy) {
+            return Uni.createFrom().item(incrementBy);
+        }
+    }
+}
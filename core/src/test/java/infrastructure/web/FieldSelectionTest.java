@@ -0,0 +1,146 @@
+package infrastructure.web;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.UriInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FieldSelectionTest {
+
+    private static final String FULL = "{\"name\":\"Pen\",\"price\":3}";
+
+    @JsonFilter(FieldSelection.FILTER)
+    public static class Item {
+        public String name = "Pen";
+        public int price = 3;
+    }
+
+    private final Vertx vertx = Vertx.vertx();
+    private final FieldSelection selection = new FieldSelection();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    FieldSelectionTest() {
+        selection.customize(objectMapper);
+    }
+
+    @AfterEach
+    void close() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void everyPropertyOutsideARequest() throws Exception {
+        assertEquals(FULL, objectMapper.writeValueAsString(new Item()));
+        assertEquals(FULL, on(vertx.getOrCreateContext(), this::write));
+    }
+
+    @Test
+    void selectionShapesTheResponseOnly() throws Exception {
+        Context request = newRequest();
+
+        String response = on(request, () -> {
+            // Serialized while the resource method ran, e.g. a state event or snapshot
+            assertEquals(FULL, write());
+            selection.bind(request("GET", "name"), response(200));
+            return write();
+        });
+        assertEquals("{\"name\":\"Pen\"}", response);
+    }
+
+    @Test
+    void selectionDoesNotLeakIntoOtherRequests() throws Exception {
+        Context first = newRequest();
+        on(first, () -> {
+            selection.bind(request("GET", "price"), response(200));
+            return null;
+        });
+
+        assertEquals(FULL, on(newRequest(), this::write));
+        assertEquals(FULL, on(vertx.getOrCreateContext(), this::write));
+        assertEquals("{\"price\":3}", on(first, this::write));
+    }
+
+    @Test
+    void onlySuccessfulGetsAreNarrowed() throws Exception {
+        Context post = newRequest();
+        Context failed = newRequest();
+
+        assertEquals(FULL, on(post, () -> {
+            selection.bind(request("POST", "name"), response(200));
+            return write();
+        }));
+        assertEquals(FULL, on(failed, () -> {
+            selection.bind(request("GET", "name"), response(404));
+            return write();
+        }));
+    }
+
+    @Test
+    void blankSelectionKeepsEveryProperty() throws Exception {
+        assertEquals(FULL, on(newRequest(), () -> {
+            selection.bind(request("GET", " , "), response(200));
+            return write();
+        }));
+    }
+
+    private String write() throws Exception {
+        return objectMapper.writeValueAsString(new Item());
+    }
+
+    private Context newRequest() {
+        return VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+    }
+
+    private static <T> T on(Context context, Callable<T> work) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> {
+            try {
+                result.complete(work.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private static ContainerRequestContext request(String method, String fields) {
+        MultivaluedHashMap<String, String> query = new MultivaluedHashMap<>();
+        query.add("fields", fields);
+        UriInfo uriInfo = stub(UriInfo.class, "getQueryParameters", query);
+        return (ContainerRequestContext) Proxy.newProxyInstance(FieldSelectionTest.class.getClassLoader(),
+                new Class<?>[]{ContainerRequestContext.class},
+                (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getMethod" -> method;
+                    case "getUriInfo" -> uriInfo;
+                    default -> throw new UnsupportedOperationException(invoked.getName());
+                });
+    }
+
+    private static ContainerResponseContext response(int status) {
+        return stub(ContainerResponseContext.class, "getStatus", status);
+    }
+
+    private static <T> T stub(Class<T> type, String method, Object value) {
+        return type.cast(Proxy.newProxyInstance(FieldSelectionTest.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, invoked, args) -> {
+                    if (invoked.getName().equals(method)) {
+                        return value;
+                    }
+                    throw new UnsupportedOperationException(invoked.getName());
+                }));
+    }
+}
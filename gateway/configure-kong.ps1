@@ -10,6 +10,7 @@ curl -i -X POST http://localhost:8001/services `
 
 curl -i -X POST http://localhost:8001/services/product-service/routes `
   --data "paths[]=/api/products" `
+  --data "paths[]=/api/catalog" `
   --data "strip_path=false"
 
 # Category Service
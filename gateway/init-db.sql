@@ -2,6 +2,8 @@
 CREATE DATABASE product_db;
 CREATE DATABASE category_db;
 CREATE DATABASE audit_db;
+-- Target of the audit-service ingestbench profile, keeps synthetic rows out of audit_db
+CREATE DATABASE audit_bench_db;
 CREATE DATABASE kong;
 
 -- Create users (if needed)
@@ -40,6 +40,8 @@ dependencies {
     
     // Kafka for audit events
     implementation("io.quarkus:quarkus-messaging-kafka")
+    implementation("io.smallrye.reactive:smallrye-reactive-messaging-in-memory") // ingestbench profile: channels without a broker
+    implementation("io.micrometer:micrometer-core") // ingestbench reads the db.operation timings
     
     // MapStruct
     implementation("org.mapstruct:mapstruct:1.5.5.Final")
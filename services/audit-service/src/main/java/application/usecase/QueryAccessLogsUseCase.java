@@ -1,10 +1,11 @@
 package application.usecase;
 
 import domain.entity.AccessLog;
-import io.quarkus.hibernate.reactive.panache.common.WithSession;
-import io.quarkus.panache.common.Sort;
+import infrastructure.persistence.EntityRows;
+import infrastructure.persistence.ReadReplica;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,88 +16,68 @@ import java.util.List;
 @ApplicationScoped
 public class QueryAccessLogsUseCase {
 
-    @WithSession
+    private static final EntityRows<AccessLog> ROWS = EntityRows.of(AccessLog.class);
+
+    @Inject
+    ReadReplica reads;
+
     public Uni<List<AccessLog>> getAllLogs(int page, int size) {
-        return AccessLog.findAll(Sort.descending("timestamp"))
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "order by timestamp desc limit $1 offset $2", size, page * size);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getLogsByMethod(String httpMethod, int page, int size) {
-        return AccessLog.find("httpMethod = ?1", Sort.descending("timestamp"), httpMethod)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where http_method = $1 order by timestamp desc limit $2 offset $3",
+                httpMethod, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getLogsByEndpoint(String endpoint, int page, int size) {
-        return AccessLog.find("endpoint = ?1", Sort.descending("timestamp"), endpoint)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where endpoint = $1 order by timestamp desc limit $2 offset $3",
+                endpoint, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getLogsByStatusCode(Integer statusCode, int page, int size) {
-        return AccessLog.find("statusCode = ?1", Sort.descending("timestamp"), statusCode)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where status_code = $1 order by timestamp desc limit $2 offset $3",
+                statusCode, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getLogsByService(String serviceName, int page, int size) {
-        return AccessLog.find("serviceName = ?1", Sort.descending("timestamp"), serviceName)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where service_name = $1 order by timestamp desc limit $2 offset $3",
+                serviceName, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getLogsByUser(String userId, int page, int size) {
-        return AccessLog.find("userId = ?1", Sort.descending("timestamp"), userId)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where user_id = $1 order by timestamp desc limit $2 offset $3",
+                userId, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getLogsByCorrelationId(String correlationId) {
-        return AccessLog.find("correlationId = ?1", Sort.ascending("timestamp"), correlationId)
-                .list();
+        return reads.list(ROWS, "where correlation_id = $1 order by timestamp", correlationId);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getSlowRequests(Long minResponseTime, int page, int size) {
-        return AccessLog.find("responseTimeMs >= ?1", Sort.descending("responseTimeMs"), minResponseTime)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where response_time_ms >= $1 order by response_time_ms desc limit $2 offset $3",
+                minResponseTime, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getLogsByDateRange(LocalDateTime from, LocalDateTime to, int page, int size) {
-        return AccessLog.find("timestamp >= ?1 and timestamp <= ?2",
-                        Sort.descending("timestamp"), from, to)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where timestamp >= $1 and timestamp <= $2 order by timestamp desc limit $3 offset $4",
+                from, to, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AccessLog>> getErrorResponses(int page, int size) {
-        return AccessLog.find("statusCode >= 400", Sort.descending("timestamp"))
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where status_code >= 400 order by timestamp desc limit $1 offset $2",
+                size, page * size);
     }
 
-    @WithSession
     public Uni<Long> countByStatusCode(Integer statusCode) {
-        return AccessLog.count("statusCode = ?1", statusCode);
+        return reads.count(ROWS.table, "status_code = $1", statusCode);
     }
 
-    @WithSession
     public Uni<Long> countByMethod(String httpMethod) {
-        return AccessLog.count("httpMethod = ?1", httpMethod);
+        return reads.count(ROWS.table, "http_method = $1", httpMethod);
     }
 
-    @WithSession
     public Uni<Long> countSlowRequests(Long minResponseTime) {
-        return AccessLog.count("responseTimeMs >= ?1", minResponseTime);
+        return reads.count(ROWS.table, "response_time_ms >= $1", minResponseTime);
     }
 }
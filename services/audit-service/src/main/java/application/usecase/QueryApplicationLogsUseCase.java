@@ -1,11 +1,14 @@
 package application.usecase;
 
 import domain.entity.ApplicationLog;
+import infrastructure.persistence.EntityRows;
+import infrastructure.persistence.ReadReplica;
 import share.enums.LogLevel;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.quarkus.panache.common.Sort;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,46 +19,37 @@ import java.util.List;
 @ApplicationScoped
 public class QueryApplicationLogsUseCase {
 
-    @WithSession
+    private static final EntityRows<ApplicationLog> ROWS = EntityRows.of(ApplicationLog.class);
+
+    @Inject
+    ReadReplica reads;
+
     public Uni<List<ApplicationLog>> getAllLogs(int page, int size) {
-        return ApplicationLog.findAll(Sort.descending("timestamp"))
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "order by timestamp desc limit $1 offset $2", size, page * size);
     }
 
-    @WithSession
     public Uni<List<ApplicationLog>> getLogsByLevel(LogLevel level, int page, int size) {
-        return ApplicationLog.find("level = ?1", Sort.descending("timestamp"), level)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where level = $1 order by timestamp desc limit $2 offset $3",
+                level, size, page * size);
     }
 
-    @WithSession
     public Uni<List<ApplicationLog>> getLogsByService(String serviceName, int page, int size) {
-        return ApplicationLog.find("serviceName = ?1", Sort.descending("timestamp"), serviceName)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where service_name = $1 order by timestamp desc limit $2 offset $3",
+                serviceName, size, page * size);
     }
 
-    @WithSession
     public Uni<List<ApplicationLog>> getLogsByUser(String userId, int page, int size) {
-        return ApplicationLog.find("userId = ?1", Sort.descending("timestamp"), userId)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where user_id = $1 order by timestamp desc limit $2 offset $3",
+                userId, size, page * size);
     }
 
-    @WithSession
     public Uni<List<ApplicationLog>> getLogsByCorrelationId(String correlationId) {
-        return ApplicationLog.find("correlationId = ?1", Sort.ascending("timestamp"), correlationId)
-                .list();
+        return reads.list(ROWS, "where correlation_id = $1 order by timestamp", correlationId);
     }
 
-    @WithSession
     public Uni<List<ApplicationLog>> getLogsByDateRange(LocalDateTime from, LocalDateTime to, int page, int size) {
-        return ApplicationLog.find("timestamp >= ?1 and timestamp <= ?2",
-                        Sort.descending("timestamp"), from, to)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where timestamp >= $1 and timestamp <= $2 order by timestamp desc limit $3 offset $4",
+                from, to, size, page * size);
     }
 
     @WithSession
@@ -67,13 +61,11 @@ public class QueryApplicationLogsUseCase {
                 .list();
     }
 
-    @WithSession
     public Uni<Long> countByLevel(LogLevel level) {
-        return ApplicationLog.count("level = ?1", level);
+        return reads.count(ROWS.table, "level = $1", level);
     }
 
-    @WithSession
     public Uni<Long> countByService(String serviceName) {
-        return ApplicationLog.count("serviceName = ?1", serviceName);
+        return reads.count(ROWS.table, "service_name = $1", serviceName);
     }
 }
@@ -1,93 +1,74 @@
 package application.usecase;
 
 import domain.entity.AuditLog;
+import infrastructure.persistence.EntityRows;
+import infrastructure.persistence.ReadReplica;
 import share.enums.AuditTypeEnum;
-import io.quarkus.hibernate.reactive.panache.common.WithSession;
-import io.quarkus.panache.common.Sort;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Use case for querying audit logs
- * Implements business logic for audit log queries
+ * Implements business logic for audit log queries; reads are served by the read replica when available
  */
 @ApplicationScoped
 public class QueryAuditLogsUseCase {
 
-    @WithSession
+    private static final EntityRows<AuditLog> ROWS = EntityRows.of(AuditLog.class);
+
+    @Inject
+    ReadReplica reads;
+
     public Uni<List<AuditLog>> getAllLogs(int page, int size) {
-        return AuditLog.findAll(Sort.descending("timestamp"))
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "order by timestamp desc limit $1 offset $2", size, page * size);
     }
 
-    @WithSession
     public Uni<List<AuditLog>> getLogsByType(AuditTypeEnum type, int page, int size) {
-        return AuditLog.find("auditType = ?1", Sort.descending("timestamp"), type)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where audit_type = $1 order by timestamp desc limit $2 offset $3",
+                type, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AuditLog>> getLogsByUser(Long userId, int page, int size) {
-        return AuditLog.find("userId = ?1", Sort.descending("timestamp"), userId)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where user_id = $1 order by timestamp desc limit $2 offset $3",
+                userId, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AuditLog>> getLogsByEntity(String entityType, Long entityId, int page, int size) {
-        return AuditLog.find("entityType = ?1 and entityId = ?2",
-                        Sort.descending("timestamp"), entityType, entityId)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where entity_type = $1 and entity_id = $2 order by timestamp desc limit $3 offset $4",
+                entityType, entityId, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AuditLog>> getLogsByService(String serviceName, int page, int size) {
-        return AuditLog.find("serviceName = ?1", Sort.descending("timestamp"), serviceName)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where service_name = $1 order by timestamp desc limit $2 offset $3",
+                serviceName, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AuditLog>> getLogsByDateRange(LocalDateTime from, LocalDateTime to, int page, int size) {
-        return AuditLog.find("timestamp >= ?1 and timestamp <= ?2",
-                        Sort.descending("timestamp"), from, to)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where timestamp >= $1 and timestamp <= $2 order by timestamp desc limit $3 offset $4",
+                from, to, size, page * size);
     }
 
-    @WithSession
     public Uni<List<AuditLog>> getLogsByCorrelationId(String correlationId) {
-        return AuditLog.find("correlationId = ?1", Sort.ascending("timestamp"), correlationId)
-                .list();
+        return reads.list(ROWS, "where correlation_id = $1 order by timestamp", correlationId);
     }
 
-    @WithSession
     public Uni<List<AuditLog>> getRecentErrors(int limit) {
-        return AuditLog.find("auditType = ?1", Sort.descending("timestamp"), AuditTypeEnum.ERROR)
-                .page(0, limit)
-                .list();
+        return reads.list(ROWS, "where audit_type = $1 order by timestamp desc limit $2", AuditTypeEnum.ERROR, limit);
     }
 
-    @WithSession
     public Uni<List<AuditLog>> getRecentSecurityEvents(int limit) {
-        return AuditLog.find("auditType = ?1", Sort.descending("timestamp"), AuditTypeEnum.SECURITY)
-                .page(0, limit)
-                .list();
+        return reads.list(ROWS, "where audit_type = $1 order by timestamp desc limit $2", AuditTypeEnum.SECURITY, limit);
     }
 
-    @WithSession
     public Uni<Long> countByType(AuditTypeEnum type) {
-        return AuditLog.count("auditType = ?1", type);
+        return reads.count(ROWS.table, "audit_type = $1", type);
     }
 
-    @WithSession
     public Uni<Long> countByUser(Long userId) {
-        return AuditLog.count("userId = ?1", userId);
+        return reads.count(ROWS.table, "user_id = $1", userId);
     }
 }
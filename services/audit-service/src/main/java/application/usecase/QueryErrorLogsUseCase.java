@@ -1,10 +1,13 @@
 package application.usecase;
 
 import domain.entity.ErrorLog;
+import infrastructure.persistence.EntityRows;
+import infrastructure.persistence.ReadReplica;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.quarkus.panache.common.Sort;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,32 +18,28 @@ import java.util.List;
 @ApplicationScoped
 public class QueryErrorLogsUseCase {
 
-    @WithSession
+    private static final EntityRows<ErrorLog> ROWS = EntityRows.of(ErrorLog.class);
+
+    @Inject
+    ReadReplica reads;
+
     public Uni<List<ErrorLog>> getAllLogs(int page, int size) {
-        return ErrorLog.findAll(Sort.descending("timestamp"))
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "order by timestamp desc limit $1 offset $2", size, page * size);
     }
 
-    @WithSession
     public Uni<List<ErrorLog>> getLogsByExceptionType(String exceptionType, int page, int size) {
-        return ErrorLog.find("exceptionType = ?1", Sort.descending("timestamp"), exceptionType)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where exception_type = $1 order by timestamp desc limit $2 offset $3",
+                exceptionType, size, page * size);
     }
 
-    @WithSession
     public Uni<List<ErrorLog>> getLogsByService(String serviceName, int page, int size) {
-        return ErrorLog.find("serviceName = ?1", Sort.descending("timestamp"), serviceName)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where service_name = $1 order by timestamp desc limit $2 offset $3",
+                serviceName, size, page * size);
     }
 
-    @WithSession
     public Uni<List<ErrorLog>> getLogsByUser(String userId, int page, int size) {
-        return ErrorLog.find("userId = ?1", Sort.descending("timestamp"), userId)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where user_id = $1 order by timestamp desc limit $2 offset $3",
+                userId, size, page * size);
     }
 
     @WithSession
@@ -50,44 +49,31 @@ public class QueryErrorLogsUseCase {
                 .list();
     }
 
-    @WithSession
     public Uni<List<ErrorLog>> getLogsByCorrelationId(String correlationId) {
-        return ErrorLog.find("correlationId = ?1", Sort.ascending("timestamp"), correlationId)
-                .list();
+        return reads.list(ROWS, "where correlation_id = $1 order by timestamp", correlationId);
     }
 
-    @WithSession
     public Uni<List<ErrorLog>> getLogsByDateRange(LocalDateTime from, LocalDateTime to, int page, int size) {
-        return ErrorLog.find("timestamp >= ?1 and timestamp <= ?2",
-                        Sort.descending("timestamp"), from, to)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where timestamp >= $1 and timestamp <= $2 order by timestamp desc limit $3 offset $4",
+                from, to, size, page * size);
     }
 
-    @WithSession
     public Uni<List<ErrorLog>> getRecentErrors(int limit) {
-        return ErrorLog.findAll(Sort.descending("timestamp"))
-                .page(0, limit)
-                .list();
+        return reads.list(ROWS, "order by timestamp desc limit $1", limit);
     }
 
-    @WithSession
     public Uni<List<ErrorLog>> searchLogs(String keyword, int page, int size) {
         String pattern = "%" + keyword + "%";
-        return ErrorLog.find("message like ?1 or exceptionType like ?1 or stackTrace like ?1",
-                        Sort.descending("timestamp"), pattern)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where message like $1 or exception_type like $1 or stack_trace like $1 "
+                + "order by timestamp desc limit $2 offset $3", pattern, size, page * size);
     }
 
-    @WithSession
     public Uni<Long> countByExceptionType(String exceptionType) {
-        return ErrorLog.count("exceptionType = ?1", exceptionType);
+        return reads.count(ROWS.table, "exception_type = $1", exceptionType);
     }
 
-    @WithSession
     public Uni<Long> countByService(String serviceName) {
-        return ErrorLog.count("serviceName = ?1", serviceName);
+        return reads.count(ROWS.table, "service_name = $1", serviceName);
     }
 
     @WithSession
@@ -1,10 +1,12 @@
 package application.usecase;
 
 import domain.entity.PerformanceLog;
-import io.quarkus.hibernate.reactive.panache.common.WithSession;
-import io.quarkus.panache.common.Sort;
+import infrastructure.persistence.EntityRows;
+import infrastructure.persistence.ReadReplica;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Tuple;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,85 +17,63 @@ import java.util.List;
 @ApplicationScoped
 public class QueryPerformanceLogsUseCase {
 
-    @WithSession
+    private static final EntityRows<PerformanceLog> ROWS = EntityRows.of(PerformanceLog.class);
+
+    @Inject
+    ReadReplica reads;
+
     public Uni<List<PerformanceLog>> getAllLogs(int page, int size) {
-        return PerformanceLog.findAll(Sort.descending("timestamp"))
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "order by timestamp desc limit $1 offset $2", size, page * size);
     }
 
-    @WithSession
     public Uni<List<PerformanceLog>> getLogsByOperation(String operation, int page, int size) {
-        return PerformanceLog.find("operation = ?1", Sort.descending("timestamp"), operation)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where operation = $1 order by timestamp desc limit $2 offset $3",
+                operation, size, page * size);
     }
 
-    @WithSession
     public Uni<List<PerformanceLog>> getLogsByService(String serviceName, int page, int size) {
-        return PerformanceLog.find("serviceName = ?1", Sort.descending("timestamp"), serviceName)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where service_name = $1 order by timestamp desc limit $2 offset $3",
+                serviceName, size, page * size);
     }
 
-    @WithSession
     public Uni<List<PerformanceLog>> getSlowOperations(int page, int size) {
-        return PerformanceLog.find("isSlow = true", Sort.descending("durationMs"))
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where is_slow = true order by duration_ms desc limit $1 offset $2",
+                size, page * size);
     }
 
-    @WithSession
     public Uni<List<PerformanceLog>> getLogsByMinDuration(Long minDuration, int page, int size) {
-        return PerformanceLog.find("durationMs >= ?1", Sort.descending("durationMs"), minDuration)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where duration_ms >= $1 order by duration_ms desc limit $2 offset $3",
+                minDuration, size, page * size);
     }
 
-    @WithSession
     public Uni<List<PerformanceLog>> getLogsByCorrelationId(String correlationId) {
-        return PerformanceLog.find("correlationId = ?1", Sort.ascending("timestamp"), correlationId)
-                .list();
+        return reads.list(ROWS, "where correlation_id = $1 order by timestamp", correlationId);
     }
 
-    @WithSession
     public Uni<List<PerformanceLog>> getLogsByDateRange(LocalDateTime from, LocalDateTime to, int page, int size) {
-        return PerformanceLog.find("timestamp >= ?1 and timestamp <= ?2",
-                        Sort.descending("timestamp"), from, to)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where timestamp >= $1 and timestamp <= $2 order by timestamp desc limit $3 offset $4",
+                from, to, size, page * size);
     }
 
-    @WithSession
     public Uni<List<PerformanceLog>> searchLogs(String keyword, int page, int size) {
         String pattern = "%" + keyword + "%";
-        return PerformanceLog.find("operation like ?1", Sort.descending("timestamp"), pattern)
-                .page(page, size)
-                .list();
+        return reads.list(ROWS, "where operation like $1 order by timestamp desc limit $2 offset $3",
+                pattern, size, page * size);
     }
 
-    @WithSession
     public Uni<Long> countSlowOperations() {
-        return PerformanceLog.count("isSlow = true");
+        return reads.count(ROWS.table, "is_slow = true");
     }
 
-    @WithSession
     public Uni<Long> countByService(String serviceName) {
-        return PerformanceLog.count("serviceName = ?1", serviceName);
+        return reads.count(ROWS.table, "service_name = $1", serviceName);
     }
 
-    @WithSession
     public Uni<Double> getAverageDuration(String operation) {
-        return PerformanceLog.find("operation = ?1", operation)
-                .list()
-                .onItem().transform(logs -> {
-                    if (logs.isEmpty()) return 0.0;
-                    long sum = logs.stream()
-                            .filter(log -> log instanceof PerformanceLog)
-                            .map(log -> (PerformanceLog) log)
-                            .mapToLong(log -> log.durationMs != null ? log.durationMs : 0)
-                            .sum();
-                    return (double) sum / logs.size();
-                });
+        // Missing durations count as 0, as before; aggregated in the database instead of loading every row
+        return reads.read(client -> client
+                .preparedQuery("select coalesce(avg(coalesce(duration_ms, 0)), 0) from " + ROWS.table + " where operation = $1")
+                .execute(Tuple.of(operation))
+                .onItem().transform(rows -> rows.iterator().next().getDouble(0)));
     }
 }
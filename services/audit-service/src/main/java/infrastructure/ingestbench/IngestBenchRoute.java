@@ -0,0 +1,39 @@
+package infrastructure.ingestbench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import infrastructure.web.RunRoute;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.Router;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * POST /ingestbench/run with an IngestRun body; answers with the IngestReport once the last step has drained
+ */
+@ApplicationScoped
+@IfBuildProfile("ingestbench")
+public class IngestBenchRoute {
+
+    static final String PATH = "/ingestbench/run";
+
+    @Inject
+    IngestGenerator generator;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    void register(@Observes Router router) {
+        router.post(PATH).handler(new RunRoute<>(objectMapper, IngestRun.class, "INGEST_RUN", this::run));
+    }
+
+    private Uni<IngestReport> run(IngestRun run) {
+        Log.infof("🏋️ Ingest run: rates %s, batch %d, %d channel(s), %ds per step (+%ds warm-up)",
+                run.rates, run.batchSize, run.concurrency, run.stepSeconds, run.warmupSeconds);
+        return generator.run(run)
+                .invoke(report -> Log.infof("🏋️ Ingest run over: %.0f msg/s sustained over %d step(s)",
+                        report.sustainedPerSecond, report.steps.size()));
+    }
+}
@@ -0,0 +1,370 @@
+package infrastructure.ingestbench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.entity.AuditLog;
+import infrastructure.context.BackgroundContexts;
+import infrastructure.metrics.DatabaseMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.memory.InMemoryConnector;
+import io.smallrye.reactive.messaging.memory.InMemorySource;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import share.dto.AccessLog;
+import share.dto.AuditEvent;
+import share.enums.AuditTypeEnum;
+import share.id.IdGenerator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open-loop ingestion load: offers synthetic AccessLog and AuditEvent messages at stepped rates to the
+ * consumer's in-memory channels, and times each from send to acknowledgement. The writes go to the
+ * configured PostgreSQL, so a step shows what the consumer and the connection pool sustain at that rate.
+ * Every message carries the run's correlation id; the rows it wrote are deleted once the run is over.
+ */
+@ApplicationScoped
+@IfBuildProfile("ingestbench")
+public class IngestGenerator {
+
+    // Drive order: the access-log stream first, then one audit event stream per channel
+    private static final List<String> CHANNELS = List.of(
+            "access-logs", "crud-events", "login-events", "transaction-events",
+            "security-events", "system-events", "error-events");
+    private static final Map<String, AuditTypeEnum> EVENT_TYPES = Map.of(
+            "crud-events", AuditTypeEnum.CRUD,
+            "login-events", AuditTypeEnum.LOGIN,
+            "transaction-events", AuditTypeEnum.TRANSACTION,
+            "security-events", AuditTypeEnum.SECURITY,
+            "system-events", AuditTypeEnum.SYSTEM,
+            "error-events", AuditTypeEnum.ERROR);
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+
+    // A step whose throughput falls below this share of the rate it was offered is past capacity
+    private static final double KEEPING_UP = 0.95;
+    private static final long DRAIN_POLL_MS = 50;
+    // Prefix of the per-run correlation id the rows are tagged with
+    private static final String TAG_PREFIX = "ingestbench-";
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    @Any
+    InMemoryConnector connector;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    public Uni<IngestReport> run(IngestRun run) {
+        if (run.rates == null || run.rates.isEmpty() || run.rates.stream().anyMatch(rate -> rate == null || rate < 1)) {
+            return Uni.createFrom().failure(new IllegalArgumentException("rates must be a non-empty list of positive rates"));
+        }
+        if (run.batchSize < 1 || run.stepSeconds < 1 || run.warmupSeconds < 0 || run.drainSeconds < 0) {
+            return Uni.createFrom().failure(new IllegalArgumentException(
+                    "batchSize and stepSeconds must be positive, warmupSeconds and drainSeconds not negative"));
+        }
+        if (run.concurrency < 1 || run.concurrency > CHANNELS.size()) {
+            return Uni.createFrom().failure(new IllegalArgumentException(
+                    "concurrency must be between 1 and " + CHANNELS.size() + " (one channel each)"));
+        }
+        String tag = TAG_PREFIX + IdGenerator.nextId();
+        List<Feed> feeds;
+        try {
+            feeds = feeds(run.concurrency, tag);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        IngestReport report = new IngestReport();
+        report.correlationId = tag;
+        report.batchSize = run.batchSize;
+        report.concurrency = run.concurrency;
+        report.channels = feeds.stream().map(Feed::channel).toList();
+
+        // Collects the consumer's db.operation timings for the length of the run
+        SimpleMeterRegistry dbTimes = new SimpleMeterRegistry();
+        Metrics.addRegistry(dbTimes);
+        List<Integer> rates = run.rates.stream().sorted().toList();
+        Uni<Void> warmup = run.warmupSeconds == 0
+                ? Uni.createFrom().voidItem()
+                : step(run, feeds, rates.get(0), run.warmupSeconds, dbTimes).replaceWithVoid();
+
+        return warmup
+                .chain(() -> steps(run, feeds, rates.iterator(), dbTimes, report))
+                .eventually(() -> {
+                    Metrics.removeRegistry(dbTimes);
+                    dbTimes.close();
+                })
+                .eventually(() -> deleteRows(report))
+                .map(ignored -> {
+                    report.sustainedPerSecond = report.steps.stream()
+                            .filter(step -> !step.saturated)
+                            .mapToDouble(step -> step.throughputPerSecond)
+                            .max().orElse(0);
+                    return report;
+                });
+    }
+
+    private Uni<Void> steps(IngestRun run, List<Feed> feeds, Iterator<Integer> rates, MeterRegistry dbTimes, IngestReport report) {
+        if (!rates.hasNext()) {
+            return Uni.createFrom().voidItem();
+        }
+        return step(run, feeds, rates.next(), run.stepSeconds, dbTimes)
+                .chain(step -> {
+                    report.steps.add(step);
+                    if (step.saturated && run.stopOnSaturation) {
+                        return Uni.createFrom().voidItem();
+                    }
+                    return steps(run, feeds, rates, dbTimes, report);
+                });
+    }
+
+    private Uni<IngestReport.Step> step(IngestRun run, List<Feed> feeds, int rate, int seconds, MeterRegistry dbTimes) {
+        return Uni.createFrom().deferred(() -> {
+            RateStep step = new RateStep(run, feeds, rate, seconds, dbTimes);
+            return Uni.createFrom().completionStage(() -> step.start().toCompletionStage())
+                    .map(ignored -> step.result());
+        });
+    }
+
+    /**
+     * Deletes the rows the run wrote, found by its correlation id; failures are logged, not raised
+     * Writes still pending after the drain time can land afterwards, hence the dedicated database of the profile.
+     */
+    private Uni<Void> deleteRows(IngestReport report) {
+        String tag = report.correlationId;
+        return BackgroundContexts.run(vertx, () -> Panache.withTransaction(() ->
+                        AuditLog.delete("correlationId", tag)
+                                .chain(audits -> domain.entity.AccessLog.delete("correlationId", tag)
+                                        .map(accesses -> audits + accesses))))
+                .invoke(deleted -> {
+                    report.rowsDeleted = deleted;
+                    Log.infof("🧹 Ingest run %s: deleted %d row(s)", tag, deleted);
+                })
+                .onFailure().invoke(e -> Log.warnf(e, "⚠️ Could not delete the rows of ingest run %s: %s", tag, e.getMessage()))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    private List<Feed> feeds(int concurrency, String tag) throws JsonProcessingException {
+        List<Feed> feeds = new ArrayList<>(concurrency);
+        for (String channel : CHANNELS.subList(0, concurrency)) {
+            AuditTypeEnum type = EVENT_TYPES.get(channel);
+            Object payload = type != null ? auditEvent(type, tag) : accessLog(tag);
+            // Throws IllegalArgumentException for a channel that isn't on the in-memory connector
+            InMemorySource<Message<String>> source = connector.source(channel);
+            feeds.add(new Feed(channel, source, objectMapper.writeValueAsString(payload)));
+        }
+        return feeds;
+    }
+
+    private static AccessLog accessLog(String tag) {
+        AccessLog log = new AccessLog();
+        log.serviceName = "ingestbench";
+        log.httpMethod = "GET";
+        log.endpoint = "/api/products/{id}";
+        log.path = "/api/products/PRD-00000042";
+        log.requestId = tag;
+        log.correlationId = tag;
+        log.ipAddress = "127.0.0.1";
+        log.userAgent = "ingestbench";
+        log.statusCode = 200;
+        log.responseSize = 512;
+        log.contentType = "application/json";
+        log.responseTimeMs = 3L;
+        log.requestTime = LocalDateTime.now();
+        log.responseTime = log.requestTime.plusNanos(3_000_000);
+        log.userId = "1";
+        log.username = "ingestbench";
+        return log;
+    }
+
+    private static AuditEvent auditEvent(AuditTypeEnum type, String tag) {
+        AuditEvent event = new AuditEvent();
+        event.auditTypeEnum = type;
+        event.action = "UPDATE";
+        event.entityType = "Product";
+        event.rowId = 42;
+        event.userId = 1L;
+        event.username = "ingestbench";
+        event.serviceName = "ingestbench";
+        event.ipAddress = "127.0.0.1";
+        event.httpMethod = "PUT";
+        event.endpoint = "/api/products/{id}";
+        event.oldValue = "{\"price\":10.00}";
+        event.newValue = "{\"price\":12.50}";
+        event.durationMs = 3L;
+        event.correlationId = tag;
+        return event;
+    }
+
+    private static double toMillis(double nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private record Feed(String channel, InMemorySource<Message<String>> source, String payload) {
+    }
+
+    /**
+     * One rate step: sends on a Vert.x timer, then waits for the backlog to be acknowledged
+     * Sending and draining run on the caller's context; acknowledgements arrive from the consumer's, hence the lock.
+     */
+    private final class RateStep {
+        private final IngestRun run;
+        private final List<Feed> feeds;
+        private final int rate;
+        private final int seconds;
+        private final MeterRegistry dbTimes;
+        private final Promise<Void> done = Promise.promise();
+        private final double dbNanosBefore;
+        private final long dbRecordsBefore;
+        private final long start;
+        private final long end;
+
+        private long sent;
+        private long batches;
+
+        private long[] latencies = new long[1024];
+        private long acked;
+        private long failed;
+        private long lastAck;
+
+        RateStep(IngestRun run, List<Feed> feeds, int rate, int seconds, MeterRegistry dbTimes) {
+            this.run = run;
+            this.feeds = feeds;
+            this.rate = rate;
+            this.seconds = seconds;
+            this.dbTimes = dbTimes;
+            this.dbNanosBefore = dbNanos();
+            this.dbRecordsBefore = dbRecords();
+            this.start = System.nanoTime();
+            this.end = start + TimeUnit.SECONDS.toNanos(seconds);
+        }
+
+        Future<Void> start() {
+            // Sends are due every batchSize / rate seconds; a tick catches up on whatever fell due since the last
+            long period = Math.max(1, 1000L * run.batchSize / rate);
+            vertx.setPeriodic(period, this::tick);
+            return done.future();
+        }
+
+        private void tick(long timerId) {
+            long now = System.nanoTime();
+            long due = rate * (Math.min(now, end) - start) / 1_000_000_000L;
+            while (sent + run.batchSize <= due) {
+                sendBatch();
+            }
+            if (now >= end) {
+                vertx.cancelTimer(timerId);
+                drain(end + TimeUnit.SECONDS.toNanos(run.drainSeconds));
+            }
+        }
+
+        private void sendBatch() {
+            Feed feed = feeds.get((int) (batches++ % feeds.size()));
+            for (int i = 0; i < run.batchSize; i++) {
+                long sentAt = System.nanoTime();
+                feed.source().send(Message.of(feed.payload())
+                        .withAck(() -> {
+                            acked(sentAt);
+                            return CompletableFuture.completedFuture(null);
+                        })
+                        .withNack(e -> {
+                            failed();
+                            return CompletableFuture.completedFuture(null);
+                        }));
+            }
+            sent += run.batchSize;
+        }
+
+        private void drain(long deadline) {
+            if (settled() >= sent || System.nanoTime() >= deadline) {
+                done.complete();
+                return;
+            }
+            vertx.setTimer(DRAIN_POLL_MS, ignored -> drain(deadline));
+        }
+
+        private synchronized void acked(long sentAt) {
+            long now = System.nanoTime();
+            if (acked == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[(int) acked++] = now - sentAt;
+            lastAck = now;
+        }
+
+        private synchronized void failed() {
+            failed++;
+        }
+
+        private synchronized long settled() {
+            return acked + failed;
+        }
+
+        synchronized IngestReport.Step result() {
+            IngestReport.Step step = new IngestReport.Step();
+            step.offeredPerSecond = rate;
+            step.durationMs = TimeUnit.SECONDS.toMillis(seconds);
+            step.sent = sent;
+            step.acked = acked;
+            step.failed = failed;
+            step.pending = sent - acked - failed;
+            // Up to the last acknowledgement: a backlog worked off after the step still counts against it
+            double elapsedSeconds = Math.max(end, lastAck) - start;
+            step.throughputPerSecond = acked / (elapsedSeconds / 1e9);
+
+            int total = (int) acked;
+            long[] sorted = Arrays.copyOf(latencies, total);
+            Arrays.sort(sorted);
+            Map<String, Double> latencyMs = new LinkedHashMap<>();
+            latencyMs.put("mean", total == 0 ? 0 : toMillis((double) Arrays.stream(sorted).sum() / total));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                latencyMs.put(PERCENTILE_NAMES[i], total == 0 ? 0 : toMillis(sorted[(int) Math.ceil(PERCENTILES[i] * total) - 1]));
+            }
+            latencyMs.put("max", total == 0 ? 0 : toMillis(sorted[total - 1]));
+            step.latencyMs = latencyMs;
+
+            long records = dbRecords() - dbRecordsBefore;
+            step.dbMsPerRecord = records == 0 ? 0 : toMillis((dbNanos() - dbNanosBefore) / records);
+            step.saturated = step.pending > 0 || step.throughputPerSecond < KEEPING_UP * sent / seconds;
+            return step;
+        }
+
+        private double dbNanos() {
+            return inserts().stream().mapToDouble(timer -> timer.totalTime(TimeUnit.NANOSECONDS)).sum();
+        }
+
+        private long dbRecords() {
+            return inserts().stream().mapToLong(Timer::count).sum();
+        }
+
+        private Collection<Timer> inserts() {
+            return dbTimes.find(DatabaseMetrics.DB_OPERATION).tag("operation", "INSERT").timers();
+        }
+    }
+}
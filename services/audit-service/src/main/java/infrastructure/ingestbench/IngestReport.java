@@ -0,0 +1,39 @@
+package infrastructure.ingestbench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of an IngestRun, one entry per rate step; warm-up messages are not counted
+ */
+public class IngestReport {
+    // Carried by every message of the run
+    public String correlationId;
+    public int batchSize;
+    public int concurrency;
+    public List<String> channels;
+    public List<Step> steps = new ArrayList<>();
+    // Highest step throughput that kept up with its offered rate
+    public double sustainedPerSecond;
+    // Rows of the run (warm-up included) deleted once it was over
+    public long rowsDeleted;
+
+    public static class Step {
+        public int offeredPerSecond;
+        public long durationMs;
+        public long sent;
+        public long acked;
+        // Nacked by the consumer (failed writes)
+        public long failed;
+        // Still unacknowledged when the drain time ran out
+        public long pending;
+        // Acknowledgements within the step, per second
+        public double throughputPerSecond;
+        // Send to acknowledgement: queueing in the channel, decoding, admission and the write; mean, p50, p90, p99, p99.9 and max
+        public Map<String, Double> latencyMs;
+        // db.operation INSERT time per record: connection wait, insert and commit
+        public double dbMsPerRecord;
+        public boolean saturated;
+    }
+}
@@ -0,0 +1,22 @@
+package infrastructure.ingestbench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One stepped ingestion run through the consumer's channels (body of POST /ingestbench/run)
+ * Each rate in rates is offered for stepSeconds, in increasing order; the first one also serves as warm-up.
+ */
+public class IngestRun {
+    // Messages per second across all driven channels
+    public List<Integer> rates = new ArrayList<>(List.of(250, 500, 1000, 2000, 4000, 8000));
+    // Messages handed to a channel together, as one Kafka poll would
+    public int batchSize = 1;
+    // Channels driven in parallel (access-logs, then the audit event channels); each is consumed one message at a time
+    public int concurrency = 1;
+    public int warmupSeconds = 5;
+    public int stepSeconds = 20;
+    // How long a step may take to work off its backlog once sending stops
+    public int drainSeconds = 30;
+    public boolean stopOnSaturation = true;
+}
@@ -4,12 +4,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import share.dto.AuditEvent;
 import application.port.inbound.AuditEventConsumerPort;
 import application.usecase.*;
+import infrastructure.admission.AdaptiveLimiter;
+import infrastructure.admission.AdmissionLimiters;
+import infrastructure.admission.AdmissionPriority;
+import infrastructure.metrics.DatabaseMetrics;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 import org.jboss.logging.Logger;
 
+import java.util.function.Supplier;
+
 /**
  * Kafka adapter for consuming all log types
  * Handles both audit events and general logs (application, error, access, performance)
@@ -19,6 +25,13 @@ public class KafkaAuditEventConsumerAdapter {
 
     private static final Logger LOG = Logger.getLogger(KafkaAuditEventConsumerAdapter.class);
 
+    // Limiter shared with the query resources: ingestion is never shed, but its load makes them shed first.
+    // Latency is judged per priority, so fast inserts don't make the slower queries look like overload.
+    private static final String LIMITER = "audit-db";
+
+    @Inject
+    AdmissionLimiters limiters;
+
     @Inject
     ObjectMapper objectMapper;
     
@@ -97,7 +110,7 @@ public class KafkaAuditEventConsumerAdapter {
         try {
             LOG.infof("📩 Received audit event from %s", topic);
             AuditEvent event = objectMapper.readValue(message, AuditEvent.class);
-            return processAuditEventUseCase.processAuditEvent(event)
+            return admitted("AuditLog", () -> processAuditEventUseCase.processAuditEvent(event))
                 .onItem().invoke(() -> LOG.infof("✅ Successfully processed audit event from %s: %s %s", 
                     topic, event.action, event.entityType))
                 .onFailure().invoke(e -> LOG.errorf(e, "❌ Failed to process audit event from %s", topic))
@@ -113,7 +126,7 @@ public class KafkaAuditEventConsumerAdapter {
         try {
             LOG.debugf("📩 Received log from %s", topic);
             T log = objectMapper.readValue(message, clazz);
-            return processor.apply(log)
+            return admitted(clazz.getSimpleName(), () -> processor.apply(log))
                 .onItem().invoke(() -> LOG.debugf("✅ Processed log from %s", topic))
                 .onFailure().invoke(e -> LOG.errorf(e, "❌ Failed to process log from %s", topic))
                 .replaceWithVoid();
@@ -122,4 +135,22 @@ public class KafkaAuditEventConsumerAdapter {
             return Uni.createFrom().voidItem();
         }
     }
+
+    /**
+     * Runs a write under the shared limiter and times it as db.operation{INSERT, entity}
+     * The time covers waiting for a pooled connection, the insert and the commit.
+     */
+    private <T> Uni<T> admitted(String entity, Supplier<Uni<T>> write) {
+        return Uni.createFrom().deferred(() -> {
+            AdaptiveLimiter.Permit permit = limiters.tryAcquire(LIMITER, AdmissionPriority.CRITICAL);
+            long start = System.nanoTime();
+            return write.get()
+                .onTermination().invoke((item, failure, cancelled) -> {
+                    permit.release(failure != null);
+                    if (!cancelled) {
+                        DatabaseMetrics.record("INSERT", entity, failure == null, System.nanoTime() - start);
+                    }
+                });
+        });
+    }
 }
@@ -3,6 +3,8 @@ package presentation.rest;
 import domain.entity.ApplicationLog;
 import application.usecase.QueryApplicationLogsUseCase;
 import share.enums.LogLevel;
+import infrastructure.admission.Admission;
+import infrastructure.admission.AdmissionPriority;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
@@ -14,6 +16,7 @@ import java.util.List;
 /**
  * REST API for querying application logs
  */
+@Admission(limiter = "audit-db", priority = AdmissionPriority.SHEDDABLE)
 @Path("/api/logs/application")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
@@ -2,6 +2,8 @@ package presentation.rest;
 
 import domain.entity.ErrorLog;
 import application.usecase.QueryErrorLogsUseCase;
+import infrastructure.admission.Admission;
+import infrastructure.admission.AdmissionPriority;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
@@ -13,6 +15,7 @@ import java.util.List;
 /**
  * REST API for querying error logs
  */
+@Admission(limiter = "audit-db", priority = AdmissionPriority.SHEDDABLE)
 @Path("/api/logs/error")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
@@ -41,6 +41,12 @@ dependencies {
     // Kafka for audit events
     implementation("io.quarkus:quarkus-messaging-kafka")
 
+    // Metrics scraped at /q/metrics
+    implementation("io.quarkus:quarkus-micrometer-registry-prometheus")
+
+    // Periodic snapshot refresh
+    implementation("io.quarkus:quarkus-scheduler")
+
     implementation("org.mapstruct:mapstruct:1.5.5.Final")
     annotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
     
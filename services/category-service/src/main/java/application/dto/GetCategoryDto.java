@@ -1,13 +1,20 @@
 package application.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.time.LocalDateTime;
 
+// ?fields= on GET endpoints narrows it to the requested properties
+@JsonFilter("fields")
 public class GetCategoryDto {
     public Long id;
+    public String number;
     public String name;
     public String description;
     public Long parentId;
     public String slug;
+    public String path;
+    public Integer depth;
     public LocalDateTime createdAt;
     public String createdBy;
     public LocalDateTime lastModifiedAt;
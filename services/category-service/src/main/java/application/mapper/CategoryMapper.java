@@ -16,6 +16,7 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 public interface CategoryMapper {
     
     @Mapping(source = "RowId", target = "id")
+    @Mapping(source = "Number", target = "number")
     GetCategoryDto toDto(Category category);
     
     @Mapping(target = "RowId", ignore = true)
@@ -31,6 +32,8 @@ public interface CategoryMapper {
     @Mapping(target = "rowVersion", ignore = true)
     @Mapping(target = "modificationStatus", ignore = true)
     @Mapping(target = "active", ignore = true)
+    @Mapping(target = "path", ignore = true)
+    @Mapping(target = "depth", ignore = true)
     Category toEntity(CreateCategoryDto dto);
     
     @Mapping(target = "RowId", ignore = true)
@@ -46,5 +49,7 @@ public interface CategoryMapper {
     @Mapping(target = "rowVersion", ignore = true)
     @Mapping(target = "modificationStatus", ignore = true)
     @Mapping(target = "active", ignore = true)
+    @Mapping(target = "path", ignore = true)
+    @Mapping(target = "depth", ignore = true)
     void updateEntity(UpdateCategoryDto dto, @MappingTarget Category category);
 }
@@ -1,5 +1,6 @@
 package application.port.outbound;
 
+import io.smallrye.mutiny.Uni;
 import share.dto.AuditEvent;
 
 /**
@@ -10,8 +11,9 @@ public interface AuditEventPublisherPort {
     
     /**
      * Publish CRUD audit event
+     * Recorded in the caller's transaction and delivered after commit
      */
-    void publishCrudEvent(AuditEvent event);
+    Uni<Void> publishCrudEvent(AuditEvent event);
     
     /**
      * Publish error audit event
@@ -2,13 +2,41 @@ package application.port.outbound;
 
 import domain.entity.Category;
 import io.smallrye.mutiny.Uni;
+import share.sync.Change;
+import share.sync.ChangeCursor;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CategoryRepository {
     Uni<List<Category>> findAll();
+    Uni<List<Category>> findAllActive();
     Uni<Category> findById(String number);
     Uni<Category> save(Category category);
     Uni<Void> deleteById(String number);
     Uni<Boolean> existsById(String number);
+    Uni<Category> findByRowId(Long rowId);
+    /**
+     * Re-root every descendant of oldPath (the category itself excluded) in one statement
+     * Returns the Numbers of the moved descendants
+     */
+    Uni<List<String>> moveSubtree(String number, String oldPath, String newPath, int depthDelta);
+    /**
+     * Create the path index, backfill paths of rows created before the hierarchy existed
+     * and install change tracking (delta sync)
+     */
+    Uni<Void> prepareHierarchy();
+    Uni<List<Category>> findByNumbers(Collection<String> numbers);
+    /**
+     * Exclusive upper bound of change versions that are safe to read; read it before the changes
+     */
+    Uni<Long> changeWatermark();
+    /**
+     * Changed and deleted Numbers after the cursor and below the watermark, in version order
+     */
+    Uni<List<Change>> findChanges(ChangeCursor from, long watermark, int limit);
+    /**
+     * Write pending changes now, so the rowVersion of saved categories is the one that will commit
+     */
+    Uni<Void> flush();
 }
@@ -0,0 +1,21 @@
+package application.port.outbound;
+
+import domain.entity.Category;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Port for publishing full category state to the category state feed (Outbound port)
+ * Recorded in the caller's transaction and delivered after commit
+ */
+public interface CategoryStatePublisherPort {
+
+    /**
+     * Publish the category's current state; call after flush so the version is the committed one
+     */
+    Uni<Void> publishUpsert(Category category);
+
+    /**
+     * Publish a (soft) delete; call after flush
+     */
+    Uni<Void> publishDelete(Category category);
+}
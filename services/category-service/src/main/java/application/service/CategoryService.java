@@ -5,115 +5,246 @@ import domain.exception.CategoryNotFoundException;
 import application.dto.GetCategoryDto;
 import application.dto.CreateCategoryDto;
 import application.dto.UpdateCategoryDto;
+import application.dto.CategoryChanges;
 import share.dto.AuditEvent;
 import application.port.outbound.AuditEventPublisherPort;
 import application.port.outbound.CategoryRepository;
+import application.port.outbound.CategoryStatePublisherPort;
 import application.mapper.CategoryMapper;
+import infrastructure.context.RequestContext;
+import infrastructure.persistence.NumberAllocator;
+import infrastructure.persistence.Transactions;
 import infrastructure.persistence.UserContext;
-import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
 import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.unchecked.Unchecked;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import share.enums.AuditTypeEnum;
+import share.sync.Change;
+import share.sync.ChangeCursor;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @ApplicationScoped
 public class CategoryService {
 
+    private static final String NUMBER_PREFIX = "CAT";
+
     @Inject
     AuditEventPublisherPort auditEventPublisher;
 
     @Inject
     CategoryRepository categoryRepository;
 
+    @Inject
+    CategoryStatePublisherPort statePublisher;
+
     @Inject
     CategoryMapper categoryMapper;
 
     @Inject
     UserContext userContext;
 
+    @Inject
+    NumberAllocator numberAllocator;
+
+    @Inject
+    Transactions transactions;
+
+    @Inject
+    CategoryTreeCache categoryTree;
+
+    @ConfigProperty(name = "honeybee.categories.changes.default-size", defaultValue = "500")
+    int defaultChangesSize;
+
+    @ConfigProperty(name = "honeybee.categories.changes.max-size", defaultValue = "2000")
+    int maxChangesSize;
+
+    @ConfigProperty(name = "honeybee.categories.page.max-size", defaultValue = "200")
+    int maxPageSize;
+
+    // Reads are served from the in-memory snapshot (soft-deleted categories are not in it)
     public Uni<List<GetCategoryDto>> getAllCategories() {
-        return categoryRepository.findAll()
-                .onItem().transform(categories -> categories.stream()
-                        .filter(c -> !c.isDeleted())
-                        .map(categoryMapper::toDto)
-                        .collect(Collectors.toList()))
+        return categoryTree.current()
+                .onItem().transform(CategoryTree::all)
                 .onFailure().invoke(ex ->
                         Log.errorf(ex, "Error getting all categories: %s", ex.getMessage()));
     }
 
     public Uni<GetCategoryDto> getCategoryById(String number) {
-        return categoryRepository.findById(number)
-                .onItem().ifNull().failWith(() -> new CategoryNotFoundException(number, true))
-                .onItem().invoke(Unchecked.consumer(category -> {
-                    if (category.isDeleted()) {
+        return categoryTree.current()
+                .onItem().transform(tree -> tree.byNumber(number))
+                .onItem().ifNull().failWith(() -> new CategoryNotFoundException(number, true));
+    }
+
+    public Uni<GetCategoryDto> getCategoryBySlug(String slug) {
+        return categoryTree.current()
+                .onItem().transform(tree -> tree.bySlug(slug))
+                .onItem().ifNull().failWith(() -> new CategoryNotFoundException("Category not found with slug: " + slug));
+    }
+
+    public Uni<List<GetCategoryDto>> getChildren(String number) {
+        return categoryTree.current()
+                .onItem().transform(Unchecked.function(tree -> {
+                    GetCategoryDto parent = tree.byNumber(number);
+                    if (parent == null) {
                         throw new CategoryNotFoundException(number, true);
                     }
-                }))
-                .onItem().transform(categoryMapper::toDto);
+                    return tree.children(parent.id);
+                }));
+    }
+
+    public Uni<List<GetCategoryDto>> getDescendants(String number, Integer maxDepth) {
+        return categoryTree.current()
+                .onItem().transform(Unchecked.function(tree -> {
+                    GetCategoryDto category = tree.byNumber(number);
+                    if (category == null) {
+                        throw new CategoryNotFoundException(number, true);
+                    }
+                    return tree.descendants(category, maxDepth);
+                }));
+    }
+
+    public Uni<List<GetCategoryDto>> getAncestors(String number) {
+        return categoryTree.current()
+                .onItem().transform(Unchecked.function(tree -> {
+                    GetCategoryDto category = tree.byNumber(number);
+                    if (category == null) {
+                        throw new CategoryNotFoundException(number, true);
+                    }
+                    return tree.ancestors(category);
+                }));
+    }
+
+    /**
+     * Changes since a sync token, read from the database (not the snapshot) so the token is exact
+     */
+    public Uni<CategoryChanges> getChanges(String since, Integer limit) {
+        ChangeCursor from;
+        int batchSize;
+        try {
+            from = ChangeCursor.parse(since);
+            batchSize = limit == null ? defaultChangesSize : limit;
+            if (batchSize < 1 || batchSize > maxChangesSize) {
+                throw new IllegalArgumentException("limit must be between 1 and " + maxChangesSize);
+            }
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        return categoryRepository.changeWatermark()
+                .chain(watermark -> categoryRepository.findChanges(from, watermark, batchSize + 1)
+                        .chain(changes -> {
+                            boolean hasMore = changes.size() > batchSize;
+                            List<Change> batch = hasMore ? changes.subList(0, batchSize) : changes;
+                            List<String> upserted = batch.stream()
+                                    .filter(change -> !change.deleted())
+                                    .map(Change::number)
+                                    .toList();
+                            return categoryRepository.findByNumbers(upserted)
+                                    .onItem().transform(categories -> {
+                                        CategoryChanges result = new CategoryChanges();
+                                        result.upserts = categories.stream()
+                                                .sorted(Comparator.comparing((Category category) -> category.Number))
+                                                .map(categoryMapper::toDto)
+                                                .toList();
+                                        result.deletes = batch.stream()
+                                                .filter(Change::deleted)
+                                                .map(Change::number)
+                                                .toList();
+                                        result.hasMore = hasMore;
+                                        Change last = hasMore ? batch.get(batch.size() - 1) : null;
+                                        result.nextSince = last != null
+                                                ? ChangeCursor.after(last).toString()
+                                                : Long.toString(Math.max(watermark, from.version()));
+                                        return result;
+                                    });
+                        }))
+                .onFailure().invoke(ex ->
+                        Log.errorf(ex, "Error getting category changes since %s: %s", since, ex.getMessage()));
+    }
+
+    /**
+     * Multi-get in request order (unknown Numbers omitted), straight from the snapshot
+     */
+    public Uni<List<GetCategoryDto>> getCategoriesByIds(List<String> ids) {
+        List<String> numbers = ids.stream().distinct().toList();
+        if (numbers.size() > maxPageSize) {
+            return Uni.createFrom().failure(new IllegalArgumentException("At most " + maxPageSize + " ids per request"));
+        }
+        return categoryTree.current()
+                .onItem().transform(tree -> numbers.stream()
+                        .map(tree::byNumber)
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    public Uni<List<GetCategoryDto>> getRootCategories() {
+        return categoryTree.current()
+                .onItem().transform(CategoryTree::roots);
     }
 
-    @WithTransaction
     public Uni<GetCategoryDto> createCategory(CreateCategoryDto dto) {
         Category category = categoryMapper.toEntity(dto);
-        
-        // Todo: Generate unique Number for the category
-        category.Number = "CAT-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        
+
         if (category.slug == null || category.slug.isEmpty()) {
             category.slug = generateSlug(dto.name);
         }
-        return categoryRepository.save(category)
-                .call(savedCategory -> savedCategory.flush()) 
-                .onItem().invoke(savedCategory -> {
-                    try {
-                        Log.infof("Category saved with RowId: %s, Number: %s", savedCategory.RowId, savedCategory.Number);
-                        publishCrudEvent("CREATE", savedCategory.RowId, "Created category: " + savedCategory.name);
-                    } catch (Exception ex) {
-                        Log.warnf(ex, "Failed to publish audit event for category creation: %s", ex.getMessage());
-                    }
-                })
-                .onItem().transform(categoryMapper::toDto)
+        return transactions.withTransaction(() -> numberAllocator.next(NUMBER_PREFIX)
+                .onItem().invoke(number -> category.Number = number)
+                .chain(() -> resolveParent(category.parentId))
+                .onItem().invoke(parent -> placeUnder(category, parent))
+                .chain(() -> categoryRepository.save(category))
+                .call(() -> categoryRepository.flush())
+                .onItem().invoke(savedCategory ->
+                        Log.infof("Category saved with RowId: %s, Number: %s", savedCategory.RowId, savedCategory.Number))
+                // Audit event goes to the outbox in this transaction (no phantom events on rollback)
+                .call(savedCategory -> publishCrudEvent("CREATE", savedCategory.RowId, "Created category: " + savedCategory.name))
+                .call(savedCategory -> statePublisher.publishUpsert(savedCategory))
+                .onItem().transform(categoryMapper::toDto))
+                // Rebuild the snapshot after commit so readers never see uncommitted rows
+                .call(this::refreshTree)
                 .onFailure().invoke(ex ->
                         Log.errorf(ex, "Error creating category: %s", ex.getMessage()));
     }
 
-    @WithTransaction
     public Uni<GetCategoryDto> updateCategory(String number, UpdateCategoryDto dto) {
-        return categoryRepository.findById(number)
+        return transactions.withTransaction(() -> categoryRepository.findById(number)
                 .onItem().ifNull().failWith(() -> new CategoryNotFoundException(number, true))
                 .onItem().invoke(Unchecked.consumer(category -> {
                     if (category.isDeleted()) {
                         throw new CategoryNotFoundException(number, true);
                     }
                 }))
-                .onItem().invoke(category -> {
+                .onItem().transformToUni(category -> {
+                    Long previousParentId = category.parentId;
                     categoryMapper.updateEntity(dto, category);
                     if (category.slug == null || category.slug.isEmpty()) {
                         category.slug = generateSlug(dto.name);
                     }
+                    return Objects.equals(previousParentId, category.parentId)
+                            ? Uni.createFrom().item(category)
+                            : move(category).replaceWith(category);
                 })
-                .onItem().invoke(category -> {
-                    try {
-                        publishCrudEvent("UPDATE", category.RowId, "Updated category: " + category.name);
-                    } catch (Exception ex) {
-                        Log.warnf(ex, "Failed to publish audit event for category update: %s", ex.getMessage());
-                    }
-                })
-                .onItem().transform(categoryMapper::toDto)
+                .call(category -> categoryRepository.save(category))
+                // Flush so the state event carries the new rowVersion
+                .call(() -> categoryRepository.flush())
+                .call(category -> publishCrudEvent("UPDATE", category.RowId, "Updated category: " + category.name))
+                .call(category -> statePublisher.publishUpsert(category))
+                .onItem().transform(categoryMapper::toDto))
+                .call(this::refreshTree)
                 .onFailure().invoke(ex ->
                         Log.errorf(ex, "Error updating category: %s", ex.getMessage()));
     }
 
-    @WithTransaction
     public Uni<Void> deleteCategory(String number) {
-        return categoryRepository.findById(number)
+        return transactions.withTransaction(() -> categoryRepository.findById(number)
                 .onItem().ifNull().failWith(() -> new CategoryNotFoundException(number, true))
                 .onItem().invoke(Unchecked.consumer(category -> {
                     if (category.isDeleted()) {
@@ -123,57 +254,117 @@ public class CategoryService {
                 .onItem().transformToUni(category -> {
                     String categoryName = category.name;
                     category.softDelete("system");
-                    try {
-                        publishCrudEvent("DELETE", category.RowId, "Soft deleted category: " + categoryName);
-                    } catch (Exception ex) {
-                        Log.warnf(ex, "Failed to publish audit event for category deletion: %s", ex.getMessage());
-                    }
-                    return Uni.createFrom().voidItem();
-                })
+                    return categoryRepository.save(category)
+                            .call(() -> categoryRepository.flush())
+                            .call(() -> publishCrudEvent("DELETE", category.RowId, "Soft deleted category: " + categoryName))
+                            .chain(() -> statePublisher.publishDelete(category));
+                }))
+                .call(this::refreshTree)
                 .onFailure().invoke(ex ->
                         Log.errorf(ex, "Error deleting category: %s", ex.getMessage()));
     }
 
-    private void publishCrudEvent(String action, Integer number, String details) {
-        publishCrudEvent(action, number, details, null);
+    private Uni<Category> resolveParent(Long parentId) {
+        if (parentId == null) {
+            return Uni.createFrom().nullItem();
+        }
+        return categoryRepository.findByRowId(parentId)
+                .onItem().ifNull().failWith(() -> new CategoryNotFoundException("Parent category not found: " + parentId))
+                .onItem().invoke(Unchecked.consumer(parent -> {
+                    if (parent.isDeleted()) {
+                        throw new CategoryNotFoundException("Parent category not found: " + parentId);
+                    }
+                }));
     }
 
-    private void publishCrudEvent(String action, Integer rowId, String details, String oldValue) {
-        try {
-            AuditEvent event = new AuditEvent();
-            String correlationId = UUID.randomUUID().toString();
-
-            event.auditTypeEnum = AuditTypeEnum.CRUD;
-            event.action = action;
-            event.serviceName = "category-service";
-            event.entityType = "Category";
-            event.rowId = rowId;
-            event.metadata = details;
-            event.timestamp = LocalDateTime.now();
-            event.correlationId = correlationId;
-
-            // Add user context
-            try {
-                event.username = userContext.getUsername();
-                event.ipAddress = userContext.getIpAddress();
-                if (userContext.getCurrentUserId() != null && !"system".equals(userContext.getCurrentUserId())) {
-                    event.userId = Long.parseLong(userContext.getCurrentUserId());
-                }
-            } catch (Exception ex) {
-                Log.warnf("Failed to extract user context for audit: %s", ex.getMessage());
-            }
+    private void placeUnder(Category category, Category parent) {
+        if (parent == null) {
+            category.path = "/" + category.Number + "/";
+            category.depth = 0;
+        } else {
+            category.path = pathOf(parent) + category.Number + "/";
+            category.depth = (parent.depth != null ? parent.depth : 0) + 1;
+        }
+    }
 
-            // Add old/new values for UPDATE actions
-            if ("UPDATE".equals(action) && oldValue != null) {
-                event.oldValue = oldValue;
-                event.newValue = details;
-            }
+    /**
+     * Re-parent the category and shift its whole subtree with one bulk update
+     */
+    private Uni<Void> move(Category category) {
+        String oldPath = pathOf(category);
+        int oldDepth = category.depth != null ? category.depth : 0;
+        return resolveParent(category.parentId)
+                .onItem().invoke(Unchecked.consumer(parent -> {
+                    if (parent != null && pathOf(parent).startsWith(oldPath)) {
+                        throw new IllegalArgumentException(
+                                "Cannot move category " + category.Number + " under itself or its descendant " + parent.Number);
+                    }
+                    placeUnder(category, parent);
+                }))
+                .chain(() -> categoryRepository.moveSubtree(category.Number, oldPath, category.path, category.depth - oldDepth))
+                .onItem().invoke(moved -> Log.infof("Moved category %s to %s (%d descendants re-rooted)",
+                        category.Number, category.path, moved.size()))
+                // Descendants' paths changed too, so their state goes to the feed as well
+                .chain(categoryRepository::findByNumbers)
+                .chain(descendants -> Multi.createFrom().iterable(descendants)
+                        .onItem().transformToUniAndConcatenate(statePublisher::publishUpsert)
+                        .collect().last())
+                .replaceWithVoid();
+    }
+
+    private String pathOf(Category category) {
+        return category.path != null ? category.path : "/" + category.Number + "/";
+    }
+
+    /**
+     * A failed rebuild doesn't fail the committed write; the next change or periodic refresh catches up
+     */
+    private Uni<Void> refreshTree() {
+        return categoryTree.refresh()
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
 
-            auditEventPublisher.publishCrudEvent(event);
-            Log.debugf("Published audit event [%s] for %s: %s", correlationId, action, rowId);
+    private Uni<Void> publishCrudEvent(String action, Integer rowId, String details) {
+        return publishCrudEvent(action, rowId, details, null);
+    }
+
+    private Uni<Void> publishCrudEvent(String action, Integer rowId, String details, String oldValue) {
+        AuditEvent event = new AuditEvent();
+        String correlationId = RequestContext.correlationId();
+
+        event.auditTypeEnum = AuditTypeEnum.CRUD;
+        event.action = action;
+        event.serviceName = "category-service";
+        event.entityType = "Category";
+        event.rowId = rowId;
+        event.metadata = details;
+        event.timestamp = LocalDateTime.now();
+        event.correlationId = correlationId;
+
+        // Add user context
+        try {
+            event.username = userContext.getUsername();
+            event.ipAddress = userContext.getIpAddress();
+            event.storeId = userContext.getStoreId();
+            event.terminalId = userContext.getTerminalId();
+            if (userContext.getCurrentUserId() != null && !"system".equals(userContext.getCurrentUserId())) {
+                event.userId = Long.parseLong(userContext.getCurrentUserId());
+            }
         } catch (Exception ex) {
-            Log.errorf(ex, "Critical: Failed to publish audit event for %s on %s", action, rowId);
+            Log.warnf("Failed to extract user context for audit: %s", ex.getMessage());
+        }
+
+        // Add old/new values for UPDATE actions
+        if ("UPDATE".equals(action) && oldValue != null) {
+            event.oldValue = oldValue;
+            event.newValue = details;
         }
+
+        // A failed outbox write fails the business transaction, so the audit trail can't silently diverge
+        return auditEventPublisher.publishCrudEvent(event)
+                .onItem().invoke(() -> Log.debugf("Published audit event [%s] for %s: %s", correlationId, action, rowId))
+                .onFailure().invoke(ex -> Log.errorf(ex, "Critical: Failed to publish audit event for %s on %s", action, rowId));
     }
 
     private String generateSlug(String name) {
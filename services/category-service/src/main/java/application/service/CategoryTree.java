@@ -0,0 +1,140 @@
+package application.service;
+
+import application.dto.GetCategoryDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of all non-deleted categories with lookup indexes
+ * Built once per change and swapped in atomically; the DTOs inside are shared, treat them as read-only
+ */
+public final class CategoryTree {
+
+    static final CategoryTree EMPTY = new CategoryTree(0, List.of());
+
+    // Load sequence, so an older load finishing late never replaces a newer snapshot
+    final long sequence;
+
+    private final List<GetCategoryDto> all;
+    private final List<GetCategoryDto> roots;
+    private final Map<String, GetCategoryDto> byNumber;
+    private final Map<String, GetCategoryDto> bySlug;
+    private final Map<Long, GetCategoryDto> byId;
+    private final Map<Long, List<GetCategoryDto>> childrenByParentId;
+    // Sorted by materialized path, so a subtree is one contiguous range
+    private final NavigableMap<String, GetCategoryDto> byPath;
+
+    CategoryTree(long sequence, List<GetCategoryDto> categories) {
+        this.sequence = sequence;
+
+        List<GetCategoryDto> sorted = new ArrayList<>(categories);
+        sorted.sort(Comparator.comparing(c -> c.name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+
+        Map<String, GetCategoryDto> numbers = new HashMap<>();
+        Map<String, GetCategoryDto> slugs = new HashMap<>();
+        Map<Long, GetCategoryDto> ids = new HashMap<>();
+        TreeMap<String, GetCategoryDto> paths = new TreeMap<>();
+        for (GetCategoryDto category : sorted) {
+            if (category.path != null) {
+                paths.put(category.path, category);
+            }
+            if (category.number != null) {
+                numbers.put(category.number, category);
+            }
+            if (category.slug != null) {
+                slugs.putIfAbsent(category.slug, category);
+            }
+            if (category.id != null) {
+                ids.put(category.id, category);
+            }
+        }
+
+        // Orphans (parent deleted or missing) are treated as roots so they stay reachable
+        List<GetCategoryDto> rootList = new ArrayList<>();
+        Map<Long, List<GetCategoryDto>> children = new HashMap<>();
+        for (GetCategoryDto category : sorted) {
+            if (category.parentId == null || !ids.containsKey(category.parentId)) {
+                rootList.add(category);
+            } else {
+                children.computeIfAbsent(category.parentId, key -> new ArrayList<>()).add(category);
+            }
+        }
+        children.replaceAll((parentId, list) -> List.copyOf(list));
+
+        this.all = List.copyOf(sorted);
+        this.roots = List.copyOf(rootList);
+        this.byNumber = Map.copyOf(numbers);
+        this.bySlug = Map.copyOf(slugs);
+        this.byId = Map.copyOf(ids);
+        this.childrenByParentId = Map.copyOf(children);
+        this.byPath = Collections.unmodifiableNavigableMap(paths);
+    }
+
+    public List<GetCategoryDto> all() {
+        return all;
+    }
+
+    public List<GetCategoryDto> roots() {
+        return roots;
+    }
+
+    public GetCategoryDto byNumber(String number) {
+        return number != null ? byNumber.get(number) : null;
+    }
+
+    public GetCategoryDto bySlug(String slug) {
+        return slug != null ? bySlug.get(slug) : null;
+    }
+
+    public GetCategoryDto byId(Long id) {
+        return id != null ? byId.get(id) : null;
+    }
+
+    public List<GetCategoryDto> children(Long parentId) {
+        return parentId != null ? childrenByParentId.getOrDefault(parentId, List.of()) : Collections.emptyList();
+    }
+
+    /**
+     * All descendants in path order (depth-first), optionally limited to maxDepth levels below the category
+     */
+    public List<GetCategoryDto> descendants(GetCategoryDto category, Integer maxDepth) {
+        if (category.path == null) {
+            return List.of();
+        }
+        int depthLimit = maxDepth != null && category.depth != null ? category.depth + maxDepth : Integer.MAX_VALUE;
+        return byPath.subMap(category.path, false, category.path + Character.MAX_VALUE, false).values().stream()
+                .filter(descendant -> descendant.depth == null || descendant.depth <= depthLimit)
+                .toList();
+    }
+
+    /**
+     * Breadcrumb from the root down to the category's parent
+     */
+    public List<GetCategoryDto> ancestors(GetCategoryDto category) {
+        if (category.path == null) {
+            return List.of();
+        }
+        List<GetCategoryDto> ancestors = new ArrayList<>();
+        for (String number : category.path.split("/")) {
+            if (number.isEmpty() || number.equals(category.number)) {
+                continue;
+            }
+            GetCategoryDto ancestor = byNumber.get(number);
+            if (ancestor != null) {
+                ancestors.add(ancestor);
+            }
+        }
+        return ancestors;
+    }
+
+    public int size() {
+        return all.size();
+    }
+}
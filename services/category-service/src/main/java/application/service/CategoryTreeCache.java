@@ -0,0 +1,119 @@
+package application.service;
+
+import application.mapper.CategoryMapper;
+import application.port.outbound.CategoryRepository;
+import infrastructure.cache.CacheInvalidation;
+import infrastructure.cache.SingleFlight;
+import infrastructure.context.BackgroundContexts;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current CategoryTree and rebuilds it on change (copy-on-write)
+ * Local writes refresh after commit; changes from other replicas arrive as cache invalidations
+ * and are coalesced into one reload per debounce window. A periodic reload bounds staleness
+ * if a broadcast is lost.
+ */
+@ApplicationScoped
+public class CategoryTreeCache {
+
+    private static final String ENTITY_TYPE = "Category";
+    private static final String TREE = "tree";
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Inject
+    CategoryMapper categoryMapper;
+
+    @Inject
+    Vertx vertx;
+
+    @ConfigProperty(name = "honeybee.category-tree.debounce", defaultValue = "100ms")
+    Duration debounce;
+
+    @ConfigProperty(name = "honeybee.category-tree.load-timeout", defaultValue = "10s")
+    Duration loadTimeout;
+
+    private final AtomicReference<CategoryTree> snapshot = new AtomicReference<>(CategoryTree.EMPTY);
+    private final AtomicLong loadSequence = new AtomicLong();
+    private final AtomicBoolean loaded = new AtomicBoolean();
+    private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+    // Requests arriving before the first snapshot wait on the startup load instead of each loading the tree
+    private SingleFlight<String, CategoryTree> initialLoad;
+
+    @PostConstruct
+    void init() {
+        initialLoad = new SingleFlight<>("category-tree", loadTimeout);
+    }
+
+    /**
+     * Current snapshot; until the first load has finished, callers share one in-flight load
+     */
+    public Uni<CategoryTree> current() {
+        if (loaded.get()) {
+            return Uni.createFrom().item(snapshot.get());
+        }
+        return initialLoad.execute(TREE, this::refresh);
+    }
+
+    /**
+     * Reload from the database and swap the snapshot in; must run on a Vert.x context
+     */
+    public Uni<CategoryTree> refresh() {
+        long sequence = loadSequence.incrementAndGet();
+        return categoryRepository.findAllActive()
+                .onItem().transform(categories -> new CategoryTree(sequence,
+                        categories.stream().map(categoryMapper::toDto).toList()))
+                .onItem().transform(tree -> {
+                    CategoryTree current = snapshot.accumulateAndGet(tree,
+                            (existing, next) -> next.sequence > existing.sequence ? next : existing);
+                    loaded.set(true);
+                    Log.debugf("🌳 Category tree rebuilt: %d categories", current.size());
+                    return current;
+                })
+                .onFailure().invoke(ex -> Log.errorf(ex, "Failed to rebuild category tree: %s", ex.getMessage()));
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        // Backfill the materialized paths first so the first snapshot has them
+        BackgroundContexts.run(vertx, () -> categoryRepository.prepareHierarchy()
+                        .chain(() -> initialLoad.execute(TREE, this::refresh)))
+                .subscribe().with(tree -> { }, ex -> { });
+    }
+
+    void onInvalidation(@Observes CacheInvalidation invalidation) {
+        if (ENTITY_TYPE.equals(invalidation.entityType) && !invalidation.isLocal()
+                && reloadScheduled.compareAndSet(false, true)) {
+            vertx.setTimer(Math.max(1, debounce.toMillis()), id -> {
+                reloadScheduled.set(false);
+                reloadInBackground();
+            });
+        }
+    }
+
+    @Scheduled(every = "${honeybee.category-tree.refresh-interval:5m}",
+            delayed = "${honeybee.category-tree.refresh-interval:5m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> periodicRefresh() {
+        return refresh().onFailure().recoverWithNull().replaceWithVoid();
+    }
+
+    private void reloadInBackground() {
+        BackgroundContexts.run(vertx, this::refresh)
+                .subscribe().with(tree -> { }, ex -> { });
+    }
+}
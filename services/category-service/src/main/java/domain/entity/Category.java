@@ -17,6 +17,13 @@ public class Category extends BaseEntityWithNumber {
     public Long parentId;
     
     public String slug;
+
+    // Materialized path of Numbers from the root, including itself: /CAT-00000001/CAT-00000007/
+    @Column(name = "path", length = 1000)
+    public String path;
+
+    @Column(name = "depth")
+    public Integer depth;
     
     public boolean active = true;
 }
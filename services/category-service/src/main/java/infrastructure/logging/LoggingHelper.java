@@ -3,19 +3,20 @@ package infrastructure.logging;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import infrastructure.context.RequestContext;
+import infrastructure.context.RequestMetadata;
+import infrastructure.messaging.EventSpill;
 import io.quarkus.logging.Log;
-import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
-import org.eclipse.microprofile.reactive.messaging.Message;
 import share.dto.*;
 import share.enums.LogLevel;
+import share.id.IdGenerator;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * Centralized logging helper for publishing structured logs to Kafka
@@ -43,6 +44,9 @@ public class LoggingHelper {
     @Inject
     ObjectMapper objectMapper;
 
+    @Inject
+    EventSpill spill;
+
     private String serviceName;
 
     @PostConstruct
@@ -53,65 +57,78 @@ public class LoggingHelper {
     }
 
     public void logApp(LogLevel level, String message, String userId, String correlationId) {
+        RequestMetadata context = RequestContext.current();
         ApplicationLog log = new ApplicationLog();
         log.level = level;
         log.serviceName = serviceName;
         log.message = message;
         log.userId = userId;
-        log.correlationId = correlationId != null ? correlationId : UUID.randomUUID().toString();
+        log.username = context.username;
+        log.storeId = context.storeId;
+        log.terminalId = context.terminalId;
+        log.correlationId = correlationId != null ? correlationId : RequestContext.correlationId();
         log.timestamp = LocalDateTime.now();
         log.thread = Thread.currentThread().getName();
-        publishLog(applicationLogEmitter, log);
+        publishLog("logs-application", applicationLogEmitter, log, context.requestId, log.correlationId);
     }
 
     public void logError(Throwable ex, String userId, String correlationId) {
+        RequestMetadata context = RequestContext.current();
         ErrorLog log = new ErrorLog();
         log.serviceName = serviceName;
         log.exceptionType = ex.getClass().getName();
         log.message = ex.getMessage();
         log.stackTrace = getStackTrace(ex);
         log.userId = userId;
-        log.correlationId = correlationId != null ? correlationId : UUID.randomUUID().toString();
+        log.username = context.username;
+        log.ipAddress = context.ipAddress;
+        log.storeId = context.storeId;
+        log.terminalId = context.terminalId;
+        log.correlationId = correlationId != null ? correlationId : RequestContext.correlationId();
         log.timestamp = LocalDateTime.now();
-        publishLog(errorLogEmitter, log);
+        publishLog("logs-error", errorLogEmitter, log, context.requestId, log.correlationId);
     }
 
-    public void logAccess(String method, String endpoint, int status, long responseMs, String userId) {
-        AccessLog log = new AccessLog();
+    /**
+     * Publish an access log filled by the HTTP layer; service, correlation and timestamp are set here
+     */
+    public void logAccess(AccessLog log) {
         log.serviceName = serviceName;
-        log.httpMethod = method;
-        log.endpoint = endpoint;
-        log.statusCode = status;
-        log.responseTimeMs = responseMs;
-        log.userId = userId;
-        log.correlationId = UUID.randomUUID().toString();
+        if (log.correlationId == null) {
+            log.correlationId = IdGenerator.nextId();
+        }
         log.timestamp = LocalDateTime.now();
-        publishLog(accessLogEmitter, log);
+        publishLog("logs-access", accessLogEmitter, log, log.requestId, log.correlationId);
     }
 
     public void logPerf(String operation, long durationMs, boolean isSlow) {
+        RequestMetadata context = RequestContext.current();
         PerformanceLog log = new PerformanceLog();
         log.serviceName = serviceName;
         log.operation = operation;
         log.durationMs = durationMs;
         log.isSlow = isSlow;
-        log.correlationId = UUID.randomUUID().toString();
+        log.storeId = context.storeId;
+        log.terminalId = context.terminalId;
+        log.correlationId = RequestContext.correlationId();
         log.timestamp = LocalDateTime.now();
-        publishLog(performanceLogEmitter, log);
+        publishLog("logs-performance", performanceLogEmitter, log, context.requestId, log.correlationId);
     }
 
-    private <T> void publishLog(Emitter<String> emitter, T log) {
+    /**
+     * Keyed by correlationId so all logs of one request land in the same partition, in order
+     * While Kafka is unavailable the log is spilled to disk and sent once it is back
+     */
+    private <T> void publishLog(String channel, Emitter<String> emitter, T log, String requestId, String correlationId) {
+        String json;
         try {
-            String json = objectMapper.writeValueAsString(log);
-            Log.debugf("📤 Publishing log to Kafka: %s", log.getClass().getSimpleName());
-            emitter.send(Message.of(json)
-                .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
-                    .withKey(UUID.randomUUID().toString())
-                    .build()));
-            Log.debugf("✅ Successfully published %s to Kafka", log.getClass().getSimpleName());
+            json = objectMapper.writeValueAsString(log);
         } catch (Exception e) {
-            Log.errorf(e, "❌ Failed to publish %s to Kafka: %s", log.getClass().getSimpleName(), e.getMessage());
+            Log.errorf(e, "❌ Failed to serialize %s: %s", log.getClass().getSimpleName(), e.getMessage());
+            return;
         }
+        Log.debugf("📤 Publishing log to Kafka: %s", log.getClass().getSimpleName());
+        spill.wrap(channel, emitter).send(correlationId, requestId, correlationId, json);
     }
 
     private String getStackTrace(Throwable ex) {
@@ -0,0 +1,25 @@
+package infrastructure.messaging.adapter;
+
+import application.port.outbound.CategoryStatePublisherPort;
+import domain.entity.Category;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * No state feed in the loadtest profile: nothing consumes it, and the tree is refreshed after each write
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemoryCategoryStatePublisherAdapter implements CategoryStatePublisherPort {
+
+    @Override
+    public Uni<Void> publishUpsert(Category category) {
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public Uni<Void> publishDelete(Category category) {
+        return Uni.createFrom().voidItem();
+    }
+}
@@ -4,11 +4,16 @@ import share.dto.AuditEvent;
 import application.port.outbound.AuditEventPublisherPort;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import infrastructure.context.RequestContext;
+import infrastructure.messaging.EventSpill;
+import infrastructure.messaging.OutboxWriter;
+import io.quarkus.arc.profile.UnlessBuildProfile;
 import io.quarkus.logging.Log;
-import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.*;
 
 /**
@@ -16,18 +21,24 @@ import org.eclipse.microprofile.reactive.messaging.*;
  * Enhanced for POS pharmaceutical system with validation and error handling
  */
 @ApplicationScoped
+@UnlessBuildProfile("loadtest")
 public class KafkaAuditEventPublisherAdapter implements AuditEventPublisherPort {
 
-    @Inject
-    @Channel("audit-crud")
-    Emitter<String> crudEmitter;
-
     @Inject
     @Channel("audit-error")
     Emitter<String> errorEmitter;
 
     @Inject
     ObjectMapper objectMapper;
+
+    @Inject
+    OutboxWriter outboxWriter;
+
+    @Inject
+    EventSpill spill;
+
+    @ConfigProperty(name = "honeybee.audit.crud-topic", defaultValue = "audit.crud")
+    String crudTopic;
     
     @PostConstruct
     void init() {
@@ -37,30 +48,27 @@ public class KafkaAuditEventPublisherAdapter implements AuditEventPublisherPort
     }
 
     @Override
-    public void publishCrudEvent(AuditEvent event) {
+    public Uni<Void> publishCrudEvent(AuditEvent event) {
         if (!validateAuditEvent(event)) {
             Log.errorf("Invalid audit event, skipping publish: action=%s, entity=%s", 
                 event.action, event.entityType);
-            return;
+            return Uni.createFrom().voidItem();
         }
         
+        String json;
         try {
-            String json = objectMapper.writeValueAsString(event);
-            String key = buildKafkaKey(event);
-            
-            crudEmitter.send(Message.of(json)
-                .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
-                    .withKey(key)
-                    .build()));
-            
-            Log.debugf("Successfully sent CRUD audit [%s]: action=%s, entity=%s, rowId=%s, user=%s, terminal=%s",
-                event.correlationId, event.action, event.entityType, event.rowId, 
-                event.username, event.terminalId);
-            
+            json = objectMapper.writeValueAsString(event);
         } catch (Exception e) {
-            Log.errorf(e, "Failed to serialize/publish CRUD audit event for %s %s", 
+            Log.errorf(e, "Failed to serialize CRUD audit event for %s %s", 
                 event.entityType, event.rowId);
+            return Uni.createFrom().voidItem();
         }
+
+        // Outbox row commits with the business change; OutboxRelay publishes it to Kafka
+        return outboxWriter.enqueue(crudTopic, buildKafkaKey(event), json)
+            .onItem().invoke(() -> Log.debugf("Queued CRUD audit [%s] in outbox: action=%s, entity=%s, rowId=%s, user=%s",
+                event.correlationId, event.action, event.entityType, event.rowId, 
+                event.username));
     }
 
     @Override
@@ -69,16 +77,15 @@ public class KafkaAuditEventPublisherAdapter implements AuditEventPublisherPort
             String json = objectMapper.writeValueAsString(event);
             String key = event.correlationId != null ? event.correlationId : "error-" + System.currentTimeMillis();
             
-            errorEmitter.send(Message.of(json)
-                .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
-                    .withKey(key)
-                    .build()));
+            // Spilled to disk rather than lost while Kafka is unavailable
+            spill.wrap("audit-error", errorEmitter)
+                .send(key, RequestContext.current().requestId, event.correlationId, json);
             
-            Log.infof("Successfully sent ERROR audit [%s]: action=%s, error=%s, terminal=%s",
+            Log.infof("Queued ERROR audit [%s]: action=%s, error=%s, terminal=%s",
                 event.correlationId, event.action, event.errorMessage, event.terminalId);
             
         } catch (Exception e) {
-            Log.errorf(e, "Critical: Failed to serialize/publish ERROR audit event");
+            Log.errorf(e, "Critical: Failed to serialize ERROR audit event");
         }
     }
     
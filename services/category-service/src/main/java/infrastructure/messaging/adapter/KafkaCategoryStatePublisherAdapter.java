@@ -0,0 +1,74 @@
+package infrastructure.messaging.adapter;
+
+import application.dto.GetCategoryDto;
+import application.mapper.CategoryMapper;
+import application.port.outbound.CategoryStatePublisherPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.entity.Category;
+import infrastructure.context.RequestContext;
+import infrastructure.messaging.OutboxWriter;
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import share.dto.EntityStateEvent;
+import share.enums.StateChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka adapter for the category state feed
+ * Goes through the outbox, so a state event exists if and only if the change committed
+ */
+@ApplicationScoped
+@UnlessBuildProfile("loadtest")
+public class KafkaCategoryStatePublisherAdapter implements CategoryStatePublisherPort {
+
+    private static final String ENTITY_TYPE = "Category";
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    OutboxWriter outboxWriter;
+
+    @Inject
+    CategoryMapper categoryMapper;
+
+    @ConfigProperty(name = "honeybee.state-feed.category-topic", defaultValue = "category.state")
+    String topic;
+
+    @Override
+    public Uni<Void> publishUpsert(Category category) {
+        return publish(category, StateChangeType.UPSERT, categoryMapper.toDto(category));
+    }
+
+    @Override
+    public Uni<Void> publishDelete(Category category) {
+        // Soft delete: the flushed rowVersion already supersedes the last state
+        return publish(category, StateChangeType.DELETE, null);
+    }
+
+    private Uni<Void> publish(Category category, StateChangeType changeType, GetCategoryDto state) {
+        EntityStateEvent<GetCategoryDto> event = new EntityStateEvent<>();
+        event.entityType = ENTITY_TYPE;
+        event.number = category.Number;
+        event.version = category.rowVersion;
+        event.changeType = changeType;
+        event.serviceName = "category-service";
+        event.correlationId = RequestContext.correlationId();
+        event.occurredAt = LocalDateTime.now();
+        event.state = state;
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            // Unlike audit, a lost state event leaves consumers' views wrong: fail the change
+            return Uni.createFrom().failure(e);
+        }
+        // Keyed by Number so compaction keeps the latest state per category
+        return outboxWriter.enqueue(topic, category.Number, json);
+    }
+}
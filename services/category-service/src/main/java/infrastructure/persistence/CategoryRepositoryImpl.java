@@ -2,21 +2,73 @@ package infrastructure.persistence;
 
 import application.port.outbound.CategoryRepository;
 import domain.entity.Category;
+import infrastructure.cache.EntityCaches;
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import share.ModificationStatus;
+import share.sync.Change;
+import share.sync.ChangeCursor;
 
+import java.util.Collection;
 import java.util.List;
 
 @ApplicationScoped
+@UnlessBuildProfile("loadtest")
 public class CategoryRepositoryImpl implements CategoryRepository {
 
+    private static final String TABLE = "categories";
+
+    // text_pattern_ops lets "path like 'prefix%'" use the index regardless of collation
+    private static final String PATH_INDEX_SQL =
+            "create index if not exists idx_categories_path on categories (path text_pattern_ops)";
+
+    private static final String MOVE_SUBTREE_SQL =
+            "update categories set path = ?1 || substring(path from ?2), depth = depth + ?3, "
+                    + "row_version = coalesce(row_version, 0) + 1 "
+                    + "where path like ?4 and number <> ?5 returning number, row_version";
+
+    // Depth guard stops the recursion on corrupt (cyclic) parent links
+    private static final String BACKFILL_PATHS_SQL = """
+            with recursive tree (number, row_id, path, depth) as (
+                select c.number, c.row_id, '/' || c.number || '/', 0
+                from categories c
+                where c.parent_id is null
+                   or not exists (select 1 from categories p where p.row_id = c.parent_id)
+                union all
+                select c.number, c.row_id, t.path || c.number || '/', t.depth + 1
+                from categories c
+                join tree t on c.parent_id = t.row_id
+                where t.depth < 64
+            )
+            update categories c set path = t.path, depth = t.depth
+            from tree t
+            where c.number = t.number and c.path is null
+            """;
+
+    @Inject
+    EntityCaches entityCaches;
+
+    @Inject
+    ChangeTracking changeTracking;
+
     @Override
     @WithSession
     public Uni<List<Category>> findAll() {
         return Category.listAll();
     }
 
+    @Override
+    @WithSession
+    public Uni<List<Category>> findAllActive() {
+        return Category.list("deletedAt is null and modificationStatus <> ?1", ModificationStatus.DELETED);
+    }
+
     @Override
     @WithSession
     public Uni<Category> findById(String number) {
@@ -26,13 +78,17 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     @Override
     @WithSession
     public Uni<Category> save(Category category) {
+        // Fence before persisting: persist() seeds the version of a new row
+        entityCaches.changed(category);
         return category.persist().replaceWith(category);
     }
 
     @Override
     @WithSession
     public Uni<Void> deleteById(String number) {
-        return Category.deleteById(number).replaceWithVoid();
+        return Category.deleteById(number)
+                .invoke(() -> entityCaches.deleted(Category.class, number))
+                .replaceWithVoid();
     }
 
     @Override
@@ -40,4 +96,67 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         return Category.findById(number)
                 .onItem().transform(c -> c != null);
     }
+
+    @Override
+    @WithSession
+    public Uni<Category> findByRowId(Long rowId) {
+        return Category.find("RowId", rowId.intValue()).firstResult();
+    }
+
+    @Override
+    @WithSession
+    public Uni<List<String>> moveSubtree(String number, String oldPath, String newPath, int depthDelta) {
+        return Panache.getSession()
+                .chain(session -> session.createNativeQuery(MOVE_SUBTREE_SQL, Object[].class)
+                        .setParameter(1, newPath)
+                        .setParameter(2, oldPath.length() + 1)
+                        .setParameter(3, depthDelta)
+                        .setParameter(4, oldPath + "%")
+                        .setParameter(5, number)
+                        .getResultList())
+                // Cached descendants still carry the old path
+                .onItem().invoke(moved -> moved.forEach(row ->
+                        entityCaches.changed(Category.class, (String) row[0], ((Number) row[1]).longValue())))
+                .onItem().transform(moved -> moved.stream().map(row -> (String) row[0]).toList());
+    }
+
+    @Override
+    @WithTransaction
+    public Uni<Void> prepareHierarchy() {
+        return Panache.getSession()
+                .chain(session -> session.createNativeQuery(PATH_INDEX_SQL).executeUpdate()
+                        .chain(() -> session.createNativeQuery(BACKFILL_PATHS_SQL).executeUpdate()))
+                .invoke(backfilled -> {
+                    if (backfilled > 0) {
+                        Log.infof("🌳 Backfilled materialized path for %d categories", backfilled);
+                    }
+                })
+                .replaceWithVoid()
+                .call(() -> changeTracking.install(TABLE));
+    }
+
+    @Override
+    @WithSession
+    public Uni<List<Category>> findByNumbers(Collection<String> numbers) {
+        if (numbers.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return Category.list("Number in ?1", numbers);
+    }
+
+    @Override
+    public Uni<Long> changeWatermark() {
+        return changeTracking.watermark();
+    }
+
+    @Override
+    public Uni<List<Change>> findChanges(ChangeCursor from, long watermark, int limit) {
+        return changeTracking.changes(TABLE, from, watermark, limit);
+    }
+
+    @Override
+    @WithSession
+    public Uni<Void> flush() {
+        return Panache.flush();
+    }
 }
@@ -0,0 +1,164 @@
+package infrastructure.persistence;
+
+import application.port.outbound.CategoryRepository;
+import domain.entity.Category;
+import infrastructure.loadtest.InMemoryChangeLog;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import share.ModificationStatus;
+import share.sync.Change;
+import share.sync.ChangeCursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Categories in a map instead of PostgreSQL (loadtest profile)
+ * Stores and hands out copies, like rows loaded by separate sessions
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemoryCategoryRepository implements CategoryRepository {
+
+    private final Map<String, Category> rows = new ConcurrentSkipListMap<>();
+    private final AtomicInteger rowIds = new AtomicInteger();
+    private final InMemoryChangeLog changes = new InMemoryChangeLog();
+
+    @Override
+    public Uni<List<Category>> findAll() {
+        return Uni.createFrom().item(rows.values().stream().map(InMemoryCategoryRepository::copy).toList());
+    }
+
+    @Override
+    public Uni<List<Category>> findAllActive() {
+        return Uni.createFrom().item(rows.values().stream()
+                .filter(category -> category.deletedAt == null && category.modificationStatus != ModificationStatus.DELETED)
+                .map(InMemoryCategoryRepository::copy)
+                .toList());
+    }
+
+    @Override
+    public Uni<Category> findById(String number) {
+        Category category = rows.get(number);
+        return Uni.createFrom().item(category != null ? copy(category) : null);
+    }
+
+    @Override
+    public Uni<Category> save(Category category) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (this) {
+            if (category.RowId == null) {
+                category.RowId = rowIds.incrementAndGet();
+                category.createdAt = now;
+            }
+            category.lastModifiedAt = now;
+            category.rowVersion = category.rowVersion == null ? 0L : category.rowVersion + 1;
+            rows.put(category.Number, copy(category));
+            changes.record(category.Number, category.isDeleted());
+        }
+        return Uni.createFrom().item(category);
+    }
+
+    @Override
+    public Uni<Void> deleteById(String number) {
+        synchronized (this) {
+            if (rows.remove(number) != null) {
+                changes.record(number, true);
+            }
+        }
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public Uni<Boolean> existsById(String number) {
+        return Uni.createFrom().item(rows.containsKey(number));
+    }
+
+    @Override
+    public Uni<Category> findByRowId(Long rowId) {
+        return Uni.createFrom().item(rows.values().stream()
+                .filter(category -> category.RowId != null && category.RowId.longValue() == rowId)
+                .findFirst()
+                .map(InMemoryCategoryRepository::copy)
+                .orElse(null));
+    }
+
+    @Override
+    public synchronized Uni<List<String>> moveSubtree(String number, String oldPath, String newPath, int depthDelta) {
+        List<String> moved = new ArrayList<>();
+        for (Category category : rows.values()) {
+            if (category.path == null || !category.path.startsWith(oldPath) || category.Number.equals(number)) {
+                continue;
+            }
+            Category updated = copy(category);
+            updated.path = newPath + category.path.substring(oldPath.length());
+            updated.depth = (category.depth != null ? category.depth : 0) + depthDelta;
+            updated.rowVersion = category.rowVersion == null ? 1L : category.rowVersion + 1;
+            rows.put(updated.Number, updated);
+            changes.record(updated.Number, updated.isDeleted());
+            moved.add(updated.Number);
+        }
+        return Uni.createFrom().item(moved);
+    }
+
+    @Override
+    public Uni<Void> prepareHierarchy() {
+        // Paths are set on every save; nothing to index or backfill
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public Uni<List<Category>> findByNumbers(Collection<String> numbers) {
+        return Uni.createFrom().item(numbers.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(InMemoryCategoryRepository::copy)
+                .toList());
+    }
+
+    @Override
+    public Uni<Long> changeWatermark() {
+        return Uni.createFrom().item(changes.watermark());
+    }
+
+    @Override
+    public Uni<List<Change>> findChanges(ChangeCursor from, long watermark, int limit) {
+        return Uni.createFrom().item(changes.changes(from, watermark, limit));
+    }
+
+    @Override
+    public Uni<Void> flush() {
+        return Uni.createFrom().voidItem();
+    }
+
+    private static Category copy(Category source) {
+        Category category = new Category();
+        category.RowId = source.RowId;
+        category.Number = source.Number;
+        category.name = source.name;
+        category.description = source.description;
+        category.parentId = source.parentId;
+        category.slug = source.slug;
+        category.path = source.path;
+        category.depth = source.depth;
+        category.active = source.active;
+        category.createdAt = source.createdAt;
+        category.createdBy = source.createdBy;
+        category.lastModifiedAt = source.lastModifiedAt;
+        category.lastModifiedBy = source.lastModifiedBy;
+        category.lockedAt = source.lockedAt;
+        category.lockedBy = source.lockedBy;
+        category.deletedAt = source.deletedAt;
+        category.deletedBy = source.deletedBy;
+        category.rowVersion = source.rowVersion;
+        category.modificationStatus = source.modificationStatus;
+        return category;
+    }
+}
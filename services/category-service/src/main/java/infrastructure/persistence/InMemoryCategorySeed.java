@@ -0,0 +1,69 @@
+package infrastructure.persistence;
+
+import application.port.outbound.CategoryRepository;
+import application.service.CategoryTreeCache;
+import domain.entity.Category;
+import infrastructure.context.BackgroundContexts;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the in-memory repository at startup with a two-level tree (a tenth of the categories are roots)
+ * and rebuilds the category tree from it (loadtest profile)
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemoryCategorySeed {
+
+    @Inject
+    CategoryRepository categoryRepository;
+
+    @Inject
+    CategoryTreeCache categoryTree;
+
+    @Inject
+    NumberAllocator numberAllocator;
+
+    @Inject
+    Vertx vertx;
+
+    @ConfigProperty(name = "honeybee.loadtest.seed.categories", defaultValue = "200")
+    int categories;
+
+    void onStart(@Observes StartupEvent event) {
+        int roots = Math.max(1, categories / 10);
+        List<Category> saved = new ArrayList<>(categories);
+        BackgroundContexts.run(vertx, () -> Multi.createFrom().range(0, categories)
+                        .onItem().transformToUniAndConcatenate(i -> numberAllocator.next("CAT")
+                                .chain(number -> categoryRepository.save(category(i, number, i < roots ? null : saved.get(i % roots)))))
+                        .onItem().invoke(saved::add)
+                        .collect().last()
+                        .chain(ignored -> categoryTree.refresh()))
+                .subscribe().with(
+                        tree -> Log.infof("🌳 Load-test categories ready: %d (%d roots)", tree.size(), roots),
+                        ex -> Log.errorf(ex, "Failed to seed the load-test categories: %s", ex.getMessage()));
+    }
+
+    private Category category(int i, String number, Category parent) {
+        Category category = new Category();
+        category.Number = number;
+        category.name = "Category " + (i + 1);
+        category.description = "Load-test category " + (i + 1);
+        category.slug = "category-" + (i + 1);
+        category.parentId = parent != null ? parent.RowId.longValue() : null;
+        category.path = (parent != null ? parent.path : "/") + number + "/";
+        category.depth = parent != null ? 1 : 0;
+        return category;
+    }
+}
@@ -3,6 +3,7 @@ package presentation.rest;
 import application.dto.GetCategoryDto;
 import application.dto.CreateCategoryDto;
 import application.dto.UpdateCategoryDto;
+import application.dto.CategoryChanges;
 import application.service.CategoryService;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
@@ -10,13 +11,15 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriInfo;
+import infrastructure.context.RequestContext;
+import infrastructure.web.BinaryBodyWriter;
+import infrastructure.web.QueryParams;
 import share.ApiResponse;
 
 import java.util.List;
-import java.util.UUID;
 
 @Path("/api/categories")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, BinaryBodyWriter.CBOR, BinaryBodyWriter.SMILE})
 @Consumes(MediaType.APPLICATION_JSON)
 public class CategoryController {
 
@@ -24,18 +27,28 @@ public class CategoryController {
     CategoryService categoryService;
 
     @GET
-    public Uni<ApiResponse<List<GetCategoryDto>>> getAllCategories(@Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
-        return categoryService.getAllCategories()
+    public Uni<ApiResponse<List<GetCategoryDto>>> getAllCategories(@QueryParam("ids") List<String> ids,
+                                                                   @Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        List<String> numbers = QueryParams.splitList(ids);
+        // Multi-get: ?ids=CAT1,CAT2 or ?ids=CAT1&ids=CAT2
+        Uni<List<GetCategoryDto>> lookup = numbers.isEmpty()
+                ? categoryService.getAllCategories()
+                : categoryService.getCategoriesByIds(numbers);
+        return lookup
                 .onItem().transform(categories -> ApiResponse.ok(categories, requestId))
-                .onFailure().recoverWithItem(ex -> 
-                        ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId));
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof IllegalArgumentException) {
+                        return ApiResponse.fail("BAD_REQUEST", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                });
     }
 
     @GET
     @Path("/{number}")
     public Uni<ApiResponse<GetCategoryDto>> getCategoryById(@PathParam("number") String number, @Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         return categoryService.getCategoryById(number)
                 .onItem().transform(category -> ApiResponse.ok(category, requestId))
                 .onFailure().recoverWithItem(ex -> {
@@ -46,9 +59,93 @@ public class CategoryController {
                 });
     }
 
+    @GET
+    @Path("/roots")
+    public Uni<ApiResponse<List<GetCategoryDto>>> getRootCategories(@Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        return categoryService.getRootCategories()
+                .onItem().transform(categories -> ApiResponse.ok(categories, requestId))
+                .onFailure().recoverWithItem(ex ->
+                        ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId));
+    }
+
+    @GET
+    @Path("/changes")
+    public Uni<ApiResponse<CategoryChanges>> getChanges(@QueryParam("since") String since,
+                                                        @QueryParam("limit") Integer limit,
+                                                        @Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        return categoryService.getChanges(since, limit)
+                .onItem().transform(changes -> ApiResponse.ok(changes, requestId))
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof IllegalArgumentException) {
+                        return ApiResponse.fail("BAD_REQUEST", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                });
+    }
+
+    @GET
+    @Path("/slug/{slug}")
+    public Uni<ApiResponse<GetCategoryDto>> getCategoryBySlug(@PathParam("slug") String slug, @Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        return categoryService.getCategoryBySlug(slug)
+                .onItem().transform(category -> ApiResponse.ok(category, requestId))
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof domain.exception.CategoryNotFoundException) {
+                        return ApiResponse.fail("NOT_FOUND", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                });
+    }
+
+    @GET
+    @Path("/{number}/children")
+    public Uni<ApiResponse<List<GetCategoryDto>>> getChildren(@PathParam("number") String number, @Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        return categoryService.getChildren(number)
+                .onItem().transform(categories -> ApiResponse.ok(categories, requestId))
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof domain.exception.CategoryNotFoundException) {
+                        return ApiResponse.fail("NOT_FOUND", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                });
+    }
+
+    @GET
+    @Path("/{number}/descendants")
+    public Uni<ApiResponse<List<GetCategoryDto>>> getDescendants(@PathParam("number") String number,
+                                                                 @QueryParam("maxDepth") Integer maxDepth,
+                                                                 @Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        return categoryService.getDescendants(number, maxDepth)
+                .onItem().transform(categories -> ApiResponse.ok(categories, requestId))
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof domain.exception.CategoryNotFoundException) {
+                        return ApiResponse.fail("NOT_FOUND", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                });
+    }
+
+    @GET
+    @Path("/{number}/ancestors")
+    public Uni<ApiResponse<List<GetCategoryDto>>> getAncestors(@PathParam("number") String number, @Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        return categoryService.getAncestors(number)
+                .onItem().transform(categories -> ApiResponse.ok(categories, requestId))
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof domain.exception.CategoryNotFoundException) {
+                        return ApiResponse.fail("NOT_FOUND", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                });
+    }
+
     @POST
     public Uni<ApiResponse<GetCategoryDto>> createCategory(CreateCategoryDto dto, @Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         return categoryService.createCategory(dto)
                 .onItem().transform(category -> ApiResponse.ok(category, requestId))
                 .onFailure().recoverWithItem(ex -> 
@@ -58,7 +155,7 @@ public class CategoryController {
     @PUT
     @Path("/{number}")
     public Uni<ApiResponse<GetCategoryDto>> updateCategory(@PathParam("number") String number, UpdateCategoryDto dto, @Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         return categoryService.updateCategory(number, dto)
                 .onItem().transform(category -> ApiResponse.ok(category, requestId))
                 .onFailure().recoverWithItem(ex -> {
@@ -72,7 +169,7 @@ public class CategoryController {
     @DELETE
     @Path("/{number}")
     public Uni<ApiResponse<Void>> deleteCategory(@PathParam("number") String number, @Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         return categoryService.deleteCategory(number)
                 .onItem().transform(v -> ApiResponse.ok(v, requestId))
                 .onFailure().recoverWithItem(ex -> {
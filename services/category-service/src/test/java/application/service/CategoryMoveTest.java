@@ -0,0 +1,149 @@
+package application.service;
+
+import application.dto.UpdateCategoryDto;
+import application.mapper.CategoryMapperImpl;
+import application.port.outbound.AuditEventPublisherPort;
+import application.port.outbound.CategoryStatePublisherPort;
+import domain.entity.Category;
+import infrastructure.loadtest.PassThroughTransactions;
+import infrastructure.persistence.InMemoryCategoryRepository;
+import infrastructure.persistence.UserContext;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import share.dto.AuditEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategoryMoveTest {
+
+    private final InMemoryCategoryRepository repository = new InMemoryCategoryRepository();
+    private final List<String> published = new ArrayList<>();
+    private final CategoryService service = new CategoryService();
+
+    // Electronics > Phones > Cases, and Gifts as a second root
+    private Category electronics;
+    private Category phones;
+    private Category cases;
+    private Category gifts;
+
+    @BeforeEach
+    void setUp() {
+        CategoryMapperImpl mapper = new CategoryMapperImpl();
+        CategoryTreeCache tree = new CategoryTreeCache();
+        tree.categoryRepository = repository;
+        tree.categoryMapper = mapper;
+
+        service.categoryRepository = repository;
+        service.categoryMapper = mapper;
+        service.categoryTree = tree;
+        service.transactions = new PassThroughTransactions();
+        service.userContext = new UserContext();
+        service.auditEventPublisher = new AuditEventPublisherPort() {
+            @Override
+            public Uni<Void> publishCrudEvent(AuditEvent event) {
+                return Uni.createFrom().voidItem();
+            }
+
+            @Override
+            public void publishErrorEvent(AuditEvent event) {
+            }
+        };
+        service.statePublisher = new CategoryStatePublisherPort() {
+            @Override
+            public Uni<Void> publishUpsert(Category category) {
+                published.add(category.Number);
+                return Uni.createFrom().voidItem();
+            }
+
+            @Override
+            public Uni<Void> publishDelete(Category category) {
+                return Uni.createFrom().voidItem();
+            }
+        };
+
+        electronics = save("CAT-1", "Electronics", null);
+        phones = save("CAT-2", "Phones", electronics);
+        cases = save("CAT-3", "Cases", phones);
+        gifts = save("CAT-4", "Gifts", null);
+    }
+
+    @Test
+    void movingRewritesTheWholeSubtree() {
+        service.updateCategory("CAT-2", moveUnder(gifts)).await().indefinitely();
+
+        assertPlaced("CAT-2", "/CAT-4/CAT-2/", 1);
+        assertPlaced("CAT-3", "/CAT-4/CAT-2/CAT-3/", 2);
+        assertPlaced("CAT-1", "/CAT-1/", 0);
+        // Descendants' new paths go to the state feed too
+        assertTrue(published.containsAll(List.of("CAT-2", "CAT-3")), published.toString());
+    }
+
+    @Test
+    void movingDeeperShiftsDepthsByTheDifference() {
+        service.updateCategory("CAT-4", moveUnder(cases)).await().indefinitely();
+
+        assertPlaced("CAT-4", "/CAT-1/CAT-2/CAT-3/CAT-4/", 3);
+    }
+
+    @Test
+    void cannotMoveUnderItsOwnDescendant() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> service.updateCategory("CAT-1", moveUnder(cases)).await().indefinitely());
+
+        assertTrue(error.getMessage().contains("CAT-3"), error.getMessage());
+        assertPlaced("CAT-1", "/CAT-1/", 0);
+        assertPlaced("CAT-3", "/CAT-1/CAT-2/CAT-3/", 2);
+    }
+
+    @Test
+    void cannotMoveUnderItself() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.updateCategory("CAT-2", moveUnder(phones)).await().indefinitely());
+
+        assertPlaced("CAT-2", "/CAT-1/CAT-2/", 1);
+    }
+
+    @Test
+    void siblingWithANumberPrefixIsNotADescendant() {
+        // /CAT-1/CAT-20/ starts with /CAT-1/CAT-2 but is not in Phones' subtree
+        save("CAT-20", "Phone Accessories", electronics);
+
+        service.updateCategory("CAT-2", moveUnder(gifts)).await().indefinitely();
+        assertPlaced("CAT-20", "/CAT-1/CAT-20/", 1);
+
+        // Nor does the cycle guard mistake it for one
+        Category accessories = repository.findById("CAT-20").await().indefinitely();
+        service.updateCategory("CAT-2", moveUnder(accessories)).await().indefinitely();
+        assertPlaced("CAT-2", "/CAT-1/CAT-20/CAT-2/", 2);
+        assertPlaced("CAT-3", "/CAT-1/CAT-20/CAT-2/CAT-3/", 3);
+    }
+
+    private Category save(String number, String name, Category parent) {
+        Category category = new Category();
+        category.Number = number;
+        category.name = name;
+        category.slug = name.toLowerCase();
+        category.parentId = parent != null ? parent.RowId.longValue() : null;
+        category.path = (parent != null ? parent.path : "/") + number + "/";
+        category.depth = parent != null ? parent.depth + 1 : 0;
+        return repository.save(category).await().indefinitely();
+    }
+
+    private static UpdateCategoryDto moveUnder(Category parent) {
+        UpdateCategoryDto dto = new UpdateCategoryDto();
+        dto.parentId = parent.RowId.longValue();
+        return dto;
+    }
+
+    private void assertPlaced(String number, String path, int depth) {
+        Category category = repository.findById(number).await().indefinitely();
+        assertEquals(path, category.path, number);
+        assertEquals(depth, category.depth, number);
+    }
+}
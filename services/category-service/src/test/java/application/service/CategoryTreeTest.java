@@ -0,0 +1,97 @@
+package application.service;
+
+import application.dto.GetCategoryDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CategoryTreeTest {
+
+    // Electronics (1) > Phones (2) > Cases (3), Electronics > Laptops (4); Books (10) is a root whose
+    // Number shares a prefix with Electronics'; Stray (6) points at a parent that no longer exists
+    private final GetCategoryDto electronics = category(1L, "CAT-1", "Electronics", null, "/CAT-1/", 0);
+    private final GetCategoryDto phones = category(2L, "CAT-2", "Phones", 1L, "/CAT-1/CAT-2/", 1);
+    private final GetCategoryDto cases = category(3L, "CAT-3", "Cases", 2L, "/CAT-1/CAT-2/CAT-3/", 2);
+    private final GetCategoryDto laptops = category(4L, "CAT-4", "Laptops", 1L, "/CAT-1/CAT-4/", 1);
+    private final GetCategoryDto books = category(10L, "CAT-10", "Books", null, "/CAT-10/", 0);
+    private final GetCategoryDto stray = category(6L, "CAT-6", "Stray", 99L, "/CAT-99/CAT-6/", 1);
+
+    private final CategoryTree tree = new CategoryTree(1, List.of(stray, cases, laptops, books, phones, electronics));
+
+    @Test
+    void descendantsAreTheSubtreeInPathOrder() {
+        assertEquals(List.of(phones, cases, laptops), tree.descendants(electronics, null));
+        assertEquals(List.of(cases), tree.descendants(phones, null));
+        assertEquals(List.of(), tree.descendants(cases, null));
+    }
+
+    @Test
+    void descendantsStopAtMaxDepth() {
+        assertEquals(List.of(phones, laptops), tree.descendants(electronics, 1));
+        assertEquals(List.of(phones, cases, laptops), tree.descendants(electronics, 2));
+    }
+
+    @Test
+    void numberPrefixIsNotASubtree() {
+        // /CAT-10/ starts with /CAT-1 but is not under /CAT-1/
+        assertEquals(List.of(), tree.descendants(books, null));
+        assertEquals(List.of(phones, cases, laptops), tree.descendants(electronics, null));
+    }
+
+    @Test
+    void ancestorsRunFromTheRootDown() {
+        assertEquals(List.of(electronics, phones), tree.ancestors(cases));
+        assertEquals(List.of(electronics), tree.ancestors(laptops));
+        assertEquals(List.of(), tree.ancestors(electronics));
+    }
+
+    @Test
+    void orphansAreRoots() {
+        assertEquals(List.of(books, electronics, stray), tree.roots());
+        // Its missing parent is skipped in the breadcrumb
+        assertEquals(List.of(), tree.ancestors(stray));
+        assertEquals(List.of(), tree.children(99L));
+    }
+
+    @Test
+    void childrenAreSortedByName() {
+        assertEquals(List.of(laptops, phones), tree.children(1L));
+        assertEquals(List.of(), tree.children(null));
+    }
+
+    @Test
+    void lookups() {
+        assertSame(phones, tree.byNumber("CAT-2"));
+        assertSame(phones, tree.byId(2L));
+        assertSame(phones, tree.bySlug("phones"));
+        assertNull(tree.byNumber("CAT-99"));
+        assertNull(tree.byNumber(null));
+        assertEquals(6, tree.size());
+    }
+
+    @Test
+    void categoryWithoutPathHasNoHierarchy() {
+        GetCategoryDto legacy = category(7L, "CAT-7", "Legacy", null, null, null);
+        CategoryTree withLegacy = new CategoryTree(2, List.of(electronics, legacy));
+
+        assertEquals(List.of(), withLegacy.descendants(legacy, null));
+        assertEquals(List.of(), withLegacy.ancestors(legacy));
+    }
+
+    private static GetCategoryDto category(Long id, String number, String name, Long parentId, String path, Integer depth) {
+        GetCategoryDto category = new GetCategoryDto();
+        category.id = id;
+        category.number = number;
+        category.name = name;
+        category.slug = name.toLowerCase();
+        category.parentId = parentId;
+        category.path = path;
+        category.depth = depth;
+        category.active = true;
+        return category;
+    }
+}
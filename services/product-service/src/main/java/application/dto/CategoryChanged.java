@@ -0,0 +1,7 @@
+package application.dto;
+
+/**
+ * CDI event: the local category replica changed (or dropped) this category
+ */
+public record CategoryChanged(Long categoryId) {
+}
@@ -0,0 +1,12 @@
+package application.dto;
+
+/**
+ * The slice of a category that product-service keeps locally (from the category state feed)
+ */
+public class CategorySummary {
+    public Long id;
+    public String number;
+    public String name;
+    public String slug;
+    public boolean active;
+}
@@ -1,15 +1,26 @@
 package application.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+// ?fields= on GET endpoints narrows it to the requested properties
+@JsonFilter("fields")
 public class GetProduct {
     public Long id;
+    public String number;
     public String name;
     public String description;
     public BigDecimal price;
     public Integer stock;
     public Long categoryId;
+    // From the local category replica; null if the category is unknown to it
+    public String categoryName;
+    public String categorySlug;
+    // Computed: stock > 0; and active, in stock and in an active category
+    public boolean inStock;
+    public boolean available;
     public LocalDateTime createdAt;
     public String createdBy;
     public LocalDateTime lastModifiedAt;
@@ -0,0 +1,14 @@
+package application.dto;
+
+import java.util.List;
+
+/**
+ * Catalog changes since a sync token: current state of changed products and Numbers of deleted ones
+ * Pass nextSince back as since; while hasMore is true the next call continues this batch.
+ */
+public class ProductChanges {
+    public List<GetProduct> upserts;
+    public List<String> deletes;
+    public String nextSince;
+    public boolean hasMore;
+}
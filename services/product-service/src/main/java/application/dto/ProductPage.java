@@ -0,0 +1,13 @@
+package application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a product listing; pass nextCursor back to get the following page
+ * With a sparse filter a page can hold fewer items than asked for, even none, while hasMore is still true.
+ */
+public class ProductPage {
+    public List<GetProduct> items;
+    public String nextCursor;
+    public boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Filters and keyset position for a product listing page
+ */
+public class ProductQuery {
+
+    public enum Sort {
+        NUMBER, PRICE, PRICE_DESC
+    }
+
+    public Long categoryId;
+    public BigDecimal minPrice;
+    public BigDecimal maxPrice;
+    public Boolean active;
+    public Boolean inStock;
+    public Sort sort = Sort.NUMBER;
+
+    // Keyset position: the last row of the previous page (null for the first page)
+    public String afterNumber;
+    public BigDecimal afterPrice;
+}
@@ -15,8 +15,15 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 public interface ProductMapper {
 
     @Mapping(source = "RowId", target = "id")
+    @Mapping(source = "Number", target = "number")
+    @Mapping(target = "categoryName", ignore = true)
+    @Mapping(target = "categorySlug", ignore = true)
+    @Mapping(target = "inStock", ignore = true)
+    @Mapping(target = "available", ignore = true)
     GetProduct toResponse(Product product);
 
+    GetProduct copy(GetProduct product);
+
     @Mapping(target = "RowId", ignore = true)
     @Mapping(target = "Number", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
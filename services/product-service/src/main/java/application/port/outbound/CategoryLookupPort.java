@@ -0,0 +1,20 @@
+package application.port.outbound;
+
+import application.dto.CategorySummary;
+
+/**
+ * Port for looking up categories without a call to category-service (Outbound port)
+ * Answers from a local replica, so lookups are synchronous and eventually consistent.
+ */
+public interface CategoryLookupPort {
+
+    /**
+     * False until the replica has caught up with the feed; until then a missing category proves nothing
+     */
+    boolean isReady();
+
+    /**
+     * Category by id, or null if unknown or deleted
+     */
+    CategorySummary findById(Long categoryId);
+}
@@ -1,8 +1,12 @@
 package application.port.outbound;
 
+import application.dto.ProductQuery;
 import domain.entity.Product;
 import io.smallrye.mutiny.Uni;
+import share.sync.Change;
+import share.sync.ChangeCursor;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepository {
@@ -10,7 +14,35 @@ public interface ProductRepository {
 
     Uni<Product> findById(String id);
 
-    Uni<List<Product>> findAll();
+    /**
+     * Read-only lookup through the entity cache; do not modify the returned entity
+     */
+    Uni<Product> findByIdCached(String id);
+
+    /**
+     * Products with the given Numbers in one query; missing Numbers are simply absent
+     */
+    Uni<List<Product>> findByNumbers(Collection<String> numbers);
+
+    /**
+     * Next page after the query's keyset position, at most limit rows in the query's sort order
+     */
+    Uni<List<Product>> findPage(ProductQuery query, int limit);
+
+    /**
+     * Exclusive upper bound of change versions that are safe to read; read it before the changes
+     */
+    Uni<Long> changeWatermark();
+
+    /**
+     * Changed and deleted Numbers after the cursor and below the watermark, in version order
+     */
+    Uni<List<Change>> findChanges(ChangeCursor from, long watermark, int limit);
+
+    /**
+     * Write pending changes now, so the rowVersion of saved products is the one that will commit
+     */
+    Uni<Void> flush();
 
     Uni<Void> delete(Product product);
 }
\ No newline at end of file
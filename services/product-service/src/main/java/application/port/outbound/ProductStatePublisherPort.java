@@ -0,0 +1,18 @@
+package application.port.outbound;
+
+import domain.entity.Product;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Port for publishing full product state to the product state feed (Outbound port)
+ * Recorded in the caller's transaction and delivered after commit
+ */
+public interface ProductStatePublisherPort {
+
+    /**
+     * Publish the product's current state; call after flush so the version is the committed one
+     */
+    Uni<Void> publishUpsert(Product product);
+
+    Uni<Void> publishDelete(Product product);
+}
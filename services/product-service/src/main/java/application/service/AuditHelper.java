@@ -3,14 +3,15 @@ package application.service;
 import share.dto.AuditEvent;
 import application.port.outbound.AuditEventPublisherPort;
 import share.enums.AuditTypeEnum;
+import infrastructure.context.RequestContext;
 import infrastructure.persistence.UserContext;
 import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import share.enums.AuditStatusEnum;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * Helper service for creating and publishing audit events
@@ -34,13 +35,15 @@ public class AuditHelper {
         event.action = action;
         event.serviceName = serviceName;
         event.timestamp = LocalDateTime.now();
-        event.correlationId = UUID.randomUUID().toString();
+        event.correlationId = RequestContext.correlationId();
         event.status = AuditStatusEnum.SUCCESS;
 
         // Add user context
         try {
             event.username = userContext.getUsername();
             event.ipAddress = userContext.getIpAddress();
+            event.storeId = userContext.getStoreId();
+            event.terminalId = userContext.getTerminalId();
             
             if (userContext.getCurrentUserId() != null && !"system".equals(userContext.getCurrentUserId())) {
                 event.userId = Long.parseLong(userContext.getCurrentUserId());
@@ -53,17 +56,15 @@ public class AuditHelper {
     }
 
     /**
-     * Publish CRUD event with error handling
+     * Publish CRUD event through the outbox
+     * Must be chained inside the caller's transaction; a failure fails that transaction
      */
-    public void publishCrudEvent(AuditEvent event) {
-        try {
-            auditEventPublisher.publishCrudEvent(event);
-            Log.debugf("Published audit event [%s] for %s: %s %s", 
-                event.correlationId, event.action, event.entityType, event.rowId);
-        } catch (Exception ex) {
-            Log.errorf(ex, "Critical: Failed to publish audit event for %s on %s %s", 
-                event.action, event.entityType, event.rowId);
-        }
+    public Uni<Void> publishCrudEvent(AuditEvent event) {
+        return auditEventPublisher.publishCrudEvent(event)
+                .onItem().invoke(() -> Log.debugf("Published audit event [%s] for %s: %s %s",
+                        event.correlationId, event.action, event.entityType, event.rowId))
+                .onFailure().invoke(ex -> Log.errorf(ex, "Critical: Failed to publish audit event for %s on %s %s",
+                        event.action, event.entityType, event.rowId));
     }
 
     /**
@@ -80,17 +81,14 @@ public class AuditHelper {
     }
 
     /**
-     * Safely publish audit event without throwing exceptions
+     * Safely publish audit event without failing the returned Uni
      */
-    public void safePublish(AuditEvent event) {
-        try {
-            if (event.auditTypeEnum == AuditTypeEnum.ERROR) {
-                publishErrorEvent(event);
-            } else {
-                publishCrudEvent(event);
-            }
-        } catch (Exception ex) {
-            Log.errorf(ex, "Failed to publish audit event: %s", ex.getMessage());
+    public Uni<Void> safePublish(AuditEvent event) {
+        if (event.auditTypeEnum == AuditTypeEnum.ERROR) {
+            publishErrorEvent(event);
+            return Uni.createFrom().voidItem();
         }
+        return publishCrudEvent(event)
+                .onFailure().recoverWithNull();
     }
 }
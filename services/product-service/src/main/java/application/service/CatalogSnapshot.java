@@ -0,0 +1,56 @@
+package application.service;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.time.Instant;
+
+/**
+ * Immutable, pre-serialized full catalog in identity and gzip encodings
+ * The gzip body lives off-heap; both bodies are shared by every response, so hand out slices only.
+ */
+public final class CatalogSnapshot {
+
+    public final String etag;
+    public final int productCount;
+    // Delta sync token (GET /api/products/changes?since=) to continue from after loading this snapshot
+    public final long since;
+    public final Instant builtAt;
+
+    private final Buffer identity;
+    private final Buffer gzip;
+
+    CatalogSnapshot(String etag, int productCount, long since, Instant builtAt, Buffer identity, Buffer gzip) {
+        this.etag = etag;
+        this.productCount = productCount;
+        this.since = since;
+        this.builtAt = builtAt;
+        this.identity = identity;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Strong validator of one encoding (the encodings are different byte sequences)
+     */
+    public String etag(boolean gzipped) {
+        return gzipped ? "\"" + etag + "-gz\"" : "\"" + etag + "\"";
+    }
+
+    /**
+     * True if the client's validator matches this snapshot in any encoding
+     */
+    public boolean matches(String entityTag) {
+        String tag = entityTag.startsWith("W/") ? entityTag.substring(2) : entityTag;
+        return tag.equals(etag(false)) || tag.equals(etag(true));
+    }
+
+    /**
+     * Zero-copy view of the body bytes [start, end)
+     */
+    public Buffer slice(boolean gzipped, int start, int end) {
+        return (gzipped ? gzip : identity).slice(start, end);
+    }
+
+    public int length(boolean gzipped) {
+        return (gzipped ? gzip : identity).length();
+    }
+}
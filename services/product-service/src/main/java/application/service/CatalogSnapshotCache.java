@@ -0,0 +1,311 @@
+package application.service;
+
+import application.dto.ProductQuery;
+import application.mapper.ProductMapper;
+import application.port.outbound.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.entity.Product;
+import infrastructure.cache.CacheInvalidation;
+import infrastructure.cache.EntityCache;
+import infrastructure.context.BackgroundContexts;
+import infrastructure.persistence.ReadReplica;
+import io.netty.buffer.Unpooled;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the full-catalog snapshot served to POS terminals at shift start
+ * Each product is serialized once and kept as a JSON fragment; a change only re-reads and
+ * re-serializes the changed products, then the fragments are re-assembled and compressed off the
+ * event loop. Changes are coalesced per debounce window and a periodic full reload bounds drift.
+ */
+@ApplicationScoped
+public class CatalogSnapshotCache {
+
+    private static final String ENTITY_TYPE = "Product";
+    private static final int LOAD_BATCH_SIZE = 1000;
+    // A change whose transaction never commits (rollback) is given up after this many windows
+    private static final int MAX_ATTEMPTS = 50;
+    private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FOOTER = "]}".getBytes(StandardCharsets.UTF_8);
+
+    @Inject
+    ProductRepository productRepository;
+
+    @Inject
+    ProductMapper productMapper;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Vertx vertx;
+
+    @ConfigProperty(name = "honeybee.catalog-snapshot.debounce", defaultValue = "500ms")
+    Duration debounce;
+
+    // Serialized product JSON by Number; only mutated by the (single) running rebuild
+    private final NavigableMap<String, byte[]> fragments = new ConcurrentSkipListMap<>();
+    // Changed Numbers waiting for the next rebuild, with the version the change commits with
+    private final Map<String, PendingChange> pending = new ConcurrentHashMap<>();
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    // Change watermark read before the last full load; changes applied since are replayed by delta sync
+    private volatile long loadedSince;
+    private final AtomicBoolean fullReloadRequested = new AtomicBoolean(true);
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private record PendingChange(long minVersion, int attempts) {
+    }
+
+    /**
+     * Current snapshot, or null until the first build has finished
+     */
+    public CatalogSnapshot current() {
+        return snapshot.get();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        scheduleRebuild();
+    }
+
+    void onInvalidation(@Observes CacheInvalidation invalidation) {
+        if (!ENTITY_TYPE.equals(invalidation.entityType) || invalidation.number == null) {
+            return;
+        }
+        pending.merge(invalidation.number, new PendingChange(invalidation.minVersion, 0),
+                (existing, next) -> new PendingChange(Math.max(existing.minVersion, next.minVersion), 0));
+        scheduleRebuild();
+    }
+
+    @Scheduled(every = "${honeybee.catalog-snapshot.refresh-interval:30m}",
+            delayed = "${honeybee.catalog-snapshot.refresh-interval:30m}")
+    void periodicReload() {
+        fullReloadRequested.set(true);
+        scheduleRebuild();
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            vertx.setTimer(Math.max(1, debounce.toMillis()), id -> {
+                rebuildScheduled.set(false);
+                runRebuild();
+            });
+        }
+    }
+
+    private void runRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            scheduleRebuild(); // picked up once the running rebuild is done
+            return;
+        }
+        BackgroundContexts.run(vertx, this::rebuild)
+                .subscribe().with(
+                        built -> {
+                            rebuilding.set(false);
+                            if (!pending.isEmpty() || fullReloadRequested.get()) {
+                                scheduleRebuild();
+                            }
+                        },
+                        ex -> {
+                            rebuilding.set(false);
+                            Log.errorf(ex, "Failed to rebuild catalog snapshot: %s", ex.getMessage());
+                            scheduleRebuild();
+                        });
+    }
+
+    private Uni<CatalogSnapshot> rebuild() {
+        Uni<Boolean> load = fullReloadRequested.getAndSet(false)
+                ? loadAll()
+                : applyPendingChanges();
+        return load.chain(changed -> {
+            if (!changed && snapshot.get() != null) {
+                return Uni.createFrom().item(snapshot.get());
+            }
+            // Copy the fragment references so the compression can run while new changes queue up
+            List<byte[]> items = new ArrayList<>(fragments.values());
+            long since = loadedSince;
+            return Uni.createFrom().item(() -> assemble(items, since))
+                    .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                    .invoke(built -> {
+                        snapshot.set(built);
+                        Log.infof("📦 Catalog snapshot rebuilt: %d products, %d bytes (%d gzipped)",
+                                built.productCount, built.length(false), built.length(true));
+                    });
+        });
+    }
+
+    private Uni<Boolean> loadAll() {
+        // A lagging replica could miss changes from before the primary watermark the snapshot is stamped with
+        ReadReplica.pinToPrimary();
+        NavigableMap<String, byte[]> loaded = new ConcurrentSkipListMap<>();
+        return productRepository.changeWatermark()
+                .call(() -> loadBatch(loaded, null))
+                .invoke(watermark -> {
+                    fragments.keySet().retainAll(loaded.keySet());
+                    fragments.putAll(loaded);
+                    loadedSince = watermark;
+                })
+                .replaceWith(true);
+    }
+
+    /**
+     * Keyset-pages through the catalog so no single query materializes every product
+     */
+    private Uni<Void> loadBatch(NavigableMap<String, byte[]> into, String afterNumber) {
+        ProductQuery query = new ProductQuery();
+        query.afterNumber = afterNumber;
+        return productRepository.findPage(query, LOAD_BATCH_SIZE)
+                .chain(products -> {
+                    products.forEach(product -> into.put(product.Number, serialize(product)));
+                    if (products.size() < LOAD_BATCH_SIZE) {
+                        return Uni.createFrom().voidItem();
+                    }
+                    return loadBatch(into, products.get(products.size() - 1).Number);
+                });
+    }
+
+    /**
+     * Re-reads only the changed products; a row not yet at its expected version (transaction
+     * still open) stays pending for the next window
+     */
+    private Uni<Boolean> applyPendingChanges() {
+        Map<String, PendingChange> batch = new HashMap<>(pending);
+        if (batch.isEmpty()) {
+            return Uni.createFrom().item(false);
+        }
+        return productRepository.findByNumbers(batch.keySet())
+                .onItem().transform(products -> {
+                    Map<String, Product> byNumber = new HashMap<>();
+                    products.forEach(product -> byNumber.put(product.Number, product));
+
+                    boolean changed = false;
+                    for (Map.Entry<String, PendingChange> entry : batch.entrySet()) {
+                        String number = entry.getKey();
+                        PendingChange change = entry.getValue();
+                        Product product = byNumber.get(number);
+                        if (!isSettled(product, change) && change.attempts < MAX_ATTEMPTS) {
+                            pending.replace(number, change, new PendingChange(change.minVersion, change.attempts + 1));
+                            continue;
+                        }
+                        if (product == null) {
+                            changed |= fragments.remove(number) != null;
+                        } else {
+                            fragments.put(number, serialize(product));
+                            changed = true;
+                        }
+                        // Keeps the entry if a newer change arrived meanwhile
+                        pending.remove(number, change);
+                    }
+                    return changed;
+                });
+    }
+
+    private boolean isSettled(Product product, PendingChange change) {
+        if (product == null) {
+            // A missing row only settles a delete; for anything else it is a create not visible yet
+            return change.minVersion == EntityCache.DELETED;
+        }
+        long version = product.rowVersion != null ? product.rowVersion : 0L;
+        return version >= change.minVersion;
+    }
+
+    private byte[] serialize(Product product) {
+        try {
+            return objectMapper.writeValueAsBytes(productMapper.toResponse(product));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize product " + product.Number, e);
+        }
+    }
+
+    // Buffer.buffer(ByteBuf) is Vert.x 4's only public way to wrap a ByteBuf without copying it
+    @SuppressWarnings("deprecation")
+    private CatalogSnapshot assemble(List<byte[]> items, long since) {
+        Instant builtAt = Instant.now();
+        // Deterministic body: an unchanged catalog keeps its ETag across rebuilds and replicas
+        byte[] header = ("{\"productCount\":" + items.size() + ",\"items\":[").getBytes(StandardCharsets.UTF_8);
+
+        // Identity body references the fragments directly instead of copying them
+        byte[][] parts = new byte[items.size() * 2 + 1][];
+        parts[0] = header;
+        for (int i = 0; i < items.size(); i++) {
+            parts[i * 2 + 1] = items.get(i);
+            parts[i * 2 + 2] = i < items.size() - 1 ? SEPARATOR : FOOTER;
+        }
+        if (items.isEmpty()) {
+            parts[0] = concat(header, FOOTER);
+        }
+
+        MessageDigest digest = sha256();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 64 * 1024) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION); // built rarely, downloaded many times
+            }
+        }) {
+            for (byte[] part : parts) {
+                digest.update(part);
+                gzip.write(part);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ByteBuffer offHeap = ByteBuffer.allocateDirect(compressed.size());
+        offHeap.put(compressed.toByteArray()).flip();
+
+        // Unreleasable: responses write slices of these buffers and must never free them
+        Buffer identity = Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(parts)));
+        Buffer gzipped = Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(offHeap)));
+        String etag = HexFormat.of().formatHex(digest.digest(), 0, 16);
+        return new CatalogSnapshot(etag, items.size(), since, builtAt, identity, gzipped);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package application.service;
+
+import application.dto.CategoryChanged;
+import application.dto.CategorySummary;
+import application.dto.GetProduct;
+import application.dto.ProductQuery;
+import application.mapper.ProductMapper;
+import application.port.outbound.CategoryLookupPort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Denormalized product read model: the finished GetProduct of every product, category info and computed flags included
+ * Fed from the product state feed (and this instance's own writes once committed); GET endpoints read it
+ * directly, without entities or queries. Writers are serialized; readers are lock-free and see each view
+ * replaced whole, never modified.
+ */
+@ApplicationScoped
+public class ProductProjection {
+
+    private record PriceKey(BigDecimal price, String number) {
+    }
+
+    private static final NavigableSet<String> EMPTY = new ConcurrentSkipListSet<>();
+
+    // A null Number sorts after every product at its price, "" before; neither is ever a key
+    private static final Comparator<PriceKey> PRICE_ORDER = Comparator.comparing(PriceKey::price)
+            .thenComparing(PriceKey::number, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final NavigableMap<PriceKey, GetProduct> NO_PRICES = new ConcurrentSkipListMap<>(PRICE_ORDER);
+
+    private record Entry(long version, GetProduct state) {
+    }
+
+    private record Tombstone(String number, long version, long expiresAt) {
+    }
+
+    @Inject
+    ProductMapper productMapper;
+
+    @Inject
+    CategoryLookupPort categoryLookup;
+
+    @ConfigProperty(name = "honeybee.products.projection.tombstone-retention", defaultValue = "10m")
+    Duration tombstoneRetention;
+
+    // Latest version per Number; a delete made here leaves a null state until the feed has caught up with it
+    private final Map<String, Entry> entries = new HashMap<>();
+    // Those tombstones in the order they were left, so expired ones are dropped from the head
+    private final Queue<Tombstone> tombstones = new ArrayDeque<>();
+    private final NavigableMap<String, GetProduct> byNumber = new ConcurrentSkipListMap<>();
+    private final NavigableMap<PriceKey, GetProduct> byPrice = new ConcurrentSkipListMap<>(PRICE_ORDER);
+    private final Map<Long, NavigableSet<String>> byCategory = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableMap<PriceKey, GetProduct>> byCategoryPrice = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * Set once the feed has been read up to where it was at startup
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Applies one product state (as published, without category info); older versions are ignored
+     */
+    public synchronized void upsert(GetProduct state, long version) {
+        expireTombstones();
+        Entry current = entries.get(state.number);
+        if (current != null && current.version() > version) {
+            return;
+        }
+        entries.put(state.number, new Entry(version, state));
+        GetProduct previous = byNumber.get(state.number);
+        index(view(state), previous);
+    }
+
+    /**
+     * A delete from the state feed. It comes after every older state of the product there (per-key order),
+     * so nothing is kept of the product, not even a tombstone of a delete made here.
+     */
+    public synchronized void delete(String number, long version) {
+        expireTombstones();
+        Entry current = entries.get(number);
+        if (current != null && current.version() > version) {
+            return;
+        }
+        entries.remove(number);
+        remove(number);
+    }
+
+    /**
+     * A delete committed here, ahead of the feed: a tombstone holds off the older states the feed may still
+     * deliver until the feed's own delete arrives, or at the latest until tombstone-retention has passed
+     */
+    public synchronized void deleteCommitted(String number, long version) {
+        expireTombstones();
+        Entry current = entries.get(number);
+        if (current != null && current.version() > version) {
+            return;
+        }
+        entries.put(number, new Entry(version, null));
+        tombstones.add(new Tombstone(number, version, System.nanoTime() + tombstoneRetention.toNanos()));
+        remove(number);
+    }
+
+    /**
+     * Product by Number, or null if the read model doesn't hold it
+     */
+    public GetProduct get(String number) {
+        return byNumber.get(number);
+    }
+
+    /**
+     * One listing page: the matches, and the last candidate looked at when the scan stopped at maxScan
+     * before filling the page (null when it didn't), which is where the next page starts
+     */
+    public record Page(List<GetProduct> items, GetProduct scannedTo) {
+    }
+
+    /**
+     * Up to limit products matching the query, in its sort order, after its keyset position
+     * Looks at no more than maxScan candidates, so a filter the indexes don't narrow (active, inStock, or a
+     * price range under NUMBER sort) costs at most that much per request; a sparse one gets short pages.
+     */
+    public Page page(ProductQuery query, int limit, int maxScan) {
+        Iterable<GetProduct> candidates;
+        if (query.sort == ProductQuery.Sort.NUMBER) {
+            if (query.categoryId != null) {
+                candidates = categoryCandidates(query);
+            } else {
+                candidates = query.afterNumber == null ? byNumber.values() : byNumber.tailMap(query.afterNumber, false).values();
+            }
+        } else {
+            NavigableMap<PriceKey, GetProduct> prices = query.categoryId == null
+                    ? byPrice
+                    : byCategoryPrice.getOrDefault(query.categoryId, NO_PRICES);
+            candidates = priceCandidates(prices, query);
+        }
+
+        List<GetProduct> page = new ArrayList<>(limit);
+        int scanned = 0;
+        GetProduct last = null;
+        for (GetProduct product : candidates) {
+            if (scanned == maxScan) {
+                // Candidates are left: the caller continues after the last one looked at
+                return new Page(page, last);
+            }
+            scanned++;
+            last = product;
+            if (matches(product, query)) {
+                page.add(product);
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return new Page(page, null);
+    }
+
+    /**
+     * Fills the denormalized fields of a freshly mapped response in place
+     */
+    public GetProduct enrich(GetProduct product) {
+        CategorySummary category = categoryLookup.findById(product.categoryId);
+        product.categoryName = category != null ? category.name : null;
+        product.categorySlug = category != null ? category.slug : null;
+        product.inStock = product.stock != null && product.stock > 0;
+        product.available = product.active && product.inStock && (category == null || category.active);
+        return product;
+    }
+
+    /**
+     * A category rename or (de)activation changes the views of its products
+     */
+    synchronized void onCategoryChanged(@Observes CategoryChanged event) {
+        NavigableSet<String> numbers = byCategory.get(event.categoryId());
+        if (numbers == null) {
+            return;
+        }
+        for (String number : List.copyOf(numbers)) {
+            Entry entry = entries.get(number);
+            if (entry != null && entry.state() != null) {
+                index(view(entry.state()), byNumber.get(number));
+            }
+        }
+    }
+
+    private void remove(String number) {
+        GetProduct previous = byNumber.remove(number);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private void expireTombstones() {
+        long now = System.nanoTime();
+        Tombstone oldest;
+        while ((oldest = tombstones.peek()) != null && now - oldest.expiresAt() >= 0) {
+            tombstones.remove();
+            Entry entry = entries.get(oldest.number());
+            // Unless the feed's delete or a newer state has replaced it already
+            if (entry != null && entry.state() == null && entry.version() == oldest.version()) {
+                entries.remove(oldest.number());
+            }
+        }
+    }
+
+    private GetProduct view(GetProduct state) {
+        return enrich(productMapper.copy(state));
+    }
+
+    private void index(GetProduct view, GetProduct previous) {
+        if (previous != null) {
+            unindex(previous);
+        }
+        byNumber.put(view.number, view);
+        if (view.price != null) {
+            byPrice.put(new PriceKey(view.price, view.number), view);
+        }
+        if (view.categoryId != null) {
+            byCategory.computeIfAbsent(view.categoryId, id -> new ConcurrentSkipListSet<>()).add(view.number);
+            if (view.price != null) {
+                byCategoryPrice.computeIfAbsent(view.categoryId, id -> new ConcurrentSkipListMap<>(PRICE_ORDER))
+                        .put(new PriceKey(view.price, view.number), view);
+            }
+        }
+    }
+
+    private void unindex(GetProduct view) {
+        if (view.price != null) {
+            byPrice.remove(new PriceKey(view.price, view.number));
+        }
+        if (view.categoryId != null) {
+            NavigableSet<String> numbers = byCategory.get(view.categoryId);
+            if (numbers != null) {
+                numbers.remove(view.number);
+            }
+            NavigableMap<PriceKey, GetProduct> prices = byCategoryPrice.get(view.categoryId);
+            if (prices != null && view.price != null) {
+                prices.remove(new PriceKey(view.price, view.number));
+            }
+        }
+    }
+
+    private Iterable<GetProduct> categoryCandidates(ProductQuery query) {
+        NavigableSet<String> numbers = byCategory.getOrDefault(query.categoryId, EMPTY);
+        NavigableSet<String> after = query.afterNumber == null ? numbers : numbers.tailSet(query.afterNumber, false);
+        return () -> after.stream().map(byNumber::get).filter(Objects::nonNull).iterator();
+    }
+
+    /**
+     * The slice of a price index between the price filter and the keyset position, in the query's direction
+     */
+    private static Iterable<GetProduct> priceCandidates(NavigableMap<PriceKey, GetProduct> prices, ProductQuery query) {
+        // Exclusive bounds: the sentinels are never keys, and the keyset position itself was already served
+        PriceKey low = query.minPrice != null ? new PriceKey(query.minPrice, "") : null;
+        PriceKey high = query.maxPrice != null ? new PriceKey(query.maxPrice, null) : null;
+        if (query.afterNumber != null) {
+            PriceKey after = new PriceKey(query.afterPrice, query.afterNumber);
+            if (query.sort == ProductQuery.Sort.PRICE && (low == null || PRICE_ORDER.compare(after, low) > 0)) {
+                low = after;
+            } else if (query.sort == ProductQuery.Sort.PRICE_DESC && (high == null || PRICE_ORDER.compare(after, high) < 0)) {
+                high = after;
+            }
+        }
+        NavigableMap<PriceKey, GetProduct> range;
+        if (low != null && high != null) {
+            if (PRICE_ORDER.compare(low, high) >= 0) {
+                return List.of();
+            }
+            range = prices.subMap(low, false, high, false);
+        } else if (low != null) {
+            range = prices.tailMap(low, false);
+        } else if (high != null) {
+            range = prices.headMap(high, false);
+        } else {
+            range = prices;
+        }
+        return (query.sort == ProductQuery.Sort.PRICE_DESC ? range.descendingMap() : range).values();
+    }
+
+    private static boolean matches(GetProduct product, ProductQuery query) {
+        if (query.categoryId != null && !query.categoryId.equals(product.categoryId)) {
+            return false;
+        }
+        if (query.minPrice != null && (product.price == null || product.price.compareTo(query.minPrice) < 0)) {
+            return false;
+        }
+        if (query.maxPrice != null && (product.price == null || product.price.compareTo(query.maxPrice) > 0)) {
+            return false;
+        }
+        if (query.active != null && product.active != query.active) {
+            return false;
+        }
+        return query.inStock == null || product.inStock == query.inStock;
+    }
+}
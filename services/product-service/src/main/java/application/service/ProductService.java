@@ -7,30 +7,52 @@ import domain.entity.Product;
 import share.dto.AuditEvent;
 import share.enums.AuditTypeEnum;
 import share.enums.LogLevel;
+import share.sync.Change;
+import share.sync.ChangeCursor;
+import domain.exception.InvalidCategoryException;
 import domain.exception.ProductNotFoundException;
+import infrastructure.context.RequestContext;
+import infrastructure.persistence.NumberAllocator;
+import infrastructure.persistence.Transactions;
 import infrastructure.persistence.UserContext;
 import infrastructure.logging.DatabaseOperationLogger;
 import infrastructure.logging.LoggingHelper;
-import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class ProductService {
 
+    private static final String NUMBER_PREFIX = "PRD";
+    private static final String CURSOR_SEPARATOR = "~";
+
     @Inject
     AuditEventPublisherPort auditEventPublisher;
 
     @Inject
     ProductRepository productRepository;
 
+    @Inject
+    ProductStatePublisherPort statePublisher;
+
+    @Inject
+    CategoryLookupPort categoryLookup;
+
+    @Inject
+    ProductProjection projection;
+
     @Inject
     ProductMapper productMapper;
 
@@ -40,27 +62,180 @@ public class ProductService {
     @Inject
     LoggingHelper loggingHelper;
 
-    public Uni<List<GetProduct>> getAllProducts() {
-        return productRepository.findAll()
+    @Inject
+    NumberAllocator numberAllocator;
+
+    @Inject
+    Transactions transactions;
+
+    @ConfigProperty(name = "honeybee.products.page.default-size", defaultValue = "50")
+    int defaultPageSize;
+
+    @ConfigProperty(name = "honeybee.products.page.max-size", defaultValue = "200")
+    int maxPageSize;
+
+    @ConfigProperty(name = "honeybee.products.page.max-scan", defaultValue = "5000")
+    int maxPageScan;
+
+    @ConfigProperty(name = "honeybee.products.changes.default-size", defaultValue = "500")
+    int defaultChangesSize;
+
+    @ConfigProperty(name = "honeybee.products.changes.max-size", defaultValue = "2000")
+    int maxChangesSize;
+
+    /**
+     * One keyset page of the listing; cost depends on the page size, not on the catalog size
+     */
+    public Uni<ProductPage> listProducts(ProductQuery query, String cursor, Integer limit) {
+        int pageSize;
+        try {
+            pageSize = limit == null ? defaultPageSize : limit;
+            if (pageSize < 1 || pageSize > maxPageSize) {
+                throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+            }
+            if (query.minPrice != null && query.maxPrice != null && query.minPrice.compareTo(query.maxPrice) > 0) {
+                throw new IllegalArgumentException("minPrice must not exceed maxPrice");
+            }
+            decodeCursor(cursor, query);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        // One extra row tells whether there is a next page without a count query
+        Uni<ProductProjection.Page> rows = projection.isReady()
+                ? Uni.createFrom().item(() -> projection.page(query, pageSize + 1, maxPageScan))
+                : productRepository.findPage(query, pageSize + 1)
+                        .onItem().transform(products -> new ProductProjection.Page(
+                                products.stream().map(this::toResponse).toList(), null));
+        return rows
+                .onItem().transform(rowsPage -> {
+                    List<GetProduct> products = rowsPage.items();
+                    ProductPage page = new ProductPage();
+                    if (products.size() > pageSize) {
+                        page.hasMore = true;
+                        page.items = List.copyOf(products.subList(0, pageSize));
+                        page.nextCursor = encodeCursor(query.sort, page.items.get(pageSize - 1));
+                    } else {
+                        // A scan cut short by max-scan continues after the last candidate it looked at
+                        page.hasMore = rowsPage.scannedTo() != null;
+                        page.items = products;
+                        page.nextCursor = page.hasMore ? encodeCursor(query.sort, rowsPage.scannedTo()) : null;
+                    }
+                    return page;
+                })
+                .onFailure().invoke(ex ->
+                        Log.errorf(ex, "Error listing products: %s", ex.getMessage()));
+    }
+
+    /**
+     * Changes since a sync token; the cost is proportional to the number of changes, not the catalog
+     */
+    public Uni<ProductChanges> getChanges(String since, Integer limit) {
+        ChangeCursor from;
+        int batchSize;
+        try {
+            from = ChangeCursor.parse(since);
+            batchSize = limit == null ? defaultChangesSize : limit;
+            if (batchSize < 1 || batchSize > maxChangesSize) {
+                throw new IllegalArgumentException("limit must be between 1 and " + maxChangesSize);
+            }
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        return productRepository.changeWatermark()
+                .chain(watermark -> productRepository.findChanges(from, watermark, batchSize + 1)
+                        .chain(changes -> {
+                            boolean hasMore = changes.size() > batchSize;
+                            List<Change> batch = hasMore ? changes.subList(0, batchSize) : changes;
+                            List<String> upserted = batch.stream()
+                                    .filter(change -> !change.deleted())
+                                    .map(Change::number)
+                                    .toList();
+                            return productRepository.findByNumbers(upserted)
+                                    .onItem().transform(products -> {
+                                        ProductChanges result = new ProductChanges();
+                                        result.upserts = products.stream()
+                                                .sorted(Comparator.comparing((Product product) -> product.Number))
+                                                .map(this::toResponse)
+                                                .collect(Collectors.toList());
+                                        result.deletes = batch.stream()
+                                                .filter(Change::deleted)
+                                                .map(Change::number)
+                                                .collect(Collectors.toList());
+                                        result.hasMore = hasMore;
+                                        Change last = hasMore ? batch.get(batch.size() - 1) : null;
+                                        result.nextSince = last != null
+                                                ? ChangeCursor.after(last).toString()
+                                                : Long.toString(Math.max(watermark, from.version()));
+                                        return result;
+                                    });
+                        }))
+                .onFailure().invoke(ex ->
+                        Log.errorf(ex, "Error getting product changes since %s: %s", since, ex.getMessage()));
+    }
+
+    /**
+     * Multi-get in request order (unknown Numbers omitted); cache misses are coalesced into one query
+     */
+    public Uni<List<GetProduct>> getProductsByIds(List<String> ids) {
+        List<String> numbers = ids.stream().distinct().toList();
+        if (numbers.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        if (numbers.size() > maxPageSize) {
+            return Uni.createFrom().failure(new IllegalArgumentException("At most " + maxPageSize + " ids per request"));
+        }
+        return Uni.join().all(numbers.stream().map(this::findProduct).toList()).andFailFast()
                 .onItem().transform(products -> products.stream()
-                        .map(productMapper::toResponse)
+                        .filter(Objects::nonNull)
                         .collect(Collectors.toList()))
                 .onFailure().invoke(ex ->
-                        Log.errorf(ex, "Error getting all products: %s", ex.getMessage()));
+                        Log.errorf(ex, "Error getting products by ids: %s", ex.getMessage()));
     }
 
     public Uni<GetProduct> getProductById(String id) {
-        return productRepository.findById(id)
-                .onItem().ifNull().failWith(() -> new ProductNotFoundException("Product not found with id: " + id))
-                .onItem().transform(productMapper::toResponse);
+        return findProduct(id)
+                .onItem().ifNull().failWith(() -> new ProductNotFoundException("Product not found with id: " + id));
+    }
+
+    /**
+     * From the read model; the entity path covers a read model still loading or not yet fed this product
+     */
+    private Uni<GetProduct> findProduct(String number) {
+        GetProduct view = projection.isReady() ? projection.get(number) : null;
+        if (view != null) {
+            return Uni.createFrom().item(view);
+        }
+        return productRepository.findByIdCached(number)
+                .onItem().ifNotNull().transform(this::toResponse);
     }
 
-    @WithTransaction
     public Uni<GetProduct> createProduct(CreateProduct request) {
+        return transactions.withTransaction(() -> create(request))
+                // After commit, so this instance's reads see its own write without waiting for the state feed
+                .invoke(this::project)
+                .onItem().transform(this::toResponse);
+    }
+
+    public Uni<GetProduct> updateProduct(String number, CreateProduct request) {
+        return transactions.withTransaction(() -> update(number, request))
+                .invoke(this::project)
+                .onItem().transform(this::toResponse);
+    }
+
+    public Uni<Void> deleteProduct(String number) {
+        return transactions.withTransaction(() -> delete(number))
+                .invoke(product -> projection.deleteCommitted(product.Number, product.rowVersion != null ? product.rowVersion + 1 : 0L))
+                .replaceWithVoid();
+    }
+
+    private void project(Product product) {
+        projection.upsert(productMapper.toResponse(product), product.rowVersion != null ? product.rowVersion : 0L);
+    }
+
+    private Uni<Product> create(CreateProduct request) {
         Product product = productMapper.toEntity(request);
-        
-        // Todo: Generate unique Number for the product
-        product.Number = "PRD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
 
         // Manual application log for business event
         loggingHelper.logApp(
@@ -70,109 +245,159 @@ public class ProductService {
             null
         );
 
-        // Automatic DB operation logging with timing
-        return DatabaseOperationLogger.logPersist(product, 
-                productRepository.save(product)
-                    .call(savedProduct -> savedProduct.flush())
-                )
+        // Number comes from a pre-reserved block, so most creates don't hit the sequence
+        return validateCategory(request.categoryId)
+                .chain(() -> numberAllocator.next(NUMBER_PREFIX))
+                .onItem().invoke(number -> product.Number = number)
+                // Automatic DB operation logging with timing
+                .chain(() -> DatabaseOperationLogger.logPersist(product,
+                        productRepository.save(product)
+                            .call(() -> productRepository.flush())
+                        ))
                 .onItem().invoke(savedProduct -> {
-                    try {
-                        Log.infof("Product saved with RowId: %s, Number: %s", savedProduct.RowId, savedProduct.Number);
-                        
-                        // Manual application log for successful creation
-                        loggingHelper.logApp(
-                            LogLevel.INFO,
-                            String.format("Product created successfully: %s (ID: %s)", savedProduct.name, savedProduct.RowId),
-                            userContext.getCurrentUserId(),
-                            null
-                        );
-                        
-                        publishCrudEvent("CREATE", savedProduct.RowId, "Created: " + savedProduct.name);
-                    } catch (Exception ex) {
-                        Log.warnf(ex, "Failed to publish audit event for product creation: %s", ex.getMessage());
-                    }
+                    Log.infof("Product saved with RowId: %s, Number: %s", savedProduct.RowId, savedProduct.Number);
+
+                    // Manual application log for successful creation
+                    loggingHelper.logApp(
+                        LogLevel.INFO,
+                        String.format("Product created successfully: %s (ID: %s)", savedProduct.name, savedProduct.RowId),
+                        userContext.getCurrentUserId(),
+                        null
+                    );
                 })
-                .onItem().transform(productMapper::toResponse)
+                // Audit event goes to the outbox in this transaction (no phantom events on rollback)
+                .call(savedProduct -> publishCrudEvent("CREATE", savedProduct.RowId, "Created: " + savedProduct.name))
+                .call(savedProduct -> statePublisher.publishUpsert(savedProduct))
                 .onFailure().invoke(ex ->
                         Log.errorf(ex, "Error creating product: %s", ex.getMessage()));
     }
 
-    @WithTransaction
-    public Uni<GetProduct> updateProduct(String number, CreateProduct request) {
+    private Uni<Product> update(String number, CreateProduct request) {
         return productRepository.findById(number)
                 .onItem().ifNull().failWith(() -> new ProductNotFoundException("Product not found"))
+                // Only a new category is checked: staying in a since-deactivated one is allowed
+                .call(product -> Objects.equals(product.categoryId, request.categoryId)
+                        ? Uni.createFrom().voidItem()
+                        : validateCategory(request.categoryId))
                 .onItem().invoke(product -> productMapper.updateEntity(request, product))
-                .onItem().invoke(product -> {
-                    try {
-                        publishCrudEvent("UPDATE", product.RowId, "Updated product: " + product.name);
-                    } catch (Exception ex) {
-                        Log.warnf(ex, "Failed to publish audit event for product update: %s", ex.getMessage());
-                    }
-                })
-                .onItem().transform(productMapper::toResponse)
+                .call(product -> productRepository.save(product))
+                // Flush so the state event carries the new rowVersion
+                .call(() -> productRepository.flush())
+                .call(product -> publishCrudEvent("UPDATE", product.RowId, "Updated product: " + product.name))
+                .call(product -> statePublisher.publishUpsert(product))
                 .onFailure().invoke(ex ->
                         Log.errorf(ex, "Error updating product: %s", ex.getMessage()));
     }
 
-    @WithTransaction
-    public Uni<Void> deleteProduct(String number) {
+    private Uni<Product> delete(String number) {
         return productRepository.findById(number)
                 .onItem().ifNull().failWith(() -> new ProductNotFoundException("Product not found"))
                 .onItem().transformToUni(product -> {
                     String productName = product.name;
                     Integer rowId = product.RowId;
                     return productRepository.delete(product)
-                            .onItem().invoke(() -> {
-                                try {
-                                    publishCrudEvent("DELETE", rowId, "Deleted product: " + productName);
-                                } catch (Exception ex) {
-                                    Log.warnf(ex, "Failed to publish audit event for product deletion: %s", ex.getMessage());
-                                }
-                            });
+                            .call(() -> publishCrudEvent("DELETE", rowId, "Deleted product: " + productName))
+                            .call(() -> statePublisher.publishDelete(product))
+                            .replaceWith(product);
                 })
                 .onFailure().invoke(ex ->
                         Log.errorf(ex, "Error deleting product: %s", ex.getMessage()));
     }
 
-    private void publishCrudEvent(String action, Integer rowId, String details) {
-        publishCrudEvent(action, rowId, details, null);
+    /**
+     * Checked against the local category replica, so creates don't wait on category-service
+     */
+    private Uni<Void> validateCategory(Long categoryId) {
+        if (!categoryLookup.isReady()) {
+            return Uni.createFrom().failure(new IllegalStateException("Category data is still loading, retry shortly"));
+        }
+        CategorySummary category = categoryLookup.findById(categoryId);
+        if (category == null) {
+            return Uni.createFrom().failure(new InvalidCategoryException("Category not found with id: " + categoryId));
+        }
+        if (!category.active) {
+            return Uni.createFrom().failure(new InvalidCategoryException("Category is inactive: " + categoryId));
+        }
+        return Uni.createFrom().voidItem();
+    }
+
+    /**
+     * Same shape as the read model: category name/slug and computed flags filled in
+     */
+    private GetProduct toResponse(Product product) {
+        return projection.enrich(productMapper.toResponse(product));
     }
 
-    private void publishCrudEvent(String action, Integer rowId, String details, String oldValue) {
+    private Uni<Void> publishCrudEvent(String action, Integer rowId, String details) {
+        return publishCrudEvent(action, rowId, details, null);
+    }
+
+    private Uni<Void> publishCrudEvent(String action, Integer rowId, String details, String oldValue) {
+        var event = new AuditEvent();
+        String correlationId = RequestContext.correlationId();
+
+        event.auditTypeEnum = AuditTypeEnum.CRUD;
+        event.action = action;
+        event.serviceName = "product-service";
+        event.entityType = "Product";
+        event.rowId = rowId;
+        event.metadata = details;
+        event.timestamp = LocalDateTime.now();
+        event.correlationId = correlationId;
+
+        // Add user context
         try {
-            var event = new AuditEvent();
-            String correlationId = UUID.randomUUID().toString();
-
-            event.auditTypeEnum = AuditTypeEnum.CRUD;
-            event.action = action;
-            event.serviceName = "product-service";
-            event.entityType = "Product";
-            event.rowId = rowId;
-            event.metadata = details;
-            event.timestamp = LocalDateTime.now();
-            event.correlationId = correlationId;
-
-            // Add user context
-            try {
-                event.username = userContext.getUsername();
-                event.ipAddress = userContext.getIpAddress();
-                if (userContext.getCurrentUserId() != null && !"system".equals(userContext.getCurrentUserId())) {
-                    event.userId = Long.parseLong(userContext.getCurrentUserId());
-                }
-            } catch (Exception ex) {
-                Log.warnf("Failed to extract user context for audit: %s", ex.getMessage());
+            event.username = userContext.getUsername();
+            event.ipAddress = userContext.getIpAddress();
+            event.storeId = userContext.getStoreId();
+            event.terminalId = userContext.getTerminalId();
+            if (userContext.getCurrentUserId() != null && !"system".equals(userContext.getCurrentUserId())) {
+                event.userId = Long.parseLong(userContext.getCurrentUserId());
             }
+        } catch (Exception ex) {
+            Log.warnf("Failed to extract user context for audit: %s", ex.getMessage());
+        }
 
-            // Add old/new values for UPDATE actions
-            if ("UPDATE".equals(action) && oldValue != null) {
-                event.oldValue = oldValue;
-                event.newValue = details;
-            }
+        // Add old/new values for UPDATE actions
+        if ("UPDATE".equals(action) && oldValue != null) {
+            event.oldValue = oldValue;
+            event.newValue = details;
+        }
 
-            auditEventPublisher.publishCrudEvent(event);
-            Log.infof("Published audit event [%s] for %s: %s", correlationId, action, rowId);
-        } catch (Exception ex) {
-            Log.errorf(ex, "Critical: Failed to publish audit event for %s on %s", action, rowId);
+        // A failed outbox write fails the business transaction, so the audit trail can't silently diverge
+        return auditEventPublisher.publishCrudEvent(event)
+                .onItem().invoke(() -> Log.infof("Published audit event [%s] for %s: %s", correlationId, action, rowId))
+                .onFailure().invoke(ex -> Log.errorf(ex, "Critical: Failed to publish audit event for %s on %s", action, rowId));
+    }
+
+    /**
+     * Opaque cursor: sort order plus the sort key of the last row returned
+     */
+    private String encodeCursor(ProductQuery.Sort sort, GetProduct last) {
+        String key = sort == ProductQuery.Sort.NUMBER
+                ? sort + CURSOR_SEPARATOR + last.number
+                : sort + CURSOR_SEPARATOR + last.price.toPlainString() + CURSOR_SEPARATOR + last.number;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void decodeCursor(String cursor, ProductQuery query) {
+        if (cursor == null || cursor.isBlank()) {
+            return;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(CURSOR_SEPARATOR, 3);
+            if (!query.sort.name().equals(parts[0])) {
+                throw new IllegalArgumentException("issued for sort " + parts[0]);
+            }
+            if (query.sort == ProductQuery.Sort.NUMBER) {
+                query.afterNumber = parts[1];
+            } else {
+                query.afterPrice = new BigDecimal(parts[1]);
+                query.afterNumber = parts[2];
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + e.getMessage(), e);
         }
     }
 }
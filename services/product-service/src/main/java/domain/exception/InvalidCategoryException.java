@@ -0,0 +1,7 @@
+package domain.exception;
+
+public class InvalidCategoryException extends RuntimeException {
+    public InvalidCategoryException(String message) {
+        super(message);
+    }
+}
@@ -1,78 +1,115 @@
 package infrastructure.logging;
 
-import io.quarkus.arc.Arc;
+import infrastructure.context.RequestContext;
+import infrastructure.context.RequestMetadata;
+import infrastructure.web.RouteTemplates;
 import io.quarkus.logging.Log;
-import jakarta.ws.rs.container.ContainerRequestContext;
-import jakarta.ws.rs.container.ContainerRequestFilter;
-import jakarta.ws.rs.container.ContainerResponseContext;
-import jakarta.ws.rs.container.ContainerResponseFilter;
-import jakarta.ws.rs.ext.Provider;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ResourceInfo;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import share.dto.AccessLog;
 
-import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
- * JAX-RS filter for automatic HTTP access logging
- * Logs all incoming requests and outgoing responses
+ * Route-level HTTP access logging
+ * Timing starts when Vert.x routes the request and stops once the response is fully written;
+ * the endpoint is the matched route template (/api/products/{id}) so it aggregates per route
  */
-@Provider
-public class AccessLogFilter implements ContainerRequestFilter, ContainerResponseFilter {
+@ApplicationScoped
+public class AccessLogFilter {
 
-    private static final String START_TIME_PROPERTY = "request.start.time";
-    private static final String REQUEST_ID_PROPERTY = "request.id";
+    private static final String START_NANOS = "access-log.start";
+    private static final long SLOW_NANOS = TimeUnit.SECONDS.toNanos(1);
 
-    @Override
-    public void filter(ContainerRequestContext requestContext) throws IOException {
-        // Store start time for response time calculation
-        requestContext.setProperty(START_TIME_PROPERTY, System.currentTimeMillis());
-        
-        // Generate request ID
-        String requestId = java.util.UUID.randomUUID().toString();
-        requestContext.setProperty(REQUEST_ID_PROPERTY, requestId);
-        
-        Log.debugf("📨 Incoming: %s %s [%s]", 
-            requestContext.getMethod(), 
-            requestContext.getUriInfo().getPath(),
-            requestId);
+    @Inject
+    LoggingHelper loggingHelper;
+
+    @Inject
+    RouteTemplates routeTemplates;
+
+    void registerTimer(@Observes Router router) {
+        router.route().order(Integer.MIN_VALUE).handler(ctx -> {
+            ctx.put(START_NANOS, System.nanoTime());
+            ctx.next();
+        });
     }
 
-    @Override
-    public void filter(ContainerRequestContext requestContext, 
-                      ContainerResponseContext responseContext) throws IOException {
-        
-        Long startTime = (Long) requestContext.getProperty(START_TIME_PROPERTY);
-        if (startTime == null) {
-            return;
-        }
-        
-        long duration = System.currentTimeMillis() - startTime;
-        String method = requestContext.getMethod();
-        String path = requestContext.getUriInfo().getPath();
-        int status = responseContext.getStatus();
-        
-        // Get user info from headers (if authenticated)
-        String userId = requestContext.getHeaderString("X-User-Id");
-        // String username = requestContext.getHeaderString("X-Username");
-        
-        // Log access
+    /**
+     * Only requests matched to a resource method are logged (no health/openapi noise)
+     * Runs after RequestContextFilter (caller identity) and before the rate-limit and admission filters,
+     * so their 429 and 503 answers are logged too.
+     */
+    @ServerRequestFilter(priority = Priorities.AUTHENTICATION - 90)
+    public void captureRoute(RoutingContext ctx, ResourceInfo resourceInfo) {
+        // The end handler may run outside the request's context, so capture the metadata now
+        track(ctx, routeTemplates.of(resourceInfo), RequestContext.current());
+    }
+
+    /**
+     * Logs the request under the route once its response ends; for plain Vert.x routes, which bypass the filter
+     */
+    public void track(RoutingContext ctx, String route, RequestMetadata metadata) {
+        Long start = ctx.get(START_NANOS);
+        long startNanos = start != null ? start : System.nanoTime();
+        ctx.addEndHandler(ignored -> log(ctx, route, metadata, startNanos));
+    }
+
+    private void log(RoutingContext ctx, String route, RequestMetadata metadata, long startNanos) {
+        long durationNanos = System.nanoTime() - startNanos;
+        HttpServerRequest request = ctx.request();
+        HttpServerResponse response = ctx.response();
+        int status = response.getStatusCode();
+
+        AccessLog log = new AccessLog();
+        log.httpMethod = request.method().name();
+        log.endpoint = route;
+        log.path = request.path();
+        log.queryString = request.query();
+        log.requestId = metadata.requestId;
+        log.correlationId = metadata.correlationId;
+        log.ipAddress = metadata.ipAddress;
+        log.userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        log.referer = request.getHeader(HttpHeaders.REFERER);
+        log.origin = request.getHeader(HttpHeaders.ORIGIN);
+        log.requestSize = toInt(request.bytesRead());
+        log.statusCode = status;
+        log.responseSize = toInt(response.bytesWritten());
+        log.contentType = response.headers().get(HttpHeaders.CONTENT_TYPE);
+        log.responseTimeMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        log.userId = metadata.userId;
+        log.username = metadata.username;
+        log.storeId = metadata.storeId;
+        log.terminalId = metadata.terminalId;
+
         try {
-            LoggingHelper logger = Arc.container().instance(LoggingHelper.class).get();
-            logger.logAccess(method, path, status, duration, userId);
-            Log.debugf("📤 Sent AccessLog to Kafka: %s %s - %d", method, path, status);
+            loggingHelper.logAccess(log);
         } catch (Exception e) {
             Log.errorf(e, "❌ Failed to log access: %s", e.getMessage());
         }
-        
+
         // Console log with emoji based on status
         String emoji = getStatusEmoji(status);
-        if (duration > 1000) {
-            Log.warnf("%s %s %s - %d (%dms) 🐌 SLOW", 
-                emoji, method, path, status, duration);
+        double durationMs = durationNanos / 1_000_000.0;
+        if (durationNanos > SLOW_NANOS) {
+            Log.warnf("%s %s %s - %d (%.2fms) 🐌 SLOW", emoji, log.httpMethod, route, status, durationMs);
         } else {
-            Log.infof("%s %s %s - %d (%dms)", 
-                emoji, method, path, status, duration);
+            Log.infof("%s %s %s - %d (%.2fms)", emoji, log.httpMethod, route, status, durationMs);
         }
     }
-    
+
+    private Integer toInt(long bytes) {
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
     private String getStatusEmoji(int status) {
         if (status >= 200 && status < 300) return "✅";
         if (status >= 300 && status < 400) return "🔄";
@@ -1,10 +1,13 @@
 package infrastructure.logging;
 
+import infrastructure.metrics.DatabaseMetrics;
 import io.quarkus.arc.Arc;
 import io.quarkus.logging.Log;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Hibernate interceptor for automatic database operation logging
  * Tracks INSERT, UPDATE, DELETE operations with timing
@@ -12,45 +15,46 @@ import jakarta.enterprise.context.ApplicationScoped;
 @ApplicationScoped
 public class DatabaseOperationLogger {
 
-    // private static final ThreadLocal<Long> START_TIME = new ThreadLocal<>();
+    private static final long SLOW_THRESHOLD_MS = 100;
     
     /**
      * Log database operation with automatic timing
      */
     public static <T> Uni<T> logOperation(String operation, String entityName, Uni<T> uniOperation) {
-        long start = System.currentTimeMillis();
-        
-        return uniOperation
-            .onItem().invoke(result -> {
-                long duration = System.currentTimeMillis() - start;
-                
-                // Get LoggingHelper from CDI
-                LoggingHelper logger = Arc.container().instance(LoggingHelper.class).get();
-                
-                // Always log performance metrics
-                logger.logPerf(
-                    "DB:" + operation + ":" + entityName, 
-                    duration, 
-                    duration > 100  // Mark as slow if > 100ms
-                );
-                
-                if (duration > 100) {
-                    Log.warnf("🐌 Slow DB operation: %s %s took %dms (sent to Kafka)", 
-                        operation, entityName, duration);
-                } else {
-                    Log.debugf("⚡ DB operation: %s %s took %dms (sent to Kafka)", 
-                        operation, entityName, duration);
-                }
-            })
-            .onFailure().invoke(error -> {
-                long duration = System.currentTimeMillis() - start;
-                LoggingHelper logger = Arc.container().instance(LoggingHelper.class).get();
-                
-                // Log database errors
-                logger.logError(error, null, null);
-                Log.errorf(error, "❌ DB operation failed: %s %s after %dms", 
-                    operation, entityName, duration);
-            });
+        return Uni.createFrom().deferred(() -> {
+            long start = System.nanoTime();
+
+            return uniOperation
+                .onItem().invoke(result -> {
+                    long durationNanos = System.nanoTime() - start;
+                    long duration = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+
+                    DatabaseMetrics.record(operation, entityName, true, durationNanos);
+
+                    // Always log performance metrics
+                    LoggingHelper logger = Arc.container().instance(LoggingHelper.class).get();
+                    logger.logPerf("DB:" + operation + ":" + entityName, duration, duration > SLOW_THRESHOLD_MS);
+
+                    if (duration > SLOW_THRESHOLD_MS) {
+                        Log.warnf("🐌 Slow DB operation: %s %s took %dms (sent to Kafka)", 
+                            operation, entityName, duration);
+                    } else {
+                        Log.debugf("⚡ DB operation: %s %s took %dms (sent to Kafka)", 
+                            operation, entityName, duration);
+                    }
+                })
+                .onFailure().invoke(error -> {
+                    long durationNanos = System.nanoTime() - start;
+                    DatabaseMetrics.record(operation, entityName, false, durationNanos);
+
+                    LoggingHelper logger = Arc.container().instance(LoggingHelper.class).get();
+                    
+                    // Log database errors
+                    logger.logError(error, null, null);
+                    Log.errorf(error, "❌ DB operation failed: %s %s after %dms", 
+                        operation, entityName, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+                });
+        });
     }
     
     /**
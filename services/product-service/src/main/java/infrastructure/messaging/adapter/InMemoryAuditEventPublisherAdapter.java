@@ -0,0 +1,41 @@
+package infrastructure.messaging.adapter;
+
+import application.port.outbound.AuditEventPublisherPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import share.dto.AuditEvent;
+
+/**
+ * Audit events encoded like the Kafka adapter does, then dropped (loadtest profile)
+ * Keeps the serialization cost in the measurement without an outbox or broker.
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemoryAuditEventPublisherAdapter implements AuditEventPublisherPort {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Override
+    public Uni<Void> publishCrudEvent(AuditEvent event) {
+        encode(event);
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public void publishErrorEvent(AuditEvent event) {
+        encode(event);
+    }
+
+    private void encode(AuditEvent event) {
+        try {
+            objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            Log.errorf(e, "Failed to serialize audit event for %s %s", event.entityType, event.rowId);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package infrastructure.messaging.adapter;
+
+import application.dto.CategorySummary;
+import application.port.outbound.CategoryLookupPort;
+import io.quarkus.arc.profile.IfBuildProfile;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fixed set of active categories with ids 1..n instead of the replica of the category feed (loadtest profile)
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemoryCategoryLookupAdapter implements CategoryLookupPort {
+
+    @ConfigProperty(name = "honeybee.loadtest.seed.categories", defaultValue = "20")
+    int categories;
+
+    private final Map<Long, CategorySummary> byId = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (long id = 1; id <= categories; id++) {
+            CategorySummary category = new CategorySummary();
+            category.id = id;
+            category.number = String.format("CAT-%08d", id);
+            category.name = "Category " + id;
+            category.slug = "category-" + id;
+            category.active = true;
+            byId.put(id, category);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public CategorySummary findById(Long categoryId) {
+        return categoryId == null ? null : byId.get(categoryId);
+    }
+}
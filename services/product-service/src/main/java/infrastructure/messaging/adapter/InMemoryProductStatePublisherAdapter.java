@@ -0,0 +1,25 @@
+package infrastructure.messaging.adapter;
+
+import application.port.outbound.ProductStatePublisherPort;
+import domain.entity.Product;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * No state feed in the loadtest profile: the single instance projects its own writes after commit
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemoryProductStatePublisherAdapter implements ProductStatePublisherPort {
+
+    @Override
+    public Uni<Void> publishUpsert(Product product) {
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public Uni<Void> publishDelete(Product product) {
+        return Uni.createFrom().voidItem();
+    }
+}
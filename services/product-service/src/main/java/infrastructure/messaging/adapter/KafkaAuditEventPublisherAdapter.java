@@ -5,25 +5,28 @@ import application.port.outbound.AuditEventPublisherPort;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.quarkus.logging.Log;
-import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import infrastructure.context.RequestContext;
+import infrastructure.messaging.EventSpill;
+import infrastructure.messaging.OutboxWriter;
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
-import org.eclipse.microprofile.reactive.messaging.Message;
+import org.jboss.logging.Logger;
 
 /**
  * Kafka adapter for publishing audit events
  * Enhanced for POS pharmaceutical system with validation and error handling
  */
 @ApplicationScoped
+@UnlessBuildProfile("loadtest")
 public class KafkaAuditEventPublisherAdapter implements AuditEventPublisherPort {
 
-    @Inject
-    @Channel("audit-crud")
-    Emitter<String> crudEmitter;
+    private static final Logger LOG = Logger.getLogger(KafkaAuditEventPublisherAdapter.class);
 
     @Inject
     @Channel("audit-error")
@@ -31,6 +34,15 @@ public class KafkaAuditEventPublisherAdapter implements AuditEventPublisherPort
 
     @Inject
     ObjectMapper objectMapper;
+
+    @Inject
+    OutboxWriter outboxWriter;
+
+    @Inject
+    EventSpill spill;
+
+    @ConfigProperty(name = "honeybee.audit.crud-topic", defaultValue = "audit.crud")
+    String crudTopic;
     
     @PostConstruct
     void init() {
@@ -40,30 +52,27 @@ public class KafkaAuditEventPublisherAdapter implements AuditEventPublisherPort
     }
 
     @Override
-    public void publishCrudEvent(AuditEvent event) {
+    public Uni<Void> publishCrudEvent(AuditEvent event) {
         if (!validateAuditEvent(event)) {
-            Log.errorf("Invalid audit event, skipping publish: action=%s, entity=%s", 
+            LOG.errorf("Invalid audit event, skipping publish: action=%s, entity=%s", 
                 event.action, event.entityType);
-            return;
+            return Uni.createFrom().voidItem();
         }
         
+        String json;
         try {
-            String json = objectMapper.writeValueAsString(event);
-            String key = buildKafkaKey(event);
-            
-            crudEmitter.send(Message.of(json)
-                .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
-                    .withKey(key)
-                    .build()));
-            
-            Log.infof("✅ Successfully sent CRUD audit [%s]: action=%s, entity=%s, rowId=%s, user=%s",
-                event.correlationId, event.action, event.entityType, event.rowId, 
-                event.username);
-            
+            json = objectMapper.writeValueAsString(event);
         } catch (Exception e) {
-            Log.errorf(e, "Failed to serialize/publish CRUD audit event for %s %s", 
+            LOG.errorf(e, "Failed to serialize CRUD audit event for %s %s", 
                 event.entityType, event.rowId);
+            return Uni.createFrom().voidItem();
         }
+
+        // Outbox row commits with the business change; OutboxRelay publishes it to Kafka
+        return outboxWriter.enqueue(crudTopic, buildKafkaKey(event), json)
+            .onItem().invoke(() -> LOG.debugf("Queued CRUD audit [%s] in outbox: action=%s, entity=%s, rowId=%s, user=%s",
+                event.correlationId, event.action, event.entityType, event.rowId, 
+                event.username));
     }
 
     @Override
@@ -72,16 +81,15 @@ public class KafkaAuditEventPublisherAdapter implements AuditEventPublisherPort
             String json = objectMapper.writeValueAsString(event);
             String key = event.correlationId != null ? event.correlationId : "error-" + System.currentTimeMillis();
             
-            errorEmitter.send(Message.of(json)
-                .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
-                    .withKey(key)
-                    .build()));
+            // Spilled to disk rather than lost while Kafka is unavailable
+            spill.wrap("audit-error", errorEmitter)
+                .send(key, RequestContext.current().requestId, event.correlationId, json);
             
-            Log.infof("Successfully sent ERROR audit [%s]: action=%s, error=%s, terminal=%s",
+            LOG.infof("Queued ERROR audit [%s]: action=%s, error=%s, terminal=%s",
                 event.correlationId, event.action, event.errorMessage, event.terminalId);
             
         } catch (Exception e) {
-            Log.errorf(e, "Critical: Failed to serialize/publish ERROR audit event");
+            LOG.errorf(e, "Critical: Failed to serialize ERROR audit event");
         }
     }
     
@@ -91,31 +99,31 @@ public class KafkaAuditEventPublisherAdapter implements AuditEventPublisherPort
      */
     private boolean validateAuditEvent(AuditEvent event) {
         if (event == null) {
-            Log.error("Audit event is null");
+            LOG.error("Audit event is null");
             return false;
         }
         
         if (event.action == null || event.action.isBlank()) {
-            Log.errorf("Audit event missing action: entity=%s", event.entityType);
+            LOG.errorf("Audit event missing action: entity=%s", event.entityType);
             return false;
         }
         
         if (event.entityType == null || event.entityType.isBlank()) {
-            Log.error("Audit event missing entityType");
+            LOG.error("Audit event missing entityType");
             return false;
         }
         
         if (event.serviceName == null || event.serviceName.isBlank()) {
-            Log.errorf("Audit event missing serviceName: entity=%s", event.entityType);
+            LOG.errorf("Audit event missing serviceName: entity=%s", event.entityType);
             return false;
         }
         
         if (event.correlationId == null || event.correlationId.isBlank()) {
-            Log.warnf("Audit event missing correlationId: %s %s", event.entityType, event.rowId);
+            LOG.warnf("Audit event missing correlationId: %s %s", event.entityType, event.rowId);
         }
         
         if (event.timestamp == null) {
-            Log.warnf("Audit event missing timestamp: %s %s", event.entityType, event.rowId);
+            LOG.warnf("Audit event missing timestamp: %s %s", event.entityType, event.rowId);
         }
         
         return true;
@@ -0,0 +1,121 @@
+package infrastructure.messaging.adapter;
+
+import application.dto.CategoryChanged;
+import application.dto.CategorySummary;
+import application.port.outbound.CategoryLookupPort;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import infrastructure.messaging.TopicCatchUp;
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import share.dto.EntityStateEvent;
+import share.enums.StateChangeType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local category replica fed by the compacted category state topic
+ * Every instance reads the whole topic from the beginning (own consumer group) and keeps the
+ * latest version per category. It reports ready once it has read up to the end offsets the topic
+ * had at startup.
+ */
+@ApplicationScoped
+@UnlessBuildProfile("loadtest")
+public class KafkaCategoryReplicaAdapter implements CategoryLookupPort {
+
+    private static final TypeReference<EntityStateEvent<CategorySummary>> EVENT_TYPE = new TypeReference<>() {
+    };
+
+    private record Entry(long version, CategorySummary category) {
+    }
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Event<CategoryChanged> categoryChanged;
+
+    @ConfigProperty(name = "honeybee.state-feed.category-topic", defaultValue = "category.state")
+    String topic;
+
+    @ConfigProperty(name = "mp.messaging.connector.smallrye-kafka.bootstrap.servers", defaultValue = "localhost:9092")
+    String bootstrapServers;
+
+    // By Number (the topic key); DELETE events carry no state, so this is where the id comes from
+    private final Map<String, Entry> byNumber = new ConcurrentHashMap<>();
+    private final Map<Long, CategorySummary> byId = new ConcurrentHashMap<>();
+
+    private volatile TopicCatchUp catchUp;
+
+    void onStart(@Observes StartupEvent event) {
+        TopicCatchUp tracker = new TopicCatchUp(topic, bootstrapServers);
+        catchUp = tracker;
+        tracker.fetchEndOffsets();
+        if (tracker.isCaughtUp()) {
+            Log.infof("📚 Category replica ready: %d categories", byId.size());
+        }
+    }
+
+    @Incoming("category-state-in")
+    void onCategoryState(ConsumerRecord<String, String> record) {
+        try {
+            apply(objectMapper.readValue(record.value(), EVENT_TYPE));
+        } catch (Exception e) {
+            Log.warnf(e, "Ignoring malformed category state event at %s-%d@%d", record.topic(), record.partition(), record.offset());
+        }
+        TopicCatchUp tracker = catchUp;
+        if (tracker != null && !tracker.isCaughtUp()) {
+            tracker.consumed(record.partition(), record.offset());
+            if (tracker.isCaughtUp()) {
+                Log.infof("📚 Category replica ready: %d categories", byId.size());
+            }
+        }
+    }
+
+    private void apply(EntityStateEvent<CategorySummary> event) {
+        long version = event.version != null ? event.version : 0;
+        Long[] changedIds = new Long[2];
+        byNumber.compute(event.number, (number, current) -> {
+            if (current != null && current.version() > version) {
+                return current; // redelivered or out-of-order older state
+            }
+            if (current != null && current.category() != null) {
+                byId.remove(current.category().id);
+                changedIds[0] = current.category().id;
+            }
+            CategorySummary category = event.changeType == StateChangeType.DELETE ? null : event.state;
+            if (category != null && category.id != null) {
+                byId.put(category.id, category);
+                changedIds[1] = category.id;
+            }
+            return new Entry(version, category);
+        });
+        // Outside compute(): observers read the replica
+        if (changedIds[0] != null) {
+            categoryChanged.fire(new CategoryChanged(changedIds[0]));
+        }
+        if (changedIds[1] != null && !changedIds[1].equals(changedIds[0])) {
+            categoryChanged.fire(new CategoryChanged(changedIds[1]));
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        TopicCatchUp tracker = catchUp;
+        return tracker != null && tracker.isCaughtUp();
+    }
+
+    @Override
+    public CategorySummary findById(Long categoryId) {
+        return categoryId == null ? null : byId.get(categoryId);
+    }
+}
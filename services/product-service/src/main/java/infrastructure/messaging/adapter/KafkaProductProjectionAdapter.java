@@ -0,0 +1,79 @@
+package infrastructure.messaging.adapter;
+
+import application.dto.GetProduct;
+import application.service.ProductProjection;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import infrastructure.messaging.TopicCatchUp;
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import share.dto.EntityStateEvent;
+import share.enums.StateChangeType;
+
+/**
+ * Feeds the product read model from the compacted product state topic
+ * Every instance reads the whole topic from the beginning (own consumer group); the read model
+ * starts serving once the topic has been read up to its end offsets at startup.
+ */
+@ApplicationScoped
+@UnlessBuildProfile("loadtest")
+public class KafkaProductProjectionAdapter {
+
+    private static final TypeReference<EntityStateEvent<GetProduct>> EVENT_TYPE = new TypeReference<>() {
+    };
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    ProductProjection projection;
+
+    @ConfigProperty(name = "honeybee.state-feed.product-topic", defaultValue = "product.state")
+    String topic;
+
+    @ConfigProperty(name = "mp.messaging.connector.smallrye-kafka.bootstrap.servers", defaultValue = "localhost:9092")
+    String bootstrapServers;
+
+    private volatile TopicCatchUp catchUp;
+
+    void onStart(@Observes StartupEvent event) {
+        TopicCatchUp tracker = new TopicCatchUp(topic, bootstrapServers);
+        catchUp = tracker;
+        tracker.fetchEndOffsets();
+        markReadyIfCaughtUp(tracker);
+    }
+
+    @Incoming("product-state-in")
+    void onProductState(ConsumerRecord<String, String> record) {
+        try {
+            EntityStateEvent<GetProduct> event = objectMapper.readValue(record.value(), EVENT_TYPE);
+            long version = event.version != null ? event.version : 0;
+            if (event.changeType == StateChangeType.DELETE || event.state == null) {
+                projection.delete(event.number, version);
+            } else {
+                projection.upsert(event.state, version);
+            }
+        } catch (Exception e) {
+            Log.warnf(e, "Ignoring malformed product state event at %s-%d@%d", record.topic(), record.partition(), record.offset());
+        }
+        TopicCatchUp tracker = catchUp;
+        if (tracker != null && !projection.isReady()) {
+            tracker.consumed(record.partition(), record.offset());
+            markReadyIfCaughtUp(tracker);
+        }
+    }
+
+    private void markReadyIfCaughtUp(TopicCatchUp tracker) {
+        if (tracker.isCaughtUp() && !projection.isReady()) {
+            projection.markReady();
+            Log.info("📗 Product read model ready");
+        }
+    }
+}
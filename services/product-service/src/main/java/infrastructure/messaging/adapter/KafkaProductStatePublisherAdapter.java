@@ -0,0 +1,75 @@
+package infrastructure.messaging.adapter;
+
+import application.dto.GetProduct;
+import application.mapper.ProductMapper;
+import application.port.outbound.ProductStatePublisherPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.entity.Product;
+import infrastructure.context.RequestContext;
+import infrastructure.messaging.OutboxWriter;
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import share.dto.EntityStateEvent;
+import share.enums.StateChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka adapter for the product state feed
+ * Goes through the outbox, so a state event exists if and only if the change committed
+ */
+@ApplicationScoped
+@UnlessBuildProfile("loadtest")
+public class KafkaProductStatePublisherAdapter implements ProductStatePublisherPort {
+
+    private static final String ENTITY_TYPE = "Product";
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    OutboxWriter outboxWriter;
+
+    @Inject
+    ProductMapper productMapper;
+
+    @ConfigProperty(name = "honeybee.state-feed.product-topic", defaultValue = "product.state")
+    String topic;
+
+    @Override
+    public Uni<Void> publishUpsert(Product product) {
+        return publish(product, product.rowVersion, StateChangeType.UPSERT, productMapper.toResponse(product));
+    }
+
+    @Override
+    public Uni<Void> publishDelete(Product product) {
+        // Hard delete: one past the last state so the delete wins the per-key version comparison
+        long version = product.rowVersion != null ? product.rowVersion + 1 : 0L;
+        return publish(product, version, StateChangeType.DELETE, null);
+    }
+
+    private Uni<Void> publish(Product product, Long version, StateChangeType changeType, GetProduct state) {
+        EntityStateEvent<GetProduct> event = new EntityStateEvent<>();
+        event.entityType = ENTITY_TYPE;
+        event.number = product.Number;
+        event.version = version;
+        event.changeType = changeType;
+        event.serviceName = "product-service";
+        event.correlationId = RequestContext.correlationId();
+        event.occurredAt = LocalDateTime.now();
+        event.state = state;
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            // Unlike audit, a lost state event leaves consumers' views wrong: fail the change
+            return Uni.createFrom().failure(e);
+        }
+        // Keyed by Number so compaction keeps the latest state per product
+        return outboxWriter.enqueue(topic, product.Number, json);
+    }
+}
@@ -0,0 +1,69 @@
+package infrastructure.persistence;
+
+import application.mapper.ProductMapper;
+import application.port.outbound.ProductRepository;
+import application.service.ProductProjection;
+import domain.entity.Product;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+
+/**
+ * Fills the in-memory repository at startup and loads the read model from it, the part the
+ * product state feed plays in production (loadtest profile)
+ * Numbers come from the NumberAllocator, so they run PRD-00000001..n and later creates continue after them.
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemoryCatalogSeed {
+
+    @Inject
+    ProductRepository productRepository;
+
+    @Inject
+    ProductProjection projection;
+
+    @Inject
+    ProductMapper productMapper;
+
+    @Inject
+    NumberAllocator numberAllocator;
+
+    @ConfigProperty(name = "honeybee.loadtest.seed.products", defaultValue = "10000")
+    int products;
+
+    @ConfigProperty(name = "honeybee.loadtest.seed.categories", defaultValue = "20")
+    int categories;
+
+    void onStart(@Observes StartupEvent event) {
+        Multi.createFrom().range(0, products)
+                .onItem().transformToUniAndConcatenate(i -> numberAllocator.next("PRD")
+                        .chain(number -> productRepository.save(product(i, number))))
+                .onItem().invoke(product -> projection.upsert(productMapper.toResponse(product), product.rowVersion))
+                .collect().last()
+                .subscribe().with(
+                        ignored -> {
+                            projection.markReady();
+                            Log.infof("📗 Load-test catalog ready: %d products in %d categories", products, categories);
+                        },
+                        ex -> Log.errorf(ex, "Failed to seed the load-test catalog: %s", ex.getMessage()));
+    }
+
+    private Product product(int i, String number) {
+        Product product = new Product();
+        product.Number = number;
+        product.name = "Product " + (i + 1);
+        product.description = "Load-test product " + (i + 1);
+        product.price = BigDecimal.valueOf(1_000 + (i * 7_919L) % 500_000, 2);
+        product.stock = i % 10 == 0 ? 0 : i % 500;
+        product.categoryId = (long) (i % categories) + 1;
+        return product;
+    }
+}
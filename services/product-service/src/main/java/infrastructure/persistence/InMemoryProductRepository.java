@@ -0,0 +1,155 @@
+package infrastructure.persistence;
+
+import application.dto.ProductQuery;
+import application.port.outbound.ProductRepository;
+import domain.entity.Product;
+import infrastructure.loadtest.InMemoryChangeLog;
+import io.quarkus.arc.profile.IfBuildProfile;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import share.sync.Change;
+import share.sync.ChangeCursor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Products in a map instead of PostgreSQL (loadtest profile)
+ * Stores and hands out copies, like rows loaded by separate sessions; findByIdCached returns the
+ * stored instance, as the entity cache does. Same ordering and keyset rules as ProductRepositoryImpl.
+ */
+@ApplicationScoped
+@IfBuildProfile("loadtest")
+public class InMemoryProductRepository implements ProductRepository {
+
+    private static final Comparator<Product> BY_PRICE =
+            Comparator.comparing((Product product) -> product.price).thenComparing(product -> product.Number);
+
+    private final Map<String, Product> rows = new ConcurrentSkipListMap<>();
+    private final AtomicInteger rowIds = new AtomicInteger();
+    private final InMemoryChangeLog changes = new InMemoryChangeLog();
+
+    @Override
+    public Uni<Product> save(Product product) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (this) {
+            if (product.RowId == null) {
+                product.RowId = rowIds.incrementAndGet();
+                product.createdAt = now;
+            }
+            product.lastModifiedAt = now;
+            product.rowVersion = product.rowVersion == null ? 0L : product.rowVersion + 1;
+            rows.put(product.Number, copy(product));
+            changes.record(product.Number, product.isDeleted());
+        }
+        return Uni.createFrom().item(product);
+    }
+
+    @Override
+    public Uni<Product> findById(String id) {
+        Product product = rows.get(id);
+        return Uni.createFrom().item(product != null ? copy(product) : null);
+    }
+
+    @Override
+    public Uni<Product> findByIdCached(String id) {
+        return Uni.createFrom().item(rows.get(id));
+    }
+
+    @Override
+    public Uni<List<Product>> findByNumbers(Collection<String> numbers) {
+        return Uni.createFrom().item(numbers.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(InMemoryProductRepository::copy)
+                .toList());
+    }
+
+    @Override
+    public Uni<List<Product>> findPage(ProductQuery query, int limit) {
+        Stream<Product> candidates = switch (query.sort) {
+            case PRICE -> rows.values().stream()
+                    .filter(product -> query.afterNumber == null || BY_PRICE.compare(product, after(query)) > 0)
+                    .sorted(BY_PRICE);
+            case PRICE_DESC -> rows.values().stream()
+                    .filter(product -> query.afterNumber == null || BY_PRICE.compare(product, after(query)) < 0)
+                    .sorted(BY_PRICE.reversed());
+            default -> rows.values().stream()
+                    .filter(product -> query.afterNumber == null || product.Number.compareTo(query.afterNumber) > 0);
+        };
+        return Uni.createFrom().item(candidates
+                .filter(product -> matches(product, query))
+                .limit(limit)
+                .map(InMemoryProductRepository::copy)
+                .toList());
+    }
+
+    @Override
+    public Uni<Long> changeWatermark() {
+        return Uni.createFrom().item(changes.watermark());
+    }
+
+    @Override
+    public Uni<List<Change>> findChanges(ChangeCursor from, long watermark, int limit) {
+        return Uni.createFrom().item(changes.changes(from, watermark, limit));
+    }
+
+    @Override
+    public Uni<Void> flush() {
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public Uni<Void> delete(Product product) {
+        synchronized (this) {
+            rows.remove(product.Number);
+            changes.record(product.Number, true);
+        }
+        return Uni.createFrom().voidItem();
+    }
+
+    private static Product after(ProductQuery query) {
+        Product position = new Product();
+        position.price = query.afterPrice;
+        position.Number = query.afterNumber;
+        return position;
+    }
+
+    private static boolean matches(Product product, ProductQuery query) {
+        return (query.categoryId == null || query.categoryId.equals(product.categoryId))
+                && (query.minPrice == null || product.price.compareTo(query.minPrice) >= 0)
+                && (query.maxPrice == null || product.price.compareTo(query.maxPrice) <= 0)
+                && (query.active == null || query.active == product.active)
+                && (query.inStock == null || query.inStock == (product.stock != null && product.stock > 0));
+    }
+
+    private static Product copy(Product source) {
+        Product product = new Product();
+        product.RowId = source.RowId;
+        product.Number = source.Number;
+        product.name = source.name;
+        product.description = source.description;
+        product.price = source.price;
+        product.stock = source.stock;
+        product.categoryId = source.categoryId;
+        product.active = source.active;
+        product.createdAt = source.createdAt;
+        product.createdBy = source.createdBy;
+        product.lastModifiedAt = source.lastModifiedAt;
+        product.lastModifiedBy = source.lastModifiedBy;
+        product.lockedAt = source.lockedAt;
+        product.lockedBy = source.lockedBy;
+        product.deletedAt = source.deletedAt;
+        product.deletedBy = source.deletedBy;
+        product.rowVersion = source.rowVersion;
+        product.modificationStatus = source.modificationStatus;
+        return product;
+    }
+}
@@ -1,19 +1,114 @@
 package infrastructure.persistence;
 
+import application.dto.ProductQuery;
 import application.port.outbound.ProductRepository;
 import domain.entity.Product;
+import infrastructure.cache.EntityCache;
+import infrastructure.cache.EntityCaches;
+import infrastructure.cache.SingleFlight;
+import infrastructure.context.BackgroundContexts;
+import io.quarkus.arc.profile.UnlessBuildProfile;
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import share.sync.Change;
+import share.sync.ChangeCursor;
 
+import java.util.ArrayList;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
+@UnlessBuildProfile("loadtest")
 public class ProductRepositoryImpl implements ProductRepository {
 
+    private static final String TABLE = "products";
+    private static final EntityRows<Product> ROWS = EntityRows.of(Product.class);
+
+    // One index per listing shape: filter columns first, then the keyset sort columns
+    private static final List<String> LISTING_INDEXES_SQL = List.of(
+            "create index if not exists idx_products_category_number on products (category_id, number)",
+            "create index if not exists idx_products_price_number on products (price, number)",
+            "create index if not exists idx_products_category_price_number on products (category_id, price, number)",
+            "create index if not exists idx_products_available_number on products (number) where active and stock > 0");
+
+    @Inject
+    EntityCaches entityCaches;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    ChangeTracking changeTracking;
+
+    @Inject
+    ReadReplica reads;
+
+    @ConfigProperty(name = "honeybee.batch-loader.window", defaultValue = "0ms")
+    Duration batchWindow;
+
+    @ConfigProperty(name = "honeybee.batch-loader.max-size", defaultValue = "500")
+    int maxBatchSize;
+
+    @ConfigProperty(name = "honeybee.single-flight.timeout", defaultValue = "5s")
+    Duration singleFlightTimeout;
+
+    private EntityCache<Product> cache;
+    // Concurrent misses for the same number (from any event loop) wait on one load
+    private SingleFlight<String, Product> singleFlight;
+    // Concurrent cache misses on one event loop share a single "Number in (...)" query
+    private BatchLoader<String, Product> batchLoader;
+    // Same, for misses of requests that may read from the replica
+    private BatchLoader<String, Product> replicaBatchLoader;
+
+    @PostConstruct
+    void init() {
+        cache = entityCaches.forType(Product.class);
+        singleFlight = new SingleFlight<>("product", singleFlightTimeout);
+        batchLoader = new BatchLoader<>("product", vertx, batchWindow, maxBatchSize,
+                numbers -> Panache.withSession(() -> findByNumbers(numbers))
+                        .onItem().transform(found -> found.stream()
+                                .collect(Collectors.toMap(entity -> entity.Number, Function.identity()))));
+        replicaBatchLoader = new BatchLoader<>("product-replica", vertx, batchWindow, maxBatchSize,
+                numbers -> reads.onReplica(client -> client.preparedQuery(ROWS.select("where number = any($1)"))
+                                .execute(Tuple.of(numbers.toArray(String[]::new)))
+                                .onItem().transform(ROWS::mapAll))
+                        .onItem().transform(found -> found.stream()
+                                .collect(Collectors.toMap(entity -> entity.Number, Function.identity()))));
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        BackgroundContexts.run(vertx, () -> prepareIndexes().chain(() -> changeTracking.install(TABLE)))
+                .subscribe().with(ignored -> { },
+                        ex -> Log.errorf(ex, "Failed to prepare products table: %s", ex.getMessage()));
+    }
+
+    private Uni<Void> prepareIndexes() {
+        return Panache.withTransaction(() -> Panache.getSession()
+                .chain(session -> Multi.createFrom().iterable(LISTING_INDEXES_SQL)
+                        .onItem().transformToUniAndConcatenate(sql -> session.createNativeQuery(sql).executeUpdate())
+                        .collect().last()))
+                .replaceWithVoid();
+    }
+
     @Override
     @WithSession
     public Uni<Product> save(Product product) {
+        // Fence before persisting: persist() seeds the version of a new row
+        entityCaches.changed(product);
         return product.persist().replaceWith(product);
     }
 
@@ -23,15 +118,98 @@ public class ProductRepositoryImpl implements ProductRepository {
         return Product.findById(id);
     }
 
+    @Override
+    public Uni<Product> findByIdCached(String id) {
+        // Session is only opened on a miss; the route is decided here, where the request's consistency token is
+        return cache.get(id, () -> reads.useReplica()
+                .chain(replica -> replica
+                        ? singleFlight.execute("replica:" + id, () -> replicaBatchLoader.load(id))
+                        : singleFlight.execute(id, () -> batchLoader.load(id))));
+    }
+
+    @Override
+    @WithSession
+    public Uni<List<Product>> findByNumbers(Collection<String> numbers) {
+        if (numbers.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return Product.list("Number in ?1", numbers);
+    }
+
+    @Override
+    public Uni<List<Product>> findPage(ProductQuery query, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (query.categoryId != null) {
+            conditions.add("category_id = " + bind(params, query.categoryId));
+        }
+        if (query.minPrice != null) {
+            conditions.add("price >= " + bind(params, query.minPrice));
+        }
+        if (query.maxPrice != null) {
+            conditions.add("price <= " + bind(params, query.maxPrice));
+        }
+        if (query.active != null) {
+            conditions.add("active = " + bind(params, query.active));
+        }
+        if (query.inStock != null) {
+            conditions.add(query.inStock ? "stock > 0" : "stock <= 0");
+        }
+
+        // Row-value comparison against the last row seen, so each page is an index range scan
+        String orderBy;
+        switch (query.sort) {
+            case PRICE -> {
+                orderBy = "price, number";
+                if (query.afterNumber != null) {
+                    conditions.add("(price, number) > (" + bind(params, query.afterPrice) + ", "
+                            + bind(params, query.afterNumber) + ")");
+                }
+            }
+            case PRICE_DESC -> {
+                orderBy = "price desc, number desc";
+                if (query.afterNumber != null) {
+                    conditions.add("(price, number) < (" + bind(params, query.afterPrice) + ", "
+                            + bind(params, query.afterNumber) + ")");
+                }
+            }
+            default -> {
+                orderBy = "number";
+                if (query.afterNumber != null) {
+                    conditions.add("number > " + bind(params, query.afterNumber));
+                }
+            }
+        }
+
+        String where = conditions.isEmpty() ? "" : "where " + String.join(" and ", conditions) + " ";
+        return reads.list(ROWS, where + "order by " + orderBy + " limit " + bind(params, limit), params.toArray());
+    }
+
+    private static String bind(List<Object> params, Object value) {
+        params.add(value);
+        return "$" + params.size();
+    }
+
+    @Override
+    public Uni<Long> changeWatermark() {
+        return changeTracking.watermark();
+    }
+
+    @Override
+    public Uni<List<Change>> findChanges(ChangeCursor from, long watermark, int limit) {
+        return changeTracking.changes(TABLE, from, watermark, limit);
+    }
+
     @Override
     @WithSession
-    public Uni<List<Product>> findAll() {
-        return Product.listAll();
+    public Uni<Void> flush() {
+        return Panache.flush();
     }
 
     @Override
     @WithSession
     public Uni<Void> delete(Product product) {
-        return product.delete().replaceWithVoid();
+        return product.delete()
+                .invoke(() -> entityCaches.deleted(product));
     }
 }
@@ -0,0 +1,216 @@
+package presentation.rest;
+
+import application.service.CatalogSnapshot;
+import application.service.CatalogSnapshotCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import infrastructure.admission.AdaptiveLimiter;
+import infrastructure.admission.AdmissionLimiters;
+import infrastructure.admission.AdmissionPriority;
+import infrastructure.admission.RateLimiter;
+import infrastructure.context.RequestContext;
+import infrastructure.context.RequestMetadata;
+import infrastructure.logging.AccessLogFilter;
+import infrastructure.web.RequestContextFilter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import share.ApiResponse;
+
+/**
+ * GET /api/catalog/snapshot: the full catalog as pre-built bytes, then delta-sync from X-Catalog-Since
+ * Served as a plain Vert.x route so the shared buffers go to the socket without a copy;
+ * supports conditional requests (ETag / If-None-Match) and resumable downloads (single Range).
+ * The JAX-RS filters don't see it, so it applies the rate limit, admission control and access log itself.
+ */
+@ApplicationScoped
+public class CatalogSnapshotRoute {
+
+    static final String PATH = "/api/catalog/snapshot";
+    static final String SINCE_HEADER = "X-Catalog-Since";
+    static final String LIMITER = "CatalogSnapshotRoute";
+
+    @Inject
+    CatalogSnapshotCache snapshots;
+
+    @Inject
+    RateLimiter rateLimiter;
+
+    @Inject
+    AdmissionLimiters limiters;
+
+    @Inject
+    AccessLogFilter accessLog;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    void register(@Observes Router router) {
+        router.get(PATH).handler(this::serve);
+    }
+
+    private void serve(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        HttpServerResponse response = ctx.response();
+        RequestMetadata caller = RequestContextFilter.metadataOf(request);
+        accessLog.track(ctx, PATH, caller);
+        response.putHeader(RequestContext.REQUEST_ID_HEADER, caller.requestId)
+                .putHeader(RequestContext.CORRELATION_ID_HEADER, caller.correlationId);
+        if (!admit(ctx, caller)) {
+            return;
+        }
+
+        CatalogSnapshot snapshot = snapshots.current();
+        if (snapshot == null) {
+            response.setStatusCode(503).putHeader(HttpHeaders.RETRY_AFTER, "5").end();
+            return;
+        }
+
+        boolean gzipped = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = snapshot.etag(gzipped);
+        response.putHeader(HttpHeaders.ETAG, etag)
+                .putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .putHeader(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .putHeader(HttpHeaders.ACCEPT_RANGES, "bytes")
+                // Not part of the body, so an unchanged catalog keeps its bytes and ETag
+                .putHeader(SINCE_HEADER, Long.toString(snapshot.since));
+
+        if (notModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), snapshot)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+
+        response.putHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+        if (gzipped) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        int length = snapshot.length(gzipped);
+        String range = request.getHeader(HttpHeaderNames.RANGE);
+        String ifRange = request.getHeader(HttpHeaderNames.IF_RANGE);
+        if (range == null || (ifRange != null && !ifRange.equals(etag))) {
+            response.end(snapshot.slice(gzipped, 0, length));
+            return;
+        }
+
+        int[] bounds = parseRange(range, length);
+        if (bounds == null) {
+            // Multiple or malformed ranges: ignore the header and send the whole body
+            response.end(snapshot.slice(gzipped, 0, length));
+        } else if (bounds.length == 0) {
+            response.setStatusCode(416).putHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length).end();
+        } else {
+            response.setStatusCode(206)
+                    .putHeader(HttpHeaders.CONTENT_RANGE, "bytes " + bounds[0] + "-" + (bounds[1] - 1) + "/" + length)
+                    .end(snapshot.slice(gzipped, bounds[0], bounds[1]));
+        }
+    }
+
+    /**
+     * Same order as RateLimitFilter and AdmissionFilter: rate limit first, then a slot from the limiter
+     */
+    private boolean admit(RoutingContext ctx, RequestMetadata caller) {
+        if (rateLimiter.enabled()) {
+            String key = rateLimiter.key(ctx.request());
+            long wait = key != null ? rateLimiter.tryAcquire(key) : 0;
+            if (wait > 0) {
+                reject(ctx, 429, RateLimiter.retryAfterSeconds(wait),
+                        ApiResponse.fail("RATE_LIMITED", "Too many requests, retry later", caller.requestId));
+                return false;
+            }
+        }
+        if (limiters.enabled()) {
+            AdaptiveLimiter.Permit permit = limiters.tryAcquire(LIMITER, AdmissionPriority.NORMAL);
+            if (permit == null) {
+                reject(ctx, 503, Math.max(1, limiters.retryAfter().toSeconds()),
+                        ApiResponse.fail("OVERLOADED", "Server is at capacity, retry later", caller.requestId));
+                return false;
+            }
+            ctx.addEndHandler(result -> permit.release(result.failed() || ctx.response().getStatusCode() >= 500));
+        }
+        return true;
+    }
+
+    private void reject(RoutingContext ctx, int status, long retryAfterSeconds, ApiResponse<?> body) {
+        try {
+            ctx.response().setStatusCode(status)
+                    .putHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .end(objectMapper.writeValueAsString(body));
+        } catch (Exception e) {
+            ctx.fail(e);
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.trim().split(";");
+            if (params[0].trim().equalsIgnoreCase("gzip")) {
+                return params.length < 2 || !params[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static boolean notModified(String ifNoneMatch, CatalogSnapshot snapshot) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || snapshot.matches(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Single byte range as [start, end); null to ignore the header, empty if unsatisfiable
+     */
+    static int[] parseRange(String header, int length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix == 0) {
+                    return new int[0];
+                }
+                start = Math.max(0, length - suffix);
+                end = length;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length : Math.min(length, Long.parseLong(last) + 1);
+                if (end <= start) {
+                    return start >= length ? new int[0] : null;
+                }
+            }
+            if (start >= length) {
+                return new int[0];
+            }
+            return new int[]{(int) start, (int) end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -7,16 +7,16 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
+import infrastructure.context.RequestContext;
 import share.ApiResponse;
 
-import java.util.UUID;
 
 @Provider
 public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
 
     @Override
     public Response toResponse(Exception exception) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         ApiResponse<Void> errorResponse;
 
         if (exception instanceof ProductNotFoundException) {
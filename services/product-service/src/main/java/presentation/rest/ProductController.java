@@ -2,6 +2,9 @@ package presentation.rest;
 
 import application.dto.CreateProduct;
 import application.dto.GetProduct;
+import application.dto.ProductChanges;
+import application.dto.ProductPage;
+import application.dto.ProductQuery;
 import application.service.ProductService;
 import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
@@ -10,13 +13,16 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriInfo;
+import infrastructure.context.RequestContext;
+import infrastructure.web.BinaryBodyWriter;
+import infrastructure.web.QueryParams;
 import share.ApiResponse;
 
+import java.math.BigDecimal;
 import java.util.List;
-import java.util.UUID;
 
 @Path("/api/products")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, BinaryBodyWriter.CBOR, BinaryBodyWriter.SMILE})
 @Consumes(MediaType.APPLICATION_JSON)
 public class ProductController {
 
@@ -24,18 +30,70 @@ public class ProductController {
     ProductService productService;
 
     @GET
-    public Uni<ApiResponse<List<GetProduct>>> getAllProducts(@Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
-        return productService.getAllProducts()
-                .onItem().transform(products -> ApiResponse.ok(products, requestId))
-                .onFailure().recoverWithItem(ex -> 
-                        ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId));
+    public Uni<ApiResponse<ProductPage>> listProducts(@QueryParam("ids") List<String> ids,
+                                                      @QueryParam("cursor") String cursor,
+                                                      @QueryParam("limit") Integer limit,
+                                                      @QueryParam("categoryId") Long categoryId,
+                                                      @QueryParam("minPrice") BigDecimal minPrice,
+                                                      @QueryParam("maxPrice") BigDecimal maxPrice,
+                                                      @QueryParam("active") Boolean active,
+                                                      @QueryParam("inStock") Boolean inStock,
+                                                      @QueryParam("sort") @DefaultValue("NUMBER") ProductQuery.Sort sort,
+                                                      @Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        List<String> numbers = QueryParams.splitList(ids);
+        if (!numbers.isEmpty()) {
+            // Multi-get: ?ids=PRD1,PRD2 or ?ids=PRD1&ids=PRD2, one page without a cursor
+            return productService.getProductsByIds(numbers)
+                    .onItem().transform(products -> {
+                        ProductPage page = new ProductPage();
+                        page.items = products;
+                        return ApiResponse.ok(page, requestId);
+                    })
+                    .onFailure().recoverWithItem(ex -> {
+                        if (ex instanceof IllegalArgumentException) {
+                            return ApiResponse.fail("BAD_REQUEST", ex.getMessage(), requestId);
+                        }
+                        return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                    });
+        }
+        ProductQuery query = new ProductQuery();
+        query.categoryId = categoryId;
+        query.minPrice = minPrice;
+        query.maxPrice = maxPrice;
+        query.active = active;
+        query.inStock = inStock;
+        query.sort = sort;
+        return productService.listProducts(query, cursor, limit)
+                .onItem().transform(page -> ApiResponse.ok(page, requestId))
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof IllegalArgumentException) {
+                        return ApiResponse.fail("BAD_REQUEST", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                });
+    }
+
+    @GET
+    @Path("/changes")
+    public Uni<ApiResponse<ProductChanges>> getChanges(@QueryParam("since") String since,
+                                                       @QueryParam("limit") Integer limit,
+                                                       @Context UriInfo uriInfo) {
+        String requestId = RequestContext.requestId();
+        return productService.getChanges(since, limit)
+                .onItem().transform(changes -> ApiResponse.ok(changes, requestId))
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof IllegalArgumentException) {
+                        return ApiResponse.fail("BAD_REQUEST", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("INTERNAL_ERROR", ex.getMessage(), requestId);
+                });
     }
 
     @GET
     @Path("/{id}")
     public Uni<ApiResponse<GetProduct>> getProductById(@PathParam("id") String id, @Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         return productService.getProductById(id)
                 .onItem().transform(product -> ApiResponse.ok(product, requestId))
                 .onFailure().recoverWithItem(ex -> {
@@ -48,23 +106,30 @@ public class ProductController {
 
     @POST
     public Uni<ApiResponse<GetProduct>> createProduct(@Valid CreateProduct request, @Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         return productService.createProduct(request)
                 .onItem().transform(product -> ApiResponse.ok(product, requestId))
-                .onFailure().recoverWithItem(ex -> 
-                        ApiResponse.fail("CREATION_FAILED", ex.getMessage(), requestId));
+                .onFailure().recoverWithItem(ex -> {
+                    if (ex instanceof domain.exception.InvalidCategoryException) {
+                        return ApiResponse.fail("INVALID_CATEGORY", ex.getMessage(), requestId);
+                    }
+                    return ApiResponse.fail("CREATION_FAILED", ex.getMessage(), requestId);
+                });
     }
 
     @PUT
     @Path("/{id}")
     public Uni<ApiResponse<GetProduct>> updateProduct(@PathParam("id") String id, @Valid CreateProduct request, @Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         return productService.updateProduct(id, request)
                 .onItem().transform(product -> ApiResponse.ok(product, requestId))
                 .onFailure().recoverWithItem(ex -> {
                     if (ex instanceof domain.exception.ProductNotFoundException) {
                         return ApiResponse.fail("NOT_FOUND", ex.getMessage(), requestId);
                     }
+                    if (ex instanceof domain.exception.InvalidCategoryException) {
+                        return ApiResponse.fail("INVALID_CATEGORY", ex.getMessage(), requestId);
+                    }
                     return ApiResponse.fail("UPDATE_FAILED", ex.getMessage(), requestId);
                 });
     }
@@ -72,7 +137,7 @@ public class ProductController {
     @DELETE
     @Path("/{id}")
     public Uni<ApiResponse<Void>> deleteProduct(@PathParam("id") String id, @Context UriInfo uriInfo) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = RequestContext.requestId();
         return productService.deleteProduct(id)
                 .onItem().transform(v -> ApiResponse.ok(v, requestId))
                 .onFailure().recoverWithItem(ex -> {
@@ -0,0 +1,171 @@
+package application.service;
+
+import application.dto.CategorySummary;
+import application.dto.GetProduct;
+import application.dto.ProductQuery;
+import application.mapper.ProductMapperImpl;
+import application.port.outbound.CategoryLookupPort;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProductProjectionTest {
+
+    @Test
+    void olderVersionsAreIgnored() {
+        ProductProjection projection = projection(Duration.ofMinutes(10));
+        projection.upsert(product("PRD-1", "10.00", 5, true), 2);
+        projection.upsert(product("PRD-1", "99.00", 5, true), 1);
+
+        assertEquals(new BigDecimal("10.00"), projection.get("PRD-1").price);
+
+        projection.upsert(product("PRD-1", "12.00", 5, true), 2);
+        assertEquals(new BigDecimal("12.00"), projection.get("PRD-1").price);
+    }
+
+    @Test
+    void deleteCommittedHereHoldsOffOlderFeedStates() {
+        ProductProjection projection = projection(Duration.ofMinutes(10));
+        projection.upsert(product("PRD-1", "10.00", 5, true), 3);
+        projection.deleteCommitted("PRD-1", 4);
+
+        // Still in the feed ahead of the delete
+        projection.upsert(product("PRD-1", "10.00", 5, true), 3);
+        assertNull(projection.get("PRD-1"));
+    }
+
+    @Test
+    void feedDeleteLeavesNoTombstone() {
+        ProductProjection projection = projection(Duration.ofMinutes(10));
+        projection.upsert(product("PRD-1", "10.00", 5, true), 3);
+        projection.deleteCommitted("PRD-1", 4);
+        projection.delete("PRD-1", 4);
+
+        // Nothing is kept: a (hypothetical) later state applies
+        projection.upsert(product("PRD-1", "11.00", 5, true), 1);
+        assertNotNull(projection.get("PRD-1"));
+    }
+
+    @Test
+    void tombstonesExpire() {
+        ProductProjection projection = projection(Duration.ZERO);
+        projection.upsert(product("PRD-1", "10.00", 5, true), 3);
+        projection.deleteCommitted("PRD-1", 4);
+
+        // The next write drops the expired tombstone before applying
+        projection.upsert(product("PRD-1", "10.00", 5, true), 3);
+        assertNotNull(projection.get("PRD-1"));
+    }
+
+    @Test
+    void deleteOfAnOlderVersionIsIgnored() {
+        ProductProjection projection = projection(Duration.ofMinutes(10));
+        projection.upsert(product("PRD-1", "10.00", 5, true), 5);
+        projection.delete("PRD-1", 4);
+        projection.deleteCommitted("PRD-1", 4);
+
+        assertNotNull(projection.get("PRD-1"));
+    }
+
+    @Test
+    void pagesByNumberAfterTheKeysetPosition() {
+        ProductProjection projection = catalog();
+        ProductQuery query = new ProductQuery();
+
+        assertEquals(List.of("PRD-01", "PRD-02", "PRD-03"), numbers(projection.page(query, 3, 1000)));
+        query.afterNumber = "PRD-03";
+        assertEquals(List.of("PRD-04", "PRD-05"), numbers(projection.page(query, 2, 1000)));
+    }
+
+    @Test
+    void pagesByPriceWithinTheFilterBothWays() {
+        ProductProjection projection = catalog();
+        ProductQuery query = new ProductQuery();
+        query.sort = ProductQuery.Sort.PRICE;
+        query.minPrice = new BigDecimal("3");
+        query.maxPrice = new BigDecimal("6");
+
+        // Prices are the Number's digits: 3, 4, 5 and 6 are inside, both bounds included
+        assertEquals(List.of("PRD-03", "PRD-04"), numbers(projection.page(query, 2, 1000)));
+        query.afterPrice = new BigDecimal("4");
+        query.afterNumber = "PRD-04";
+        assertEquals(List.of("PRD-05", "PRD-06"), numbers(projection.page(query, 5, 1000)));
+
+        query.sort = ProductQuery.Sort.PRICE_DESC;
+        query.afterPrice = null;
+        query.afterNumber = null;
+        assertEquals(List.of("PRD-06", "PRD-05", "PRD-04", "PRD-03"), numbers(projection.page(query, 10, 1000)));
+    }
+
+    @Test
+    void sparseFilterStopsAtMaxScanWithAPosition() {
+        ProductProjection projection = catalog();
+        ProductQuery query = new ProductQuery();
+        query.inStock = false;
+
+        // Only PRD-10 is out of stock; four candidates are looked at, none matches
+        ProductProjection.Page first = projection.page(query, 5, 4);
+        assertEquals(List.of(), first.items());
+        assertEquals("PRD-04", first.scannedTo().number);
+
+        query.afterNumber = "PRD-08";
+        ProductProjection.Page last = projection.page(query, 5, 4);
+        assertEquals(List.of("PRD-10"), numbers(last));
+        assertNull(last.scannedTo());
+    }
+
+    @Test
+    void fullPageIsNotCutShort() {
+        ProductProjection projection = catalog();
+        ProductProjection.Page page = projection.page(new ProductQuery(), 4, 4);
+
+        assertEquals(4, page.items().size());
+        assertNull(page.scannedTo());
+    }
+
+    private static ProductProjection catalog() {
+        ProductProjection projection = projection(Duration.ofMinutes(10));
+        for (int i = 1; i <= 10; i++) {
+            projection.upsert(product(String.format("PRD-%02d", i), Integer.toString(i), i == 10 ? 0 : 5, true), 1);
+        }
+        return projection;
+    }
+
+    private static ProductProjection projection(Duration tombstoneRetention) {
+        ProductProjection projection = new ProductProjection();
+        projection.productMapper = new ProductMapperImpl();
+        projection.categoryLookup = new CategoryLookupPort() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public CategorySummary findById(Long categoryId) {
+                return null;
+            }
+        };
+        projection.tombstoneRetention = tombstoneRetention;
+        return projection;
+    }
+
+    private static GetProduct product(String number, String price, int stock, boolean active) {
+        GetProduct product = new GetProduct();
+        product.number = number;
+        product.name = number;
+        product.price = new BigDecimal(price);
+        product.stock = stock;
+        product.active = active;
+        return product;
+    }
+
+    private static List<String> numbers(ProductProjection.Page page) {
+        return page.items().stream().map(product -> product.number).toList();
+    }
+}
@@ -0,0 +1,48 @@
+package presentation.rest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CatalogSnapshotRouteTest {
+
+    private static final int LENGTH = 1000;
+
+    @Test
+    void closedRangeIsInclusiveOfItsLastByte() {
+        assertArrayEquals(new int[]{0, 100}, CatalogSnapshotRoute.parseRange("bytes=0-99", LENGTH));
+    }
+
+    @Test
+    void openRangeRunsToTheEnd() {
+        assertArrayEquals(new int[]{500, LENGTH}, CatalogSnapshotRoute.parseRange("bytes=500-", LENGTH));
+    }
+
+    @Test
+    void rangePastTheEndIsClamped() {
+        assertArrayEquals(new int[]{900, LENGTH}, CatalogSnapshotRoute.parseRange("bytes=900-5000", LENGTH));
+    }
+
+    @Test
+    void suffixRangeTakesTheLastBytes() {
+        assertArrayEquals(new int[]{900, LENGTH}, CatalogSnapshotRoute.parseRange("bytes=-100", LENGTH));
+        assertArrayEquals(new int[]{0, LENGTH}, CatalogSnapshotRoute.parseRange("bytes=-5000", LENGTH));
+    }
+
+    @Test
+    void unsatisfiableRangesAreEmpty() {
+        assertArrayEquals(new int[0], CatalogSnapshotRoute.parseRange("bytes=1000-", LENGTH));
+        assertArrayEquals(new int[0], CatalogSnapshotRoute.parseRange("bytes=2000-3000", LENGTH));
+        assertArrayEquals(new int[0], CatalogSnapshotRoute.parseRange("bytes=-0", LENGTH));
+    }
+
+    @Test
+    void malformedOrMultipleRangesAreIgnored() {
+        assertNull(CatalogSnapshotRoute.parseRange("bytes=0-1,5-6", LENGTH));
+        assertNull(CatalogSnapshotRoute.parseRange("items=0-99", LENGTH));
+        assertNull(CatalogSnapshotRoute.parseRange("bytes=100", LENGTH));
+        assertNull(CatalogSnapshotRoute.parseRange("bytes=a-b", LENGTH));
+        assertNull(CatalogSnapshotRoute.parseRange("bytes=50-10", LENGTH));
+    }
+}
@@ -8,4 +8,6 @@ include(":services:category-service")
 include(":services:audit-service")
 include(":saga-orchestration")
 
+include(":benchmarks")
+
 // include(":services:inventory-service")
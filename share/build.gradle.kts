@@ -19,4 +19,10 @@ java {
 dependencies {
     implementation(enforcedPlatform("io.quarkus.platform:quarkus-bom:3.29.4"))
     implementation("jakarta.enterprise:jakarta.enterprise.cdi-api:4.1.0")
+
+    testImplementation("io.quarkus:quarkus-junit5")
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
 }
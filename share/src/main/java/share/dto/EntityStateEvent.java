@@ -0,0 +1,25 @@
+package share.dto;
+
+import share.enums.StateChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Full post-change state of one entity, published to its compacted state topic keyed by Number
+ * Consumers keep the latest event per key; a DELETE carries no state. Compaction keeps the last record
+ * of a key, so the topic is only as right as the order the outbox relay sends in: ids drawn per row and
+ * sent in id order, which is a key's commit order because writers of an entity are serialized by its
+ * version check. A key whose newest row was dead-lettered (outbox.dead.lettered) keeps an older state
+ * until its next change. Consumers also drop a lower version than the one they hold, which only covers
+ * redeliveries to a running consumer, not one bootstrapping from the compacted topic.
+ */
+public class EntityStateEvent<T> {
+    public String entityType;
+    public String number;
+    public Long version;             // rowVersion after the change; per key, higher wins
+    public StateChangeType changeType;
+    public String serviceName;
+    public String correlationId;
+    public LocalDateTime occurredAt;
+    public T state;
+}
@@ -0,0 +1,6 @@
+package share.enums;
+
+public enum StateChangeType {
+    UPSERT,
+    DELETE
+}
@@ -0,0 +1,59 @@
+package share.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered identifier generator (UUIDv7 layout)
+ * Replaces UUID.randomUUID() on hot paths: no SecureRandom, no locks, monotonic per thread
+ *
+ * Layout: 48-bit unix millis | version 7 | 12-bit sequence | variant | 62 random bits
+ */
+public final class IdGenerator {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC4122 = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int MAX_SEQUENCE = 0xFFF;
+    // Seed each new millisecond below this value so the counter has room to grow
+    private static final int SEQUENCE_SEED_BOUND = 0x400;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private IdGenerator() {
+    }
+
+    /**
+     * Next time-ordered UUID for the calling thread
+     */
+    public static UUID nextUuid() {
+        State state = STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long now = System.currentTimeMillis();
+        if (now > state.lastMillis) {
+            state.lastMillis = now;
+            state.sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+        } else if (++state.sequence > MAX_SEQUENCE) {
+            // Sequence exhausted (or clock moved back): borrow the next millisecond
+            state.lastMillis++;
+            state.sequence = 0;
+        }
+
+        long msb = (state.lastMillis << 16) | VERSION_7 | state.sequence;
+        long lsb = (random.nextLong() & RANDOM_MASK) | VARIANT_RFC4122;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Next time-ordered ID in canonical UUID string form
+     */
+    public static String nextId() {
+        return nextUuid().toString();
+    }
+
+    private static final class State {
+        long lastMillis;
+        int sequence;
+    }
+}
@@ -0,0 +1,7 @@
+package share.sync;
+
+/**
+ * One changed entity for delta sync: an upsert, or a delete (hard or soft)
+ */
+public record Change(String number, long version, boolean deleted) {
+}
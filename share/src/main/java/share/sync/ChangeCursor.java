@@ -0,0 +1,36 @@
+package share.sync;
+
+/**
+ * Delta sync position: versions from {@code version} on, skipping Numbers up to {@code afterNumber} at that version
+ * Serialized as "version" or "version:afterNumber" (the nextSince of a changes response)
+ */
+public record ChangeCursor(long version, String afterNumber) {
+
+    public static final ChangeCursor START = new ChangeCursor(0, null);
+
+    public static ChangeCursor parse(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        int colon = token.indexOf(':');
+        try {
+            return colon < 0
+                    ? new ChangeCursor(Long.parseLong(token.trim()), null)
+                    : new ChangeCursor(Long.parseLong(token.substring(0, colon)), token.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid since token: " + token);
+        }
+    }
+
+    /**
+     * Position just past the change, for a response that stops there
+     */
+    public static ChangeCursor after(Change change) {
+        return new ChangeCursor(change.version(), change.number());
+    }
+
+    @Override
+    public String toString() {
+        return afterNumber == null ? Long.toString(version) : version + ":" + afterNumber;
+    }
+}
@@ -0,0 +1,72 @@
+package share.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdGeneratorTest {
+
+    @Test
+    void hasVersion7AndRfc4122Variant() {
+        UUID id = IdGenerator.nextUuid();
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void embedsCurrentUnixMillis() {
+        long before = System.currentTimeMillis();
+        long millis = IdGenerator.nextUuid().getMostSignificantBits() >>> 16;
+        long after = System.currentTimeMillis();
+        // The sequence may borrow a few milliseconds ahead when it runs out
+        assertTrue(millis >= before && millis <= after + 5, "timestamp " + millis + " outside [" + before + ", " + after + "]");
+    }
+
+    @Test
+    void isStrictlyIncreasingOnOneThread() {
+        // Canonical strings compare like the unsigned 128-bit value, i.e. like a uuid column
+        String previous = IdGenerator.nextId();
+        for (int i = 0; i < 200_000; i++) {
+            String next = IdGenerator.nextId();
+            assertTrue(next.compareTo(previous) > 0, next + " does not sort after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void isUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<List<UUID>>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(IdGenerator.nextUuid());
+                    }
+                    return ids;
+                });
+            }
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> result : executor.invokeAll(tasks)) {
+                all.addAll(result.get());
+            }
+            assertEquals(threads * perThread, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
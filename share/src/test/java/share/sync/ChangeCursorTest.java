@@ -0,0 +1,48 @@
+package share.sync;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChangeCursorTest {
+
+    @Test
+    void missingTokenStartsFromTheBeginning() {
+        assertSame(ChangeCursor.START, ChangeCursor.parse(null));
+        assertSame(ChangeCursor.START, ChangeCursor.parse(" "));
+    }
+
+    @Test
+    void versionOnlyTokenRoundTrips() {
+        ChangeCursor cursor = ChangeCursor.parse("42");
+        assertEquals(new ChangeCursor(42, null), cursor);
+        assertEquals("42", cursor.toString());
+    }
+
+    @Test
+    void versionAndNumberTokenRoundTrips() {
+        ChangeCursor cursor = new ChangeCursor(42, "PRD-000017");
+        assertEquals(cursor, ChangeCursor.parse(cursor.toString()));
+        assertEquals("42:PRD-000017", cursor.toString());
+    }
+
+    @Test
+    void numberMaySpanFurtherColons() {
+        ChangeCursor cursor = ChangeCursor.parse("7:A:B");
+        assertEquals(new ChangeCursor(7, "A:B"), cursor);
+        assertEquals("7:A:B", cursor.toString());
+    }
+
+    @Test
+    void invalidTokenIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursor.parse("abc"));
+        assertThrows(IllegalArgumentException.class, () -> ChangeCursor.parse("x:PRD-1"));
+    }
+
+    @Test
+    void afterAChangeResumesPastIt() {
+        assertEquals("9:CAT-3", ChangeCursor.after(new Change("CAT-3", 9, false)).toString());
+    }
+}